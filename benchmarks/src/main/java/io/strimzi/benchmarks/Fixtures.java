@@ -0,0 +1,149 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.Reconciliation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Resources shared by the benchmarks. The Kafka custom resource uses a configuration similar to typical production
+ * clusters so that the generated resources have a realistic size.
+ */
+public class Fixtures {
+    public static final String NAMESPACE = "my-namespace";
+    public static final String NAME = "my-cluster";
+    public static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+
+    /**
+     * Version lookup which uses the Kafka versions supported by this release and fake container images
+     */
+    public static final KafkaVersion.Lookup VERSIONS;
+
+    static {
+        Map<String, String> images = new KafkaVersion.Lookup(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())
+                .supportedVersions()
+                .stream()
+                .collect(Collectors.toMap(Function.identity(), version -> "strimzi/kafka:latest-kafka-" + version));
+
+        VERSIONS = new KafkaVersion.Lookup(images, images, images, images);
+    }
+
+    private Fixtures() { }
+
+    /**
+     * Creates the Kafka custom resource
+     *
+     * @param replicas  Number of Kafka brokers
+     *
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka(int replicas) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("app", "benchmark"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                    .withName("plain")
+                                    .withPort(9092)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(false)
+                                    .build(),
+                                new GenericKafkaListenerBuilder()
+                                    .withName("tls")
+                                    .withPort(9093)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(true)
+                                    .build(),
+                                new GenericKafkaListenerBuilder()
+                                    .withName("external")
+                                    .withPort(9094)
+                                    .withType(KafkaListenerType.NODEPORT)
+                                    .withTls(true)
+                                    .build())
+                        .withConfig(Map.of(
+                                "default.replication.factor", 3,
+                                "min.insync.replicas", 2,
+                                "offsets.topic.replication.factor", 3,
+                                "transaction.state.log.replication.factor", 3,
+                                "transaction.state.log.min.isr", 2,
+                                "num.network.threads", 8,
+                                "num.io.threads", 16,
+                                "log.retention.hours", 168,
+                                "auto.create.topics.enable", false))
+                        .withStorage(new JbodStorageBuilder()
+                                .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withDeleteClaim(false).build(),
+                                        new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").withDeleteClaim(false).build())
+                                .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates the Kafka cluster model
+     *
+     * @param replicas  Number of Kafka brokers
+     *
+     * @return  Kafka cluster model
+     */
+    public static KafkaCluster kafkaCluster(int replicas) {
+        return KafkaCluster.fromCrd(RECONCILIATION, kafka(replicas), VERSIONS);
+    }
+
+    /**
+     * Creates the advertised hostnames of the listeners of the Kafka custom resource
+     *
+     * @param replicas  Number of Kafka brokers
+     *
+     * @return  Map with the advertised hostnames for each broker and listener
+     */
+    public static Map<Integer, Map<String, String>> advertisedHostnames(int replicas) {
+        return IntStream.range(0, replicas)
+                .boxed()
+                .collect(Collectors.toMap(Function.identity(), brokerId -> Map.of(
+                        "PLAIN_9092", NAME + "-kafka-" + brokerId + "." + NAME + "-kafka-brokers." + NAMESPACE + ".svc",
+                        "TLS_9093", NAME + "-kafka-" + brokerId + "." + NAME + "-kafka-brokers." + NAMESPACE + ".svc",
+                        "EXTERNAL_9094", "10.0.0." + brokerId)));
+    }
+
+    /**
+     * Creates the advertised ports of the listeners of the Kafka custom resource
+     *
+     * @param replicas  Number of Kafka brokers
+     *
+     * @return  Map with the advertised ports for each broker and listener
+     */
+    public static Map<Integer, Map<String, String>> advertisedPorts(int replicas) {
+        return IntStream.range(0, replicas)
+                .boxed()
+                .collect(Collectors.toMap(Function.identity(), brokerId -> Map.of(
+                        "PLAIN_9092", "9092",
+                        "TLS_9093", "9093",
+                        "EXTERNAL_9094", String.valueOf(31000 + brokerId))));
+    }
+}
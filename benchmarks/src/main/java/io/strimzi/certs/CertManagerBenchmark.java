@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the certificate managers issuing a broker certificate: generating the private key and the certificate
+ * signing request, signing the certificate by the CA and storing the key and the certificate in a PKCS12 keystore.
+ * This is what the Cluster Operator does for every broker when the certificates are created or renewed and what the
+ * User Operator does for every TLS user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CertManagerBenchmark {
+    @Param({"OPENSSL", "JCA"})
+    private CertManagerType type;
+
+    private CertManager certManager;
+    private File directory;
+    private File caKey;
+    private File caCert;
+    private File key;
+    private File csr;
+    private File cert;
+    private File keyStore;
+    private Subject subject;
+
+    @Setup
+    public void setup() throws IOException {
+        certManager = type.create();
+        directory = Files.createTempDirectory("cert-manager-benchmark").toFile();
+        caKey = new File(directory, "ca.key");
+        caCert = new File(directory, "ca.crt");
+        key = new File(directory, "broker.key");
+        csr = new File(directory, "broker.csr");
+        cert = new File(directory, "broker.crt");
+        keyStore = new File(directory, "broker.p12");
+
+        certManager.generateSelfSignedCert(caKey, caCert, new Subject.Builder().withCommonName("cluster-ca").withOrganizationName("io.strimzi").build(), 365);
+
+        Subject.Builder subjectBuilder = new Subject.Builder()
+                .withCommonName("my-cluster-kafka")
+                .withOrganizationName("io.strimzi");
+        for (int i = 0; i < 3; i++) {
+            subjectBuilder.addDnsName("my-cluster-kafka-" + i + ".my-cluster-kafka-brokers.my-namespace.svc")
+                    .addDnsName("my-cluster-kafka-" + i + ".my-cluster-kafka-brokers.my-namespace.svc.cluster.local");
+        }
+        subject = subjectBuilder.build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public long generateSignedCert() throws IOException {
+        certManager.generateCsr(key, csr, subject);
+        certManager.generateCert(csr, caKey, caCert, cert, subject, 365);
+        return cert.length();
+    }
+
+    @Benchmark
+    public long generateSignedCertAndKeyStore() throws IOException {
+        certManager.generateCsr(key, csr, subject);
+        certManager.generateCert(csr, caKey, caCert, cert, subject, 365);
+        certManager.addKeyAndCertToKeyStore(key, cert, "broker", keyStore, "password");
+        return keyStore.length();
+    }
+}
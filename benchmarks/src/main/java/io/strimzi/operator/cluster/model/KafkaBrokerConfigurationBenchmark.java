@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the Kafka broker configuration with the {@link KafkaBrokerConfigurationBuilder}. The
+ * shared configuration is used with StatefulSets, the per-broker configuration with StrimziPodSets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaBrokerConfigurationBenchmark {
+    private static final int REPLICAS = 3;
+
+    private KafkaCluster cluster;
+    private Map<Integer, Map<String, String>> advertisedHostnames;
+    private Map<Integer, Map<String, String>> advertisedPorts;
+
+    @Setup
+    public void setup() {
+        cluster = Fixtures.kafkaCluster(REPLICAS);
+        advertisedHostnames = Fixtures.advertisedHostnames(REPLICAS);
+        advertisedPorts = Fixtures.advertisedPorts(REPLICAS);
+    }
+
+    @Benchmark
+    public String sharedConfiguration() {
+        return cluster.generateSharedBrokerConfiguration(true);
+    }
+
+    @Benchmark
+    public String perBrokerConfiguration() {
+        return cluster.generatePerBrokerBrokerConfiguration(1, advertisedHostnames, advertisedPorts, true);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the creation of the Kafka cluster model from the custom resource and the generation of the StatefulSet
+ * and StrimziPodSet from it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaClusterBenchmark {
+    @Param({"3", "12", "30"})
+    public int replicas;
+
+    private Kafka kafka;
+    private KafkaCluster cluster;
+
+    @Setup
+    public void setup() {
+        kafka = Fixtures.kafka(replicas);
+        cluster = KafkaCluster.fromCrd(Fixtures.RECONCILIATION, kafka, Fixtures.VERSIONS);
+    }
+
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(Fixtures.RECONCILIATION, kafka, Fixtures.VERSIONS);
+    }
+
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return cluster.generateStatefulSet(false, null, null, Map.of());
+    }
+
+    @Benchmark
+    public StrimziPodSet generatePodSet() {
+        return cluster.generatePodSet(replicas, false, null, null, brokerId -> Map.of());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.benchmarks.Fixtures;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.config.TopicConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks the {@link KafkaAvailability} check done by the KafkaRoller before rolling a broker. The Admin client is
+ * mocked and answers immediately, so the benchmark measures the processing of the topic descriptions and configurations
+ * of large clusters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaAvailabilityBenchmark {
+    private static final int BROKERS = 6;
+    private static final int REPLICAS = 3;
+    private static final int PARTITIONS_PER_TOPIC = 10;
+
+    /**
+     * The total number of partitions in the cluster
+     */
+    @Param({"10000", "50000", "100000"})
+    public int partitions;
+
+    private Admin admin;
+    private KafkaAvailability sharedAvailability;
+    private int broker = 0;
+
+    @Setup
+    public void setup() {
+        List<Node> nodes = new ArrayList<>(BROKERS);
+        for (int i = 0; i < BROKERS; i++) {
+            nodes.add(new Node(i, "broker-" + i, 9091));
+        }
+
+        Map<String, TopicDescription> descriptions = new HashMap<>();
+        Map<ConfigResource, Config> configs = new HashMap<>();
+
+        for (int topic = 0; topic < partitions / PARTITIONS_PER_TOPIC; topic++) {
+            String name = "topic-" + topic;
+            List<TopicPartitionInfo> partitionInfos = new ArrayList<>(PARTITIONS_PER_TOPIC);
+
+            for (int partition = 0; partition < PARTITIONS_PER_TOPIC; partition++) {
+                List<Node> replicas = new ArrayList<>(REPLICAS);
+                for (int replica = 0; replica < REPLICAS; replica++) {
+                    replicas.add(nodes.get((topic + partition + replica) % BROKERS));
+                }
+
+                // Every hundredth partition is missing its last replica in the ISR
+                List<Node> isr = (topic * PARTITIONS_PER_TOPIC + partition) % 100 == 0 ? replicas.subList(0, REPLICAS - 1) : replicas;
+                partitionInfos.add(new TopicPartitionInfo(partition, replicas.get(0), replicas, isr));
+            }
+
+            descriptions.put(name, new TopicDescription(name, false, partitionInfos));
+            configs.put(new ConfigResource(ConfigResource.Type.TOPIC, name),
+                    new Config(List.of(new ConfigEntry(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2"))));
+        }
+
+        ListTopicsResult ltr = mock(ListTopicsResult.class);
+        when(ltr.names()).thenReturn(KafkaFuture.completedFuture(descriptions.keySet()));
+
+
+        DescribeConfigsResult dcr = mock(DescribeConfigsResult.class);
+        when(dcr.all()).thenReturn(KafkaFuture.completedFuture(configs));
+
+        admin = mock(Admin.class);
+        when(admin.listTopics(any())).thenReturn(ltr);
+        when(admin.describeTopics(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            Map<String, TopicDescription> result = new HashMap<>(names.size());
+            for (String name : names) {
+                result.put(name, descriptions.get(name));
+            }
+
+            DescribeTopicsResult dtr = mock(DescribeTopicsResult.class);
+            when(dtr.allTopicNames()).thenReturn(KafkaFuture.completedFuture(result));
+            return dtr;
+        });
+        when(admin.describeConfigs(any())).thenReturn(dcr);
+
+        // Consumes the initial snapshot so that the benchmark measures the incremental refreshes
+        sharedAvailability = new KafkaAvailability(Fixtures.RECONCILIATION, admin);
+        sharedAvailability.canRoll(0).result();
+    }
+
+    /**
+     * The first check done with a new KafkaAvailability instance which describes all topics
+     */
+    @Benchmark
+    public boolean canRoll() {
+        return new KafkaAvailability(Fixtures.RECONCILIATION, admin).canRoll(0).result();
+    }
+
+    /**
+     * The following checks done during the same rolling update which refresh only the topics on the given broker
+     */
+    @Benchmark
+    public boolean canRollShared() {
+        broker = (broker + 1) % BROKERS;
+        return sharedAvailability.canRoll(broker).result();
+    }
+}
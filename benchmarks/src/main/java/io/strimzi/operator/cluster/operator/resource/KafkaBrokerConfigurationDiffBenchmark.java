@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link KafkaBrokerConfigurationDiff} of the per-broker configuration generated for a Kafka cluster.
+ * The current configuration contains all options from the configuration model like when it is described using the
+ * Kafka Admin API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private static final int BROKER_ID = 1;
+
+    /**
+     * unchanged: the current configuration uses the desired values
+     * changed: one of the dynamically configurable options differs
+     */
+    @Param({"unchanged", "changed"})
+    public String scenario;
+
+    private KafkaVersion kafkaVersion;
+    private String desired;
+    private Config current;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        KafkaCluster cluster = Fixtures.kafkaCluster(3);
+        kafkaVersion = Fixtures.VERSIONS.defaultVersion();
+        desired = cluster.generatePerBrokerBrokerConfiguration(BROKER_ID, Fixtures.advertisedHostnames(3), Fixtures.advertisedPorts(3), true);
+
+        Map<String, String> desiredMap = new OrderedProperties().addStringPairs(desired).asMap();
+        List<ConfigEntry> entries = new ArrayList<>();
+
+        for (String name : KafkaConfiguration.readConfigModel(kafkaVersion).keySet()) {
+            if (!desiredMap.containsKey(name)) {
+                entries.add(configEntry(name, "default", ConfigEntry.ConfigSource.DEFAULT_CONFIG));
+            }
+        }
+
+        for (Map.Entry<String, String> entry : desiredMap.entrySet()) {
+            String value = "changed".equals(scenario) && "log.retention.hours".equals(entry.getKey()) ? "24" : entry.getValue();
+            entries.add(configEntry(entry.getKey(), value, ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG));
+        }
+
+        current = new Config(entries);
+    }
+
+    /**
+     * The ConfigEntry constructor with the config source is not public, so it is called using reflection
+     */
+    private static ConfigEntry configEntry(String name, String value, ConfigEntry.ConfigSource source) throws ReflectiveOperationException {
+        Constructor<ConfigEntry> constructor = ConfigEntry.class.getDeclaredConstructor(String.class, String.class, ConfigEntry.ConfigSource.class, boolean.class, boolean.class, List.class, ConfigEntry.ConfigType.class, String.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(name, value, source, false, false, List.of(), ConfigEntry.ConfigType.STRING, null);
+    }
+
+    @Benchmark
+    public int diff() {
+        return new KafkaBrokerConfigurationDiff(Fixtures.RECONCILIATION, current, desired, kafkaVersion, BROKER_ID).getDiffSize();
+    }
+}
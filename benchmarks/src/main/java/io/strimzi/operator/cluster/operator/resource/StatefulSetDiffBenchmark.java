@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetStatusBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link StatefulSetDiff} of the Kafka StatefulSets
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StatefulSetDiffBenchmark {
+    /**
+     * equal: the StatefulSets are the same
+     * ignorable: the current StatefulSet has the status filled in
+     * changed: the container image differs
+     */
+    @Param({"equal", "ignorable", "changed"})
+    public String scenario;
+
+    private StatefulSet current;
+    private StatefulSet desired;
+
+    @Setup
+    public void setup() {
+        Kafka kafka = Fixtures.kafka(3);
+        current = generate(kafka);
+
+        if ("changed".equals(scenario)) {
+            desired = generate(new KafkaBuilder(kafka).editSpec().editKafka().withImage("strimzi/kafka:custom").endKafka().endSpec().build());
+        } else {
+            desired = generate(kafka);
+        }
+
+        if ("ignorable".equals(scenario)) {
+            current.setStatus(new StatefulSetStatusBuilder()
+                    .withReplicas(3)
+                    .withReadyReplicas(3)
+                    .withCurrentReplicas(3)
+                    .withObservedGeneration(1L)
+                    .build());
+        }
+    }
+
+    private static StatefulSet generate(Kafka kafka) {
+        return KafkaCluster.fromCrd(Fixtures.RECONCILIATION, kafka, Fixtures.VERSIONS).generateStatefulSet(false, null, null, Map.of());
+    }
+
+    @Benchmark
+    public boolean diff() {
+        return new StatefulSetDiff(Fixtures.RECONCILIATION, current, desired).isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.FieldsV1;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetStatusBuilder;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.status.StrimziPodSetStatusBuilder;
+import io.strimzi.benchmarks.Fixtures;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the early-exit structural diff used by {@link ResourceDiff} with the previous implementation which
+ * generated the full JSON Patch and matched each of its paths against the ignorable paths regular expression. The
+ * resources are the StatefulSet and StrimziPodSet generated for a Kafka cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResourceDiffBenchmark {
+    private static final Pattern IGNORABLE_PATHS = AbstractResourceOperator.IGNORABLE_PATHS;
+
+    @Param({"StatefulSet", "StrimziPodSet"})
+    public String kind;
+
+    @Param({"3", "12"})
+    public int replicas;
+
+    /**
+     * equal: the resources are the same
+     * ignorable: the current resource has the status and managed fields filled in like when it is read from the API server
+     * changed: the container image differs
+     */
+    @Param({"equal", "ignorable", "changed"})
+    public String scenario;
+
+    private HasMetadata current;
+    private HasMetadata desired;
+
+    @Setup
+    public void setup() {
+        Kafka kafka = Fixtures.kafka(replicas);
+        current = generate(kafka);
+
+        if ("changed".equals(scenario)) {
+            desired = generate(new KafkaBuilder(kafka).editSpec().editKafka().withImage("strimzi/kafka:custom").endKafka().endSpec().build());
+        } else {
+            desired = generate(kafka);
+        }
+
+        if ("ignorable".equals(scenario)) {
+            FieldsV1 fields = new FieldsV1();
+            fields.setAdditionalProperty("f:metadata", Map.of("f:labels", Map.of(".", Map.of())));
+            fields.setAdditionalProperty("f:spec", Map.of("f:replicas", Map.of()));
+
+            current.getMetadata().setManagedFields(List.of(new ManagedFieldsEntryBuilder()
+                    .withManager("strimzi-cluster-operator")
+                    .withOperation("Update")
+                    .withApiVersion(current.getApiVersion())
+                    .withFieldsType("FieldsV1")
+                    .withFieldsV1(fields)
+                    .build()));
+
+            if (current instanceof StatefulSet) {
+                ((StatefulSet) current).setStatus(new StatefulSetStatusBuilder()
+                        .withReplicas(replicas)
+                        .withReadyReplicas(replicas)
+                        .withCurrentReplicas(replicas)
+                        .withObservedGeneration(1L)
+                        .build());
+            } else {
+                ((StrimziPodSet) current).setStatus(new StrimziPodSetStatusBuilder()
+                        .withPods(replicas)
+                        .withReadyPods(replicas)
+                        .withCurrentPods(replicas)
+                        .withObservedGeneration(1L)
+                        .build());
+            }
+        }
+    }
+
+    private HasMetadata generate(Kafka kafka) {
+        KafkaCluster cluster = KafkaCluster.fromCrd(Fixtures.RECONCILIATION, kafka, Fixtures.VERSIONS);
+
+        if ("StatefulSet".equals(kind)) {
+            return cluster.generateStatefulSet(false, null, null, Map.of());
+        } else {
+            return cluster.generatePodSet(replicas, false, null, null, brokerId -> Map.of());
+        }
+    }
+
+    @Benchmark
+    public boolean structuralDiff() {
+        return new ResourceDiff<>(Fixtures.RECONCILIATION, kind, Fixtures.NAME, current, desired, IGNORABLE_PATHS).isEmpty();
+    }
+
+    @Benchmark
+    public boolean jsonPatchDiff() {
+        JsonNode source = AbstractJsonDiff.PATCH_MAPPER.valueToTree(current);
+        JsonNode target = AbstractJsonDiff.PATCH_MAPPER.valueToTree(desired);
+
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            if (!IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
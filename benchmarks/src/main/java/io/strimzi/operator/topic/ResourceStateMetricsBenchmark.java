@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the updates of the {@code resource.state} gauges done by a periodic reconciliation of all topics in the
+ * Topic Operator. Each invocation updates the gauge of every topic once. In {@link #periodicReconciliation()}, every
+ * fourth pass marks the topics as failed, so half of the passes re-register the gauges with new tags and the other
+ * half reuse them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResourceStateMetricsBenchmark {
+    @Param({"10000", "50000"})
+    private int topics;
+
+    private String[] names;
+    private ResourceStateMetrics metrics;
+    private int pass = 0;
+
+    @Setup
+    public void setup() {
+        MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        metrics = new ResourceStateMetrics(registry, "my-namespace");
+        names = new String[topics];
+
+        for (int i = 0; i < topics; i++) {
+            names[i] = "my-topic-" + i;
+            metrics.set("KafkaTopic", names[i], true, "none");
+        }
+    }
+
+    @Benchmark
+    public int periodicReconciliation() {
+        boolean ready = pass++ % 4 != 0;
+
+        for (String name : names) {
+            metrics.set("KafkaTopic", name, ready, ready ? "none" : "some failure");
+        }
+
+        return metrics.size();
+    }
+
+    @Benchmark
+    public int periodicReconciliationWithoutChanges() {
+        for (String name : names) {
+            metrics.set("KafkaTopic", name, true, "none");
+        }
+
+        return metrics.size();
+    }
+}
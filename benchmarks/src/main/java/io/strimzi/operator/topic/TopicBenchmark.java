@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between the KafkaTopic resources, the topic model and its JSON representation stored in
+ * ZooKeeper, and the computation and application of the {@link TopicDiff} done for every topic reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TopicBenchmark {
+    private static final Labels LABELS = new Labels("strimzi.io/cluster", "my-cluster");
+
+    private Topic topic;
+    private Topic changedTopic;
+    private KafkaTopic kafkaTopic;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        Map<String, String> config = new LinkedHashMap<>();
+        config.put("cleanup.policy", "compact");
+        config.put("compression.type", "lz4");
+        config.put("min.insync.replicas", "2");
+        config.put("retention.ms", "604800000");
+        config.put("retention.bytes", "1073741824");
+        config.put("segment.bytes", "536870912");
+        config.put("segment.ms", "86400000");
+        config.put("max.message.bytes", "1048588");
+        config.put("message.timestamp.type", "LogAppendTime");
+        config.put("unclean.leader.election.enable", "false");
+
+        topic = new Topic.Builder("my-topic", 12, (short) 3, config).build();
+
+        Map<String, String> changedConfig = new LinkedHashMap<>(config);
+        changedConfig.put("retention.ms", "86400000");
+        changedConfig.remove("segment.ms");
+        changedConfig.put("flush.messages", "10000");
+        changedTopic = new Topic.Builder("my-topic", 24, (short) 3, changedConfig).build();
+
+        kafkaTopic = TopicSerialization.toTopicResource(topic, LABELS);
+        json = TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public Topic fromTopicResource() {
+        return TopicSerialization.fromTopicResource(kafkaTopic);
+    }
+
+    @Benchmark
+    public KafkaTopic toTopicResource() {
+        return TopicSerialization.toTopicResource(topic, LABELS);
+    }
+
+    @Benchmark
+    public byte[] toJson() {
+        return TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public Topic fromJson() {
+        return TopicSerialization.fromJson(json);
+    }
+
+    @Benchmark
+    public TopicDiff diff() {
+        return TopicDiff.diff(topic, changedTopic);
+    }
+
+    @Benchmark
+    public Topic diffAndApply() {
+        return TopicDiff.diff(topic, changedTopic).apply(topic);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The available {@link CertManager} implementations
+ */
+public enum CertManagerType {
+    /**
+     * Uses the {@code openssl} command line tool
+     */
+    OPENSSL,
+
+    /**
+     * Uses only the Java Cryptography Architecture without starting any external processes
+     */
+    JCA;
+
+    /**
+     * Parses the type of the certificate manager
+     *
+     * @param type  The name of the type (case-insensitive)
+     *
+     * @return  The certificate manager type
+     *
+     * @throws IllegalArgumentException If the type is not known
+     */
+    public static CertManagerType forName(String type) {
+        switch (type.trim().toLowerCase(Locale.ENGLISH)) {
+            case "openssl":
+                return OPENSSL;
+            case "jca":
+                return JCA;
+            default:
+                throw new IllegalArgumentException("Unknown certificate manager type " + type + ". The supported types are openssl and jca.");
+        }
+    }
+
+    /**
+     * @return  New instance of the certificate manager of this type
+     */
+    public CertManager create() {
+        switch (this) {
+            case JCA:
+                return new JcaCertManager();
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager();
+        }
+    }
+}
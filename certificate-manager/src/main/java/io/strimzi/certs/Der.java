@@ -0,0 +1,291 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal encoder and decoder of the ASN.1 DER structures used in X.509 certificates, certificate signing requests
+ * and private keys. It supports only the subset of DER needed by {@link JcaCertManager}.
+ */
+final class Der {
+    static final int BOOLEAN = 0x01;
+    static final int INTEGER = 0x02;
+    static final int BIT_STRING = 0x03;
+    static final int OCTET_STRING = 0x04;
+    static final int NULL = 0x05;
+    static final int OBJECT_IDENTIFIER = 0x06;
+    static final int UTC_TIME = 0x17;
+    static final int GENERALIZED_TIME = 0x18;
+    static final int SEQUENCE = 0x30;
+    static final int SET = 0x31;
+
+    private static final DateTimeFormatter UTC_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    private Der() { }
+
+    /**
+     * Encodes a single TLV element
+     *
+     * @param tag       Tag of the element
+     * @param contents  Contents of the element. Multiple arrays are concatenated.
+     *
+     * @return  The encoded element
+     */
+    static byte[] tlv(int tag, byte[]... contents) {
+        int length = 0;
+        for (byte[] content : contents) {
+            length += content.length;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+        out.write(tag);
+
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int lengthBytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | lengthBytes);
+            for (int i = lengthBytes - 1; i >= 0; i--) {
+                out.write(length >>> (8 * i));
+            }
+        }
+
+        for (byte[] content : contents) {
+            out.write(content, 0, content.length);
+        }
+
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return tlv(SEQUENCE, elements);
+    }
+
+    static byte[] set(byte[]... elements) {
+        return tlv(SET, elements);
+    }
+
+    static byte[] integer(BigInteger value) {
+        return tlv(INTEGER, value.toByteArray());
+    }
+
+    static byte[] integer(long value) {
+        return integer(BigInteger.valueOf(value));
+    }
+
+    static byte[] bool(boolean value) {
+        return tlv(BOOLEAN, new byte[] {(byte) (value ? 0xff : 0x00)});
+    }
+
+    static byte[] nullValue() {
+        return tlv(NULL);
+    }
+
+    static byte[] octetString(byte[] value) {
+        return tlv(OCTET_STRING, value);
+    }
+
+    /**
+     * Encodes a bit string with all bits used
+     *
+     * @param value     The bits
+     *
+     * @return  The encoded bit string
+     */
+    static byte[] bitString(byte[] value) {
+        return tlv(BIT_STRING, new byte[] {0}, value);
+    }
+
+    /**
+     * Encodes a bit string with named bits (such as the key usage) stored in a single byte. The trailing zero bits
+     * are marked as unused as required by DER.
+     *
+     * @param bits  The named bits where the first bit is the most significant bit of the byte
+     *
+     * @return  The encoded bit string
+     */
+    static byte[] namedBits(int bits) {
+        return tlv(BIT_STRING, new byte[] {(byte) Integer.numberOfTrailingZeros(bits), (byte) bits});
+    }
+
+    static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(out, Long.parseLong(arcs[i]));
+        }
+
+        return tlv(OBJECT_IDENTIFIER, out.toByteArray());
+    }
+
+    private static void writeBase128(ByteArrayOutputStream out, long value) {
+        int groups = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = (int) (value >>> (7 * i)) & 0x7f;
+            out.write(i > 0 ? group | 0x80 : group);
+        }
+    }
+
+    /**
+     * Encodes the time as UTCTime for the years 1950 to 2049 and as GeneralizedTime otherwise as required by RFC 5280
+     *
+     * @param time  The time
+     *
+     * @return  The encoded time
+     */
+    static byte[] time(ZonedDateTime time) {
+        ZonedDateTime utc = time.withZoneSameInstant(ZoneOffset.UTC);
+
+        if (utc.getYear() >= 1950 && utc.getYear() < 2050) {
+            return tlv(UTC_TIME, UTC_TIME_FORMATTER.format(utc).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return tlv(GENERALIZED_TIME, GENERALIZED_TIME_FORMATTER.format(utc).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Encodes an explicitly tagged context-specific element
+     *
+     * @param tagNumber     Number of the context-specific tag
+     * @param content       The encoded element which should be tagged
+     *
+     * @return  The encoded element
+     */
+    static byte[] explicit(int tagNumber, byte[] content) {
+        return tlv(0xa0 | tagNumber, content);
+    }
+
+    /**
+     * Decodes a single DER element
+     *
+     * @param der   The DER encoded data
+     *
+     * @return  The decoded element
+     */
+    static Element parse(byte[] der) {
+        return Element.parse(der, 0, der.length);
+    }
+
+    /**
+     * Decoded DER element referencing the original data
+     */
+    static final class Element {
+        private final byte[] data;
+        private final int offset;
+        private final int contentOffset;
+        private final int end;
+
+        private Element(byte[] data, int offset, int contentOffset, int end) {
+            this.data = data;
+            this.offset = offset;
+            this.contentOffset = contentOffset;
+            this.end = end;
+        }
+
+        private static Element parse(byte[] data, int offset, int limit) {
+            if (limit - offset < 2) {
+                throw new IllegalArgumentException("Truncated DER element");
+            }
+
+            int position = offset + 1;
+            int length = data[position++] & 0xff;
+
+            if (length >= 0x80) {
+                int lengthBytes = length & 0x7f;
+                if (lengthBytes == 0 || lengthBytes > 4 || position + lengthBytes > limit) {
+                    throw new IllegalArgumentException("Unsupported DER length encoding");
+                }
+
+                length = 0;
+                for (int i = 0; i < lengthBytes; i++) {
+                    length = (length << 8) | (data[position++] & 0xff);
+                }
+            }
+
+            if (length < 0 || position + length > limit) {
+                throw new IllegalArgumentException("Truncated DER element");
+            }
+
+            return new Element(data, offset, position, position + length);
+        }
+
+        int tag() {
+            return data[offset] & 0xff;
+        }
+
+        /**
+         * @return  The whole encoded element including its tag and length
+         */
+        byte[] encoded() {
+            return Arrays.copyOfRange(data, offset, end);
+        }
+
+        /**
+         * @return  The content of the element without its tag and length
+         */
+        byte[] content() {
+            return Arrays.copyOfRange(data, contentOffset, end);
+        }
+
+        /**
+         * @return  The elements nested in this constructed element
+         */
+        List<Element> children() {
+            List<Element> children = new ArrayList<>();
+            int position = contentOffset;
+
+            while (position < end) {
+                Element child = parse(data, position, end);
+                children.add(child);
+                position = child.end;
+            }
+
+            return children;
+        }
+
+        /**
+         * @return  The dotted representation of this object identifier
+         */
+        String oid() {
+            if (tag() != OBJECT_IDENTIFIER) {
+                throw new IllegalArgumentException("Not an object identifier");
+            }
+
+            StringBuilder oid = new StringBuilder();
+            long value = 0;
+            boolean first = true;
+
+            for (int i = contentOffset; i < end; i++) {
+                value = (value << 7) | (data[i] & 0x7f);
+
+                if ((data[i] & 0x80) == 0) {
+                    if (first) {
+                        long firstArc = Math.min(value / 40, 2);
+                        oid.append(firstArc).append('.').append(value - firstArc * 40);
+                        first = false;
+                    } else {
+                        oid.append('.').append(value);
+                    }
+                    value = 0;
+                }
+            }
+
+            return oid.toString();
+        }
+    }
+}
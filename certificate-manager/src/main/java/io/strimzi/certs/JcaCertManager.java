@@ -0,0 +1,506 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.security.auth.x500.X500Principal;
+
+import static io.strimzi.certs.Der.bitString;
+import static io.strimzi.certs.Der.bool;
+import static io.strimzi.certs.Der.explicit;
+import static io.strimzi.certs.Der.integer;
+import static io.strimzi.certs.Der.namedBits;
+import static io.strimzi.certs.Der.nullValue;
+import static io.strimzi.certs.Der.octetString;
+import static io.strimzi.certs.Der.oid;
+import static io.strimzi.certs.Der.sequence;
+import static io.strimzi.certs.Der.set;
+import static io.strimzi.certs.Der.time;
+import static io.strimzi.certs.Der.tlv;
+
+/**
+ * A certificate manager using only the Java Cryptography Architecture. Unlike {@link OpenSslCertManager}, it does not
+ * start any {@code openssl} processes and does not create any temporary files. The keys, certificate signing requests,
+ * certificates and PKCS12 stores are created in memory and only the files passed by the caller are read or written.
+ *
+ * The files have the same format as the files created by {@link OpenSslCertManager}: PEM encoded certificates,
+ * certificate signing requests and PKCS#8 private keys. Existing keys in the PKCS#1 or SEC1 formats can be read as well.
+ * New keys are always RSA keys.
+ */
+public class JcaCertManager implements CertManager {
+    private static final int CA_KEY_SIZE = 4096;
+    private static final int KEY_SIZE = 2048;
+
+    private static final String RSA_ENCRYPTION = "1.2.840.113549.1.1.1";
+    private static final String SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+    private static final String SHA512_WITH_RSA = "1.2.840.113549.1.1.13";
+    private static final String EC_PUBLIC_KEY = "1.2.840.10045.2.1";
+    private static final String ECDSA_WITH_SHA256 = "1.2.840.10045.4.3.2";
+    private static final String ECDSA_WITH_SHA512 = "1.2.840.10045.4.3.4";
+    private static final String EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String KEY_USAGE = "2.5.29.15";
+    private static final String SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String BASIC_CONSTRAINTS = "2.5.29.19";
+
+    private static final int DIGITAL_SIGNATURE = 0x80;
+    private static final int KEY_ENCIPHERMENT = 0x20;
+    private static final int KEY_CERT_SIGN = 0x04;
+    private static final int CRL_SIGN = 0x02;
+
+    private static final Pattern PEM = Pattern.compile("-----BEGIN ([A-Z0-9 ]+)-----([A-Za-z0-9+/=\\s]+)-----END \\1-----");
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public JcaCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    public JcaCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateRootCaCert(sbj, keyFile, certFile, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC), 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateCaCert(null, null, sbj, keyFile, certFile, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC), 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        try {
+            boolean newKey = subjectKeyFile.length() == 0;
+            KeyPair keyPair;
+            if (newKey) {
+                keyPair = generateKeyPair(CA_KEY_SIZE);
+            } else {
+                PrivateKey key = readPrivateKey(Files.readAllBytes(subjectKeyFile.toPath()));
+                keyPair = new KeyPair(rsaPublicKey(key), key);
+            }
+
+            byte[] subjectName = name(subject);
+            byte[] issuerName;
+            PrivateKey issuerKey;
+            if (issuerCaCertFile == null) {
+                issuerName = subjectName;
+                issuerKey = keyPair.getPrivate();
+            } else {
+                issuerName = readCertificate(Files.readAllBytes(issuerCaCertFile.toPath())).getSubjectX500Principal().getEncoded();
+                issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+            }
+
+            byte[] publicKeyInfo = keyPair.getPublic().getEncoded();
+            byte[] certificate = signCertificate(issuerKey, issuerName, subjectName, publicKeyInfo, notBefore, notAfter,
+                    extension(SUBJECT_KEY_IDENTIFIER, false, octetString(keyIdentifier(publicKeyInfo))),
+                    extension(BASIC_CONSTRAINTS, true, sequence(bool(true), integer(pathLength))),
+                    extension(KEY_USAGE, true, namedBits(KEY_CERT_SIGN | CRL_SIGN)));
+
+            if (newKey) {
+                writePem(subjectKeyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+            }
+            writePem(subjectCertFile, "CERTIFICATE", certificate);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the CA certificate for " + subject, e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        TrustStores.addCert(certFile, certAlias, trustStoreFile, trustStorePassword);
+    }
+
+    /**
+     * Adds the key and the certificate to the PKCS12 keystore. The keystore is protected using the default PKCS12
+     * algorithms of the JVM, which are the same as used by {@link OpenSslCertManager} (AES and HMAC-SHA256) on current
+     * Java versions.
+     */
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            X509Certificate certificate = readCertificate(Files.readAllBytes(certFile.toPath()));
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), new Certificate[] {certificate});
+
+            try (OutputStream out = new FileOutputStream(keyStoreFile)) {
+                keyStore.store(out, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to create the keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        TrustStores.delete(aliases, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+
+            byte[] attributes;
+            if (subject.hasSubjectAltNames()) {
+                attributes = sequence(oid(EXTENSION_REQUEST), set(sequence(subjectAltNames(subject))));
+            } else {
+                attributes = new byte[0];
+            }
+
+            byte[] requestInfo = sequence(integer(0), name(subject), keyPair.getPublic().getEncoded(), tlv(0xa0, attributes));
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forKey(keyPair.getPrivate(), false);
+
+            writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+            writePem(csrFile, "CERTIFICATE REQUEST", sequence(requestInfo, algorithm.identifier(), bitString(algorithm.sign(keyPair.getPrivate(), requestInfo))));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the certificate signing request for " + subject, e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC));
+    }
+
+    /**
+     * Generate a certificate signed by a Certificate Authority
+     *
+     * @param csrFile path to the file containing the certificate sign request
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param crtFile path to the file which will contain the signed certificate
+     * @param sbj subject information
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        try {
+            // CertificationRequest -> CertificationRequestInfo -> version, subject, subjectPKInfo, attributes
+            List<Der.Element> requestInfo = Der.parse(readPem(Files.readAllBytes(csrFile.toPath()), "CERTIFICATE REQUEST"))
+                    .children().get(0).children();
+            byte[] subjectName = requestInfo.get(1).encoded();
+            byte[] publicKeyInfo = requestInfo.get(2).encoded();
+
+            // Same extensions as used by OpenSslCertManager: the v3_req section used for the subject alternative
+            // names replaces the default extensions
+            List<byte[]> extensions = new ArrayList<>(3);
+            if (sbj.hasSubjectAltNames()) {
+                extensions.add(subjectAltNames(sbj));
+            } else {
+                extensions.add(extension(SUBJECT_KEY_IDENTIFIER, false, octetString(keyIdentifier(publicKeyInfo))));
+                extensions.add(extension(BASIC_CONSTRAINTS, true, sequence()));
+                extensions.add(extension(KEY_USAGE, true, namedBits(DIGITAL_SIGNATURE | KEY_ENCIPHERMENT)));
+            }
+
+            X509Certificate issuer = readCertificate(caCert);
+            byte[] certificate = signCertificate(readPrivateKey(caKey), issuer.getSubjectX500Principal().getEncoded(),
+                    subjectName, publicKeyInfo, notBefore, notAfter, extensions.toArray(new byte[0][]));
+
+            writePem(crtFile, "CERTIFICATE", certificate);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the certificate for " + sbj, e);
+        }
+    }
+
+    private void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+
+    private byte[] signCertificate(PrivateKey issuerKey, byte[] issuerName, byte[] subjectName, byte[] publicKeyInfo,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, byte[]... extensions) throws GeneralSecurityException {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forKey(issuerKey, true);
+        // Positive random serial number with at most 20 octets as required by RFC 5280
+        BigInteger serial = new BigInteger(159, random);
+
+        byte[] tbsCertificate = sequence(
+                explicit(0, integer(2)),
+                integer(serial),
+                algorithm.identifier(),
+                issuerName,
+                sequence(time(notBefore), time(notAfter)),
+                subjectName,
+                publicKeyInfo,
+                explicit(3, sequence(extensions)));
+
+        return sequence(tbsCertificate, algorithm.identifier(), bitString(algorithm.sign(issuerKey, tbsCertificate)));
+    }
+
+    private static byte[] name(Subject subject) {
+        X500Principal principal = subject.principal();
+        return principal != null ? principal.getEncoded() : sequence();
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        if (critical) {
+            return sequence(oid(oid), bool(true), octetString(value));
+        } else {
+            return sequence(oid(oid), octetString(value));
+        }
+    }
+
+    private static byte[] subjectAltNames(Subject subject) throws IOException {
+        List<byte[]> names = new ArrayList<>();
+        for (String dnsName : subject.dnsNames()) {
+            // dNSName [2] IA5String
+            names.add(tlv(0x82, dnsName.getBytes(StandardCharsets.US_ASCII)));
+        }
+        for (String ipAddress : subject.ipAddresses()) {
+            // iPAddress [7] OCTET STRING
+            names.add(tlv(0x87, InetAddress.getByName(ipAddress).getAddress()));
+        }
+
+        return extension(SUBJECT_ALT_NAME, false, sequence(names.toArray(new byte[0][])));
+    }
+
+    /**
+     * Computes the key identifier as the SHA-1 hash of the public key (the same way as the {@code hash} option of
+     * OpenSSL)
+     *
+     * @param publicKeyInfo The encoded SubjectPublicKeyInfo
+     *
+     * @return  The key identifier
+     */
+    private static byte[] keyIdentifier(byte[] publicKeyInfo) throws NoSuchAlgorithmException {
+        byte[] bitString = Der.parse(publicKeyInfo).children().get(1).content();
+        MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        // Skip the number of unused bits
+        sha1.update(bitString, 1, bitString.length - 1);
+        return sha1.digest();
+    }
+
+    private static PublicKey rsaPublicKey(PrivateKey key) throws GeneralSecurityException {
+        if (key instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) key;
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } else {
+            throw new IllegalArgumentException("Only existing RSA keys can be reused, but the key uses " + key.getAlgorithm());
+        }
+    }
+
+    private static X509Certificate readCertificate(byte[] pem) throws CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+    }
+
+    /**
+     * Reads the PEM encoded private key. Supports the PKCS#8 format as well as the PKCS#1 (RSA) and SEC1 (EC) formats.
+     *
+     * @param pem   The PEM encoded key
+     *
+     * @return  The private key
+     */
+    /* test */ static PrivateKey readPrivateKey(byte[] pem) throws GeneralSecurityException {
+        Matcher matcher = PEM.matcher(new String(pem, StandardCharsets.US_ASCII));
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("The private key is not PEM encoded");
+        }
+
+        byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+        byte[] pkcs8;
+
+        switch (matcher.group(1)) {
+            case "PRIVATE KEY":
+                pkcs8 = der;
+                break;
+            case "RSA PRIVATE KEY":
+                pkcs8 = sequence(integer(0), sequence(oid(RSA_ENCRYPTION), nullValue()), octetString(der));
+                break;
+            case "EC PRIVATE KEY":
+                // ECPrivateKey -> version, privateKey, [0] parameters (named curve), [1] publicKey
+                byte[] curve = null;
+                for (Der.Element element : Der.parse(der).children()) {
+                    if (element.tag() == 0xa0) {
+                        curve = element.content();
+                    }
+                }
+                if (curve == null) {
+                    throw new IllegalArgumentException("The EC private key does not specify its curve");
+                }
+                pkcs8 = sequence(integer(0), sequence(oid(EC_PUBLIC_KEY), curve), octetString(der));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported private key type " + matcher.group(1));
+        }
+
+        // PrivateKeyInfo -> version, privateKeyAlgorithm, privateKey
+        String algorithm = Der.parse(pkcs8).children().get(1).children().get(0).oid();
+        if (RSA_ENCRYPTION.equals(algorithm)) {
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+        } else if (EC_PUBLIC_KEY.equals(algorithm)) {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+        } else {
+            throw new IllegalArgumentException("Unsupported private key algorithm " + algorithm);
+        }
+    }
+
+    private static byte[] readPem(byte[] pem, String type) {
+        Matcher matcher = PEM.matcher(new String(pem, StandardCharsets.US_ASCII));
+        while (matcher.find()) {
+            if (type.equals(matcher.group(1))) {
+                return Base64.getMimeDecoder().decode(matcher.group(2));
+            }
+        }
+
+        throw new IllegalArgumentException("The file does not contain any " + type);
+    }
+
+    private static void writePem(File file, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        Files.write(file.toPath(), pem.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Signature algorithms used for the certificates (SHA-512 as configured for {@code openssl ca}) and for the
+     * certificate signing requests (SHA-256 as the default of {@code openssl req})
+     */
+    private enum SignatureAlgorithm {
+        SHA256_RSA("SHA256withRSA", sequence(oid(SHA256_WITH_RSA), nullValue())),
+        SHA512_RSA("SHA512withRSA", sequence(oid(SHA512_WITH_RSA), nullValue())),
+        SHA256_ECDSA("SHA256withECDSA", sequence(oid(ECDSA_WITH_SHA256))),
+        SHA512_ECDSA("SHA512withECDSA", sequence(oid(ECDSA_WITH_SHA512)));
+
+        private final String jcaName;
+        private final byte[] identifier;
+
+        SignatureAlgorithm(String jcaName, byte[] identifier) {
+            this.jcaName = jcaName;
+            this.identifier = identifier;
+        }
+
+        static SignatureAlgorithm forKey(PrivateKey key, boolean certificate) {
+            switch (key.getAlgorithm()) {
+                case "RSA":
+                    return certificate ? SHA512_RSA : SHA256_RSA;
+                case "EC":
+                    return certificate ? SHA512_ECDSA : SHA256_ECDSA;
+                default:
+                    throw new IllegalArgumentException("Unsupported signing key algorithm " + key.getAlgorithm());
+            }
+        }
+
+        byte[] identifier() {
+            return identifier.clone();
+        }
+
+        byte[] sign(PrivateKey key, byte[] data) throws GeneralSecurityException {
+            Signature signature = Signature.getInstance(jcaName);
+            signature.initSign(key);
+            signature.update(data);
+            return signature.sign();
+        }
+    }
+}
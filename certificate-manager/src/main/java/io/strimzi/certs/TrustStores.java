@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Management of the PKCS12 truststores shared by the {@link CertManager} implementations
+ */
+final class TrustStores {
+    private TrustStores() { }
+
+    /**
+     * Add a certificate to the truststore. The truststore is created if the file is empty.
+     *
+     * @param certFile path to the file containing the certificate
+     * @param certAlias alias of the certificate in the truststore
+     * @param trustStoreFile path to the truststore file
+     * @param trustStorePassword password for protecting the truststore
+     */
+    static void addCert(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        FileInputStream isTrustStore = null;
+        try {
+            // check if the truststore file is empty or not, for loading its content eventually
+            // the KeyStore class is able to create an empty store if the input stream is null
+            if (trustStoreFile.length() > 0) {
+                isTrustStore = new FileInputStream(trustStoreFile);
+            }
+
+            try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+
+                CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
+                X509Certificate certificate = (X509Certificate) certFactory.generateCertificate(isCertificate);
+
+                KeyStore trustStore = KeyStore.getInstance("PKCS12");
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+                trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+
+                try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+                    trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+                }
+            }
+        } finally {
+            if (isTrustStore != null) {
+                isTrustStore.close();
+            }
+        }
+    }
+
+    /**
+     * Delete the certificates with the given aliases from the truststore
+     *
+     * @param aliases aliases of the certificates which should be deleted
+     * @param trustStoreFile path to the truststore file
+     * @param trustStorePassword password for unlocking the truststore
+     */
+    static void delete(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            KeyStore trustStore = KeyStore.getInstance("PKCS12");
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            for (String alias : aliases) {
+                trustStore.deleteEntry(alias);
+            }
+            try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+                trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+            }
+        }
+    }
+}
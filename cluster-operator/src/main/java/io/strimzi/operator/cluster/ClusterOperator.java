@@ -97,7 +97,7 @@ public class ClusterOperator extends AbstractVerticle {
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
         if (config.featureGates().useStrimziPodSetsEnabled()) {
-            strimziPodSetController = new StrimziPodSetController(namespace, config.getCustomResourceSelector(), resourceOperatorSupplier.kafkaOperator, resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations, config.getPodSetControllerWorkQueueSize());
+            strimziPodSetController = new StrimziPodSetController(namespace, config.getCustomResourceSelector(), resourceOperatorSupplier.kafkaOperator, resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations, config.getPodSetControllerWorkQueueSize(), config.getPodSetControllerWorkers(), resourceOperatorSupplier.metricsProvider);
             strimziPodSetController.start();
         }
 
@@ -149,8 +149,12 @@ public class ClusterOperator extends AbstractVerticle {
             strimziPodSetController.stop();
         }
 
-        client.close();
-        stop.complete();
+        CompositeFuture.join(kafkaConnectAssemblyOperator.close(), kafkaMirrorMaker2AssemblyOperator.close(), kafkaRebalanceAssemblyOperator.close())
+                .onComplete(ignored -> {
+                    resourceOperatorSupplier.close();
+                    client.close();
+                    stop.complete();
+                });
     }
 
     /**
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
@@ -50,6 +51,19 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_POD_SET_RECONCILIATION_ONLY = "STRIMZI_POD_SET_RECONCILIATION_ONLY";
     public static final String STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = "STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE";
     public static final String STRIMZI_POD_SECURITY_PROVIDER_CLASS = "STRIMZI_POD_SECURITY_PROVIDER_CLASS";
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final String STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS = "STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE";
+    public static final String STRIMZI_PERIODIC_RECONCILIATION_JITTER_MS = "STRIMZI_PERIODIC_RECONCILIATION_JITTER_MS";
+    public static final String STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS = "STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS";
+    public static final String STRIMZI_CONCURRENT_BROKER_RESTARTS_BY_RACK = "STRIMZI_CONCURRENT_BROKER_RESTARTS_BY_RACK";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_CERT_GENERATION_THREAD_POOL_SIZE = "STRIMZI_CERT_GENERATION_THREAD_POOL_SIZE";
+    public static final String STRIMZI_POD_SET_CONTROLLER_WORKERS = "STRIMZI_POD_SET_CONTROLLER_WORKERS";
+    public static final String STRIMZI_HTTP_CLIENT_MAX_CONNECTIONS = "STRIMZI_HTTP_CLIENT_MAX_CONNECTIONS";
+    public static final String STRIMZI_WATCH_DRIVEN_READINESS_ENABLED = "STRIMZI_WATCH_DRIVEN_READINESS_ENABLED";
+    public static final String STRIMZI_RECONCILIATION_FINGERPRINT_MAX_AGE_MS = "STRIMZI_RECONCILIATION_FINGERPRINT_MAX_AGE_MS";
 
     //Used to identify which cluster operator created a Kubernetes event
     public static final String STRIMZI_OPERATOR_NAME = "STRIMZI_OPERATOR_NAME";
@@ -94,6 +108,19 @@ public class ClusterOperatorConfig {
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
     public static final boolean DEFAULT_POD_SET_RECONCILIATION_ONLY = false;
     public static final String DEFAULT_POD_SECURITY_PROVIDER_CLASS = "io.strimzi.plugin.security.profiles.impl.BaselinePodSecurityProvider";
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+    public static final long DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS = 60_000;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 0;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE = 0;
+    public static final long DEFAULT_PERIODIC_RECONCILIATION_JITTER_MS = 30_000;
+    public static final int DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS = 1;
+    public static final boolean DEFAULT_CONCURRENT_BROKER_RESTARTS_BY_RACK = false;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
+    public static final int DEFAULT_CERT_GENERATION_THREAD_POOL_SIZE = 4;
+    public static final int DEFAULT_POD_SET_CONTROLLER_WORKERS = 1;
+    public static final int DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS = 5;
+    public static final boolean DEFAULT_WATCH_DRIVEN_READINESS_ENABLED = false;
+    public static final long DEFAULT_RECONCILIATION_FINGERPRINT_MAX_AGE_MS = 0;
 
     // PodSecurityPolicy shortcut keywords and the corresponding class names
     public static final String POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = "baseline";
@@ -121,6 +148,19 @@ public class ClusterOperatorConfig {
     private final int podSetControllerWorkQueueSize;
     private final String operatorName;
     private final String podSecurityProviderClass;
+    private final boolean resourceCacheEnabled;
+    private final long resourceCacheMaxStalenessMs;
+    private final int maxConcurrentReconciliations;
+    private final int maxConcurrentReconciliationsPerNamespace;
+    private final long periodicReconciliationJitterMs;
+    private final int maxConcurrentBrokerRestarts;
+    private final boolean concurrentBrokerRestartsByRack;
+    private final CertManagerType certManagerType;
+    private final int certGenerationThreadPoolSize;
+    private final int podSetControllerWorkers;
+    private final int httpClientMaxConnections;
+    private final boolean watchDrivenReadinessEnabled;
+    private final long reconciliationFingerprintMaxAgeMs;
 
     /**
      * Constructor
@@ -146,6 +186,27 @@ public class ClusterOperatorConfig {
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
      * @param operatorName The Pod name of the cluster operator, used to identify source of K8s events the operator creates
      * @param podSecurityProviderClass      The PodSecurityProvider class which the operator should use
+     * @param resourceCacheEnabled          Indicates whether the informer-backed resource cache should be used
+     * @param resourceCacheMaxStalenessMs   For how long can the cached resources be used when the informer is not watching
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations of the same kind running in parallel or
+     *                                      0 to start all reconciliations immediately without the work queue
+     * @param maxConcurrentReconciliationsPerNamespace  Maximal number of reconciliations of the same kind running in
+     *                                      parallel in a single namespace or 0 for no per-namespace limit
+     * @param periodicReconciliationJitterMs Period over which the start of the periodic reconciliations is spread
+     * @param maxConcurrentBrokerRestarts   Maximal number of Kafka brokers which can be restarted in parallel during a
+     *                                      rolling update
+     * @param concurrentBrokerRestartsByRack Indicates whether only brokers from the same rack can be restarted in parallel
+     * @param certManagerType               Implementation of the certificate manager used to generate the certificates
+     * @param certGenerationThreadPoolSize  Number of threads used to generate the certificates of different pods
+     *                                      concurrently or 1 to generate them one by one
+     * @param podSetControllerWorkers       Number of threads used by the StrimziPodSetController to reconcile different
+     *                                      StrimziPodSets in parallel
+     * @param httpClientMaxConnections      Maximal number of kept-alive connections to a single Kafka Connect or Cruise
+     *                                      Control REST API endpoint
+     * @param watchDrivenReadinessEnabled   Indicates whether the operator should wait for the readiness of the pods,
+     *                                      services and other resources using watches instead of polling
+     * @param reconciliationFingerprintMaxAgeMs Time for which an unchanged desired-state fingerprint allows to skip
+     *                                      the reconciliation of the Kafka cluster components or 0 to never skip it
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -168,7 +229,20 @@ public class ClusterOperatorConfig {
             boolean podSetReconciliationOnly,
             int podSetControllerWorkQueueSize,
             String operatorName,
-            String podSecurityProviderClass
+            String podSecurityProviderClass,
+            boolean resourceCacheEnabled,
+            long resourceCacheMaxStalenessMs,
+            int maxConcurrentReconciliations,
+            int maxConcurrentReconciliationsPerNamespace,
+            long periodicReconciliationJitterMs,
+            int maxConcurrentBrokerRestarts,
+            boolean concurrentBrokerRestartsByRack,
+            CertManagerType certManagerType,
+            int certGenerationThreadPoolSize,
+            int podSetControllerWorkers,
+            int httpClientMaxConnections,
+            boolean watchDrivenReadinessEnabled,
+            long reconciliationFingerprintMaxAgeMs
     ) {
         this.namespaces = Set.copyOf(namespaces);
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -190,6 +264,19 @@ public class ClusterOperatorConfig {
         this.podSetControllerWorkQueueSize = podSetControllerWorkQueueSize;
         this.operatorName = operatorName;
         this.podSecurityProviderClass = podSecurityProviderClass;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.resourceCacheMaxStalenessMs = resourceCacheMaxStalenessMs;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.maxConcurrentReconciliationsPerNamespace = maxConcurrentReconciliationsPerNamespace;
+        this.periodicReconciliationJitterMs = periodicReconciliationJitterMs;
+        this.maxConcurrentBrokerRestarts = maxConcurrentBrokerRestarts;
+        this.concurrentBrokerRestartsByRack = concurrentBrokerRestartsByRack;
+        this.certManagerType = certManagerType;
+        this.certGenerationThreadPoolSize = certGenerationThreadPoolSize;
+        this.podSetControllerWorkers = podSetControllerWorkers;
+        this.httpClientMaxConnections = httpClientMaxConnections;
+        this.watchDrivenReadinessEnabled = watchDrivenReadinessEnabled;
+        this.reconciliationFingerprintMaxAgeMs = reconciliationFingerprintMaxAgeMs;
     }
 
     /**
@@ -247,6 +334,19 @@ public class ClusterOperatorConfig {
         boolean podSetReconciliationOnly = parseBoolean(map.get(STRIMZI_POD_SET_RECONCILIATION_ONLY), DEFAULT_POD_SET_RECONCILIATION_ONLY);
         int podSetControllerWorkQueueSize = parseInt(map.get(STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE), DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
         String podSecurityProviderClass = parsePodSecurityProviderClass(map.get(STRIMZI_POD_SECURITY_PROVIDER_CLASS));
+        boolean resourceCacheEnabled = parseBoolean(map.get(STRIMZI_RESOURCE_CACHE_ENABLED), DEFAULT_RESOURCE_CACHE_ENABLED);
+        long resourceCacheMaxStalenessMs = parseTimeout(map.get(STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS), DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS);
+        int maxConcurrentReconciliations = parseInt(map.get(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS), DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+        int maxConcurrentReconciliationsPerNamespace = parseInt(map.get(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE), DEFAULT_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE);
+        long periodicReconciliationJitterMs = parseTimeout(map.get(STRIMZI_PERIODIC_RECONCILIATION_JITTER_MS), DEFAULT_PERIODIC_RECONCILIATION_JITTER_MS);
+        int maxConcurrentBrokerRestarts = parseMaxConcurrentBrokerRestarts(map.get(STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS));
+        boolean concurrentBrokerRestartsByRack = parseBoolean(map.get(STRIMZI_CONCURRENT_BROKER_RESTARTS_BY_RACK), DEFAULT_CONCURRENT_BROKER_RESTARTS_BY_RACK);
+        CertManagerType certManagerType = parseCertManagerType(map.get(STRIMZI_CERT_MANAGER));
+        int certGenerationThreadPoolSize = parseCertGenerationThreadPoolSize(map.get(STRIMZI_CERT_GENERATION_THREAD_POOL_SIZE));
+        int podSetControllerWorkers = parsePodSetControllerWorkers(map.get(STRIMZI_POD_SET_CONTROLLER_WORKERS));
+        int httpClientMaxConnections = parseHttpClientMaxConnections(map.get(STRIMZI_HTTP_CLIENT_MAX_CONNECTIONS));
+        boolean watchDrivenReadinessEnabled = parseBoolean(map.get(STRIMZI_WATCH_DRIVEN_READINESS_ENABLED), DEFAULT_WATCH_DRIVEN_READINESS_ENABLED);
+        long reconciliationFingerprintMaxAgeMs = parseTimeout(map.get(STRIMZI_RECONCILIATION_FINGERPRINT_MAX_AGE_MS), DEFAULT_RECONCILIATION_FINGERPRINT_MAX_AGE_MS);
 
         //Use default to prevent existing installations breaking if CO pod template not modified to pass through pod name
         String operatorName = map.getOrDefault(STRIMZI_OPERATOR_NAME, DEFAULT_OPERATOR_NAME);
@@ -271,7 +371,20 @@ public class ClusterOperatorConfig {
                 podSetReconciliationOnly,
                 podSetControllerWorkQueueSize,
                 operatorName,
-                podSecurityProviderClass);
+                podSecurityProviderClass,
+                resourceCacheEnabled,
+                resourceCacheMaxStalenessMs,
+                maxConcurrentReconciliations,
+                maxConcurrentReconciliationsPerNamespace,
+                periodicReconciliationJitterMs,
+                maxConcurrentBrokerRestarts,
+                concurrentBrokerRestartsByRack,
+                certManagerType,
+                certGenerationThreadPoolSize,
+                podSetControllerWorkers,
+                httpClientMaxConnections,
+                watchDrivenReadinessEnabled,
+                reconciliationFingerprintMaxAgeMs);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -323,6 +436,63 @@ public class ClusterOperatorConfig {
         return value;
     }
 
+    private static int parseMaxConcurrentBrokerRestarts(String envVar) {
+        int maxConcurrentBrokerRestarts = parseInt(envVar, DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS);
+
+        if (maxConcurrentBrokerRestarts < 1) {
+            throw new InvalidConfigurationException(STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS
+                    + " has to be at least 1 (was " + maxConcurrentBrokerRestarts + ")");
+        }
+
+        return maxConcurrentBrokerRestarts;
+    }
+
+    private static int parseCertGenerationThreadPoolSize(String envVar) {
+        int certGenerationThreadPoolSize = parseInt(envVar, DEFAULT_CERT_GENERATION_THREAD_POOL_SIZE);
+
+        if (certGenerationThreadPoolSize < 1) {
+            throw new InvalidConfigurationException(STRIMZI_CERT_GENERATION_THREAD_POOL_SIZE
+                    + " has to be at least 1 (was " + certGenerationThreadPoolSize + ")");
+        }
+
+        return certGenerationThreadPoolSize;
+    }
+
+    private static int parsePodSetControllerWorkers(String envVar) {
+        int podSetControllerWorkers = parseInt(envVar, DEFAULT_POD_SET_CONTROLLER_WORKERS);
+
+        if (podSetControllerWorkers < 1) {
+            throw new InvalidConfigurationException(STRIMZI_POD_SET_CONTROLLER_WORKERS
+                    + " has to be at least 1 (was " + podSetControllerWorkers + ")");
+        }
+
+        return podSetControllerWorkers;
+    }
+
+    private static int parseHttpClientMaxConnections(String envVar) {
+        int httpClientMaxConnections = parseInt(envVar, DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS);
+
+        if (httpClientMaxConnections < 1) {
+            throw new InvalidConfigurationException(STRIMZI_HTTP_CLIENT_MAX_CONNECTIONS
+                    + " has to be at least 1 (was " + httpClientMaxConnections + ")");
+        }
+
+        return httpClientMaxConnections;
+    }
+
+    private static CertManagerType parseCertManagerType(String envVar) {
+        if (envVar == null) {
+            return DEFAULT_CERT_MANAGER;
+        }
+
+        try {
+            return CertManagerType.forName(envVar);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException(envVar + " is not a valid " + STRIMZI_CERT_MANAGER + " value. "
+                    + STRIMZI_CERT_MANAGER + " can have one of the following values: openssl, jca.", e);
+        }
+    }
+
     /* test */ static boolean parseBoolean(String envVar, boolean defaultValue) {
         boolean value = defaultValue;
 
@@ -577,6 +747,98 @@ public class ClusterOperatorConfig {
         return podSecurityProviderClass;
     }
 
+    /**
+     * @return Indicates whether the informer-backed resource cache should be used
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return For how long can the cached resources be used when the informer is not watching
+     */
+    public long getResourceCacheMaxStalenessMs() {
+        return resourceCacheMaxStalenessMs;
+    }
+
+    /**
+     * @return Maximal number of reconciliations of the same kind running in parallel or 0 when the work queue is disabled
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return Maximal number of reconciliations of the same kind running in parallel in a single namespace or 0 for no limit
+     */
+    public int getMaxConcurrentReconciliationsPerNamespace() {
+        return maxConcurrentReconciliationsPerNamespace;
+    }
+
+    /**
+     * @return Period over which the start of the periodic reconciliations is spread
+     */
+    public long getPeriodicReconciliationJitterMs() {
+        return periodicReconciliationJitterMs;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers which can be restarted in parallel during a rolling update
+     */
+    public int getMaxConcurrentBrokerRestarts() {
+        return maxConcurrentBrokerRestarts;
+    }
+
+    /**
+     * @return Indicates whether only brokers from the same rack can be restarted in parallel
+     */
+    public boolean isConcurrentBrokerRestartsByRack() {
+        return concurrentBrokerRestartsByRack;
+    }
+
+    /**
+     * @return Implementation of the certificate manager used to generate the certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
+    /**
+     * @return Number of threads used to generate the certificates of different pods concurrently
+     */
+    public int getCertGenerationThreadPoolSize() {
+        return certGenerationThreadPoolSize;
+    }
+
+    /**
+     * @return Number of threads used by the StrimziPodSetController to reconcile different StrimziPodSets in parallel
+     */
+    public int getPodSetControllerWorkers() {
+        return podSetControllerWorkers;
+    }
+
+    /**
+     * @return Maximal number of kept-alive connections to a single Kafka Connect or Cruise Control REST API endpoint
+     */
+    public int getHttpClientMaxConnections() {
+        return httpClientMaxConnections;
+    }
+
+    /**
+     * @return Indicates whether the operator should wait for the readiness of the resources using watches instead of polling
+     */
+    public boolean isWatchDrivenReadinessEnabled() {
+        return watchDrivenReadinessEnabled;
+    }
+
+    /**
+     * @return Time for which an unchanged desired-state fingerprint allows to skip the reconciliation of the Kafka
+     *         cluster components or 0 when it is never skipped
+     */
+    public long getReconciliationFingerprintMaxAgeMs() {
+        return reconciliationFingerprintMaxAgeMs;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -599,6 +861,19 @@ public class ClusterOperatorConfig {
                 ",podSetControllerWorkQueueSize=" + podSetControllerWorkQueueSize +
                 ",operatorName=" + operatorName +
                 ",podSecurityProviderClass=" + podSecurityProviderClass +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",resourceCacheMaxStalenessMs=" + resourceCacheMaxStalenessMs +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",maxConcurrentReconciliationsPerNamespace=" + maxConcurrentReconciliationsPerNamespace +
+                ",periodicReconciliationJitterMs=" + periodicReconciliationJitterMs +
+                ",maxConcurrentBrokerRestarts=" + maxConcurrentBrokerRestarts +
+                ",concurrentBrokerRestartsByRack=" + concurrentBrokerRestartsByRack +
+                ",certManagerType=" + certManagerType +
+                ",certGenerationThreadPoolSize=" + certGenerationThreadPoolSize +
+                ",podSetControllerWorkers=" + podSetControllerWorkers +
+                ",httpClientMaxConnections=" + httpClientMaxConnections +
+                ",watchDrivenReadinessEnabled=" + watchDrivenReadinessEnabled +
+                ",reconciliationFingerprintMaxAgeMs=" + reconciliationFingerprintMaxAgeMs +
                 ")";
     }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Configuration model of the Kafka brokers of a given Kafka version. The model is read from the classpath and parsed
+ * only once per Kafka version and then cached, because it is used in every reconciliation and for every broker during
+ * rolling updates. The cached model is shared, so it keeps only read-only copies of the parsed configuration models.
+ */
+public class KafkaConfigModel {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<String, KafkaConfigModel> MODELS = new ConcurrentHashMap<>();
+
+    private final Map<String, ConfigModel> configs;
+    private final Map<Scope, Set<String>> configsByScope = new EnumMap<>(Scope.class);
+    private final Set<String> dynamicallyUpdatableConfigs;
+
+    private KafkaConfigModel(Map<String, ConfigModel> parsedConfigs) {
+        Map<String, ConfigModel> configs = new HashMap<>(parsedConfigs.size());
+        for (Map.Entry<String, ConfigModel> config : parsedConfigs.entrySet()) {
+            configs.put(config.getKey(), new ReadOnlyConfigModel(config.getValue()));
+        }
+        this.configs = Collections.unmodifiableMap(configs);
+
+        Set<String> dynamicallyUpdatable = new HashSet<>();
+        for (Map.Entry<String, ConfigModel> config : configs.entrySet()) {
+            Scope scope = config.getValue().getScope();
+
+            if (scope != null) {
+                configsByScope.computeIfAbsent(scope, s -> new HashSet<>()).add(config.getKey());
+            }
+
+            if (!Scope.READ_ONLY.equals(scope)) {
+                dynamicallyUpdatable.add(config.getKey());
+            }
+        }
+
+        configsByScope.replaceAll((scope, names) -> Collections.unmodifiableSet(names));
+        this.dynamicallyUpdatableConfigs = Collections.unmodifiableSet(dynamicallyUpdatable);
+    }
+
+    /**
+     * Gets the config model for the given version of the Kafka broker.
+     *
+     * @param kafkaVersion  The broker version
+     *
+     * @return  The config model for that broker version
+     */
+    public static KafkaConfigModel forVersion(KafkaVersion kafkaVersion) {
+        return MODELS.computeIfAbsent(kafkaVersion.version(), version -> new KafkaConfigModel(read(version)));
+    }
+
+    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
+    private static Map<String, ConfigModel> read(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try {
+            try (InputStream in = KafkaConfigModel.class.getResourceAsStream(name)) {
+                if (in != null) {
+                    ConfigModels configModels = MAPPER.readValue(in, ConfigModels.class);
+                    if (!version.equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return configModels.getConfigs();
+                } else {
+                    // The configuration model does not exist
+                    throw new RuntimeException("Configuration model " + name + " was not found");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+
+    /**
+     * @return  Unmodifiable map with the read-only models of all the broker configuration options indexed by their
+     *          names
+     */
+    public Map<String, ConfigModel> configs() {
+        return configs;
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  True if the configuration option is a known broker configuration option. False otherwise.
+     */
+    public boolean isKnown(String name) {
+        return configs.containsKey(name);
+    }
+
+    /**
+     * @param scope     Scope of the configuration options
+     *
+     * @return  Unmodifiable set with the names of the configuration options with the given scope
+     */
+    public Set<String> configsWithScope(Scope scope) {
+        return configsByScope.getOrDefault(scope, Set.of());
+    }
+
+    /**
+     * @param name  Name of the configuration option
+     *
+     * @return  True if the configuration option is a known broker configuration option which can be updated without
+     *          restarting the broker. False otherwise.
+     */
+    public boolean isDynamicallyUpdatable(String name) {
+        return dynamicallyUpdatableConfigs.contains(name);
+    }
+
+    /**
+     * Validates the value of a configuration option. Unknown options are not validated because they might be
+     * intended for plugins.
+     *
+     * @param name      Name of the configuration option
+     * @param value     Value of the configuration option
+     *
+     * @return  List with the validation errors
+     */
+    public List<String> validate(String name, String value) {
+        ConfigModel config = configs.get(name);
+        return config != null ? config.validate(name, value) : emptyList();
+    }
+
+    /**
+     * Read-only copy of a configuration model parsed from the JSON file. The setters used by Jackson throw
+     * UnsupportedOperationException and the lists of the allowed items and values are unmodifiable, so the copy can be
+     * safely shared by all users of the cached model.
+     */
+    private static class ReadOnlyConfigModel extends ConfigModel {
+        ReadOnlyConfigModel(ConfigModel parsed) {
+            super.setScope(parsed.getScope());
+            super.setType(parsed.getType());
+            super.setMinimum(parsed.getMinimum());
+            super.setMaximum(parsed.getMaximum());
+            super.setItems(parsed.getItems() != null ? Collections.unmodifiableList(new ArrayList<>(parsed.getItems())) : null);
+            super.setValues(parsed.getValues() != null ? Collections.unmodifiableList(new ArrayList<>(parsed.getValues())) : null);
+            super.setPattern(parsed.getPattern());
+        }
+
+        @Override
+        public void setScope(Scope scope) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+
+        @Override
+        public void setType(Type type) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+
+        @Override
+        public void setMinimum(Number minimum) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+
+        @Override
+        public void setMaximum(Number maximum) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+
+        @Override
+        public void setItems(List<String> items) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+
+        @Override
+        public void setValues(List<String> values) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+
+        @Override
+        public void setPattern(String pattern) {
+            throw new UnsupportedOperationException("The cached configuration model cannot be modified");
+        }
+    }
+}
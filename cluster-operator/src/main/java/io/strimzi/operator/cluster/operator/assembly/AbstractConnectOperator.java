@@ -47,6 +47,7 @@ import io.strimzi.operator.cluster.model.KafkaConnectCluster;
 import io.strimzi.operator.cluster.model.KafkaConnectorConfiguration;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
@@ -152,6 +153,51 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.port = port;
     }
 
+    /**
+     * Creates the provider of the Kafka Connect API clients which share a pool of kept-alive HTTP connections
+     *
+     * @param vertx     Vert.x instance
+     * @param name      Name of the HTTP client pool used in the metrics
+     * @param supplier  Supplies the metrics provider
+     * @param config    Cluster Operator configuration with the maximal number of connections to a single endpoint
+     *
+     * @return  Function which creates the Kafka Connect API clients
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, String name,
+                                                                                  ResourceOperatorSupplier supplier,
+                                                                                  ClusterOperatorConfig config) {
+        return new PooledConnectClientProvider(new HttpClientPool(vertx, name, config.getHttpClientMaxConnections(), supplier.metricsProvider));
+    }
+
+    /**
+     * Closes the pooled HTTP clients used to connect to the Kafka Connect REST API when the operator shuts down
+     *
+     * @return  Future which completes when the HTTP clients are closed
+     */
+    public Future<Void> close() {
+        if (connectClientProvider instanceof PooledConnectClientProvider) {
+            return ((PooledConnectClientProvider) connectClientProvider).httpClientPool.close();
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
+    /**
+     * Provider of the Kafka Connect API clients which share a pool of kept-alive HTTP connections
+     */
+    private static class PooledConnectClientProvider implements Function<Vertx, KafkaConnectApi> {
+        private final HttpClientPool httpClientPool;
+
+        PooledConnectClientProvider(HttpClientPool httpClientPool) {
+            this.httpClientPool = httpClientPool;
+        }
+
+        @Override
+        public KafkaConnectApi apply(Vertx vertx) {
+            return new KafkaConnectApiImpl(vertx, httpClientPool);
+        }
+    }
+
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
@@ -351,19 +397,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithStatusAndInfo(reconciliation, host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            // Config and status of all running connectors fetched in a single request. The connectors are reconciled
+            // against this snapshot instead of getting the config and status of each connector separately.
+            Map<String, ConnectorStatusAndInfo> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
@@ -372,7 +420,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -400,6 +448,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, ConnectorStatusAndInfo> runningConnectors) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -415,7 +469,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -454,7 +508,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, ConnectorStatusAndInfo> runningConnectors) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -472,7 +527,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors);
             }
         }
     }
@@ -492,40 +547,93 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the config and status of the connector from the snapshot of all running connectors instead of getting
+     * them from the REST API.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param runningConnectors The config and status of all connectors running in the Connect cluster or null to get
+     *                          the config and status of this connector from the REST API.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, ConnectorStatusAndInfo> runningConnectors) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
 
+        if (runningConnectors != null) {
+            ConnectorStatusAndInfo current = runningConnectors.get(connectorName);
+
+            if (current != null) {
+                return maybeUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, desiredConfig, current.config(), current.status());
+            } else {
+                LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+                return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
+            }
+        }
+
         return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
-            currentConfig -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
-                } else {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
-                }
-            },
+            currentConfig -> maybeUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, desiredConfig, currentConfig, null),
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    /**
+     * Updates the existing connector if its config differs from the desired config. Otherwise, it just pauses or
+     * resumes and restarts the connector and its tasks when needed. When the current status of the connector is
+     * known and the connector was not paused, resumed or restarted, the current status is used instead of getting the
+     * status from the REST API again.
+     */
+    private Future<ConnectorStatusAndConditions> maybeUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                      String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                      KafkaConnectorConfiguration desiredConfig, Map<String, String> currentConfig,
+                                                                      Map<String, Object> currentStatus) {
+        if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
+            LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+            boolean restart = hasRestartAnnotation(resource, connectorName) || getRestartTaskAnnotationTaskID(resource, connectorName) >= 0;
+            Future<Map<String, Object>> status = currentStatus != null ? Future.succeededFuture(currentStatus) : apiClient.status(reconciliation, host, port, connectorName);
+
+            return status
+                .compose(currentState -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, currentState)
+                    .compose(stateChanged -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>())
+                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                        .compose(conditions -> {
+                            if (currentStatus != null && !stateChanged && !restart) {
+                                return createConnectorStatusAndConditions(conditions).apply(currentStatus);
+                            } else {
+                                return apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                                    .compose(createConnectorStatusAndConditions(conditions));
+                            }
+                        })))
+                .compose(connectorStatus -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, connectorStatus));
+        } else {
+            LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+            return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig);
+        }
+    }
+
+    private Future<ConnectorStatusAndConditions> createConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                 String connectorName, KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -555,7 +663,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
-    private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+    /**
+     * Pauses or resumes the connector if its state does not match the desired state.
+     *
+     * @return  Future which completes with true if the connector was paused or resumed and false otherwise
+     */
+    private Future<Boolean> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
             return Future.failedFuture("JSON response lacked $.connector.state");
@@ -564,12 +677,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
             if ("RUNNING".equals(state) && shouldPause) {
                 LOGGER.debugCr(reconciliation, "Pausing connector {}", connectorName);
-                return apiClient.pause(host, port, connectorName);
+                return apiClient.pause(host, port, connectorName).map(true);
             } else if ("PAUSED".equals(state) && !shouldPause) {
                 LOGGER.debugCr(reconciliation, "Resuming connector {}", connectorName);
-                return apiClient.resume(host, port, connectorName);
+                return apiClient.resume(host, port, connectorName).map(true);
             } else {
-                return Future.succeededFuture();
+                return Future.succeededFuture(false);
             }
         }
     }
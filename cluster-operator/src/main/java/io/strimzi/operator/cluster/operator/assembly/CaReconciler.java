@@ -35,6 +35,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -54,6 +55,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -67,6 +69,8 @@ public class CaReconciler {
     private final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxConcurrentBrokerRestarts;
+    private final boolean concurrentBrokerRestartsByRack;
     private final FeatureGates featureGates;
 
     private final DeploymentOperator deploymentOperator;
@@ -79,6 +83,8 @@ public class CaReconciler {
     private final CertManager certManager;
     private final PasswordGenerator passwordGenerator;
     private final KubernetesRestartEventPublisher eventPublisher;
+    private final Executor certGenerationExecutor;
+    private final MetricsProvider metricsProvider;
 
     // Fields based on the Kafka CR required for the reconciliation
     private final List<String> maintenanceWindows;
@@ -114,10 +120,39 @@ public class CaReconciler {
             Vertx vertx,
             CertManager certManager,
             PasswordGenerator passwordGenerator
+    ) {
+        this(reconciliation, kafkaCr, config, supplier, vertx, certManager, passwordGenerator, null);
+    }
+
+    /**
+     * Constructs the CA reconciler which reconciles the Cluster and Client CAs
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param kafkaCr                   The Kafka custom resource
+     * @param config                    Cluster Operator Configuration
+     * @param supplier                  Supplier with Kubernetes Resource Operators
+     * @param vertx                     Vert.x instance
+     * @param certManager               Certificate Manager for managing certificates
+     * @param passwordGenerator         Password generator for generating passwords
+     * @param certGenerationExecutor    Executor used to generate the certificates of different pods concurrently or
+     *                                  null to generate them one by one
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public CaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            Vertx vertx,
+            CertManager certManager,
+            PasswordGenerator passwordGenerator,
+            Executor certGenerationExecutor
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxConcurrentBrokerRestarts = config.getMaxConcurrentBrokerRestarts();
+        this.concurrentBrokerRestartsByRack = config.isConcurrentBrokerRestartsByRack();
         this.featureGates = config.featureGates();
 
         this.deploymentOperator = supplier.deploymentOperations;
@@ -130,6 +165,8 @@ public class CaReconciler {
         this.zookeeperLeaderFinder = supplier.zookeeperLeaderFinder;
         this.certManager = certManager;
         this.passwordGenerator = passwordGenerator;
+        this.certGenerationExecutor = certGenerationExecutor;
+        this.metricsProvider = supplier.metricsProvider;
 
         this.eventPublisher = supplier.restartEventsPublisher;
 
@@ -263,6 +300,7 @@ public class CaReconciler {
                             ModelUtils.getRenewalDays(clusterCaConfig),
                             clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
                     clusterCa.initCaSecrets(clusterSecrets);
+                    clusterCa.configureCertGeneration(certGenerationExecutor, metricsProvider);
                     clusterCa.createRenewOrReplace(
                             reconciliation.namespace(), reconciliation.name(), caLabels,
                             clusterCaCertLabels, clusterCaCertAnnotations,
@@ -439,7 +477,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                maxConcurrentBrokerRestarts,
+                concurrentBrokerRestartsByRack
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Status and info of a single connector as returned by the {@code /connectors?expand=status&expand=info} endpoint of
+ * the Kafka Connect REST API.
+ */
+public class ConnectorStatusAndInfo {
+    private final Map<String, Object> status;
+    private final Map<String, Object> info;
+
+    /**
+     * Constructor
+     *
+     * @param status    Connector status in the same format as returned by {@code /connectors/${connectorName}/status}
+     * @param info      Connector info in the same format as returned by {@code /connectors/${connectorName}}
+     */
+    public ConnectorStatusAndInfo(Map<String, Object> status, Map<String, Object> info) {
+        this.status = status != null ? status : emptyMap();
+        this.info = info != null ? info : emptyMap();
+    }
+
+    /**
+     * @return  The connector status
+     */
+    public Map<String, Object> status() {
+        return status;
+    }
+
+    /**
+     * @return  The connector configuration in the same format as returned by {@code /connectors/${connectorName}/config}
+     */
+    public Map<String, String> config() {
+        Object config = info.get("config");
+        Map<String, String> result = new HashMap<>();
+
+        if (config instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) config).entrySet()) {
+                if (entry.getValue() != null) {
+                    result.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.operator.cluster.model.ClientsCa;
+import io.strimzi.operator.cluster.model.ClusterCa;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.model.Labels;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Fingerprint of everything the resources generated for a Kafka cluster are derived from: the generation, labels and
+ * annotations of the Kafka custom resource, the generations of the CAs, the operator version and configuration
+ * (including the default images and Kafka versions) and the resourceVersions of the resources belonging to the cluster
+ * and of the Secrets and ConfigMaps referenced from the Kafka custom resource as observed after the last full
+ * reconciliation. When the fingerprint stored in the Kafka custom resource matches the current one, nothing changed
+ * since the last full reconciliation and the reconciliation of the individual components can be skipped.
+ *
+ * Some inputs, such as the Kubernetes nodes used for rack awareness, are not part of the fingerprint. The fingerprint
+ * therefore includes the current period of the maximal fingerprint age so that the cluster is still fully reconciled at
+ * least once in every period. The periods are offset per cluster so that the clusters managed by the operator do not
+ * all start their full reconciliation at the same time.
+ */
+public class DesiredStateFingerprint {
+    /**
+     * Annotation used to store the fingerprint in the Kafka custom resource
+     */
+    public static final String ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT = Annotations.STRIMZI_DOMAIN + "desired-state-fingerprint";
+
+    // Conditions which are added to the status again by the validation of the custom resource
+    private static final Set<String> VALIDATION_REASONS = Set.of("DeprecatedFields", "DeprecatedObjects", "UnknownFields");
+
+    private DesiredStateFingerprint() {
+        // Static utility class
+    }
+
+    /**
+     * Calculates the fingerprint of the Kafka cluster
+     *
+     * @param kafka             Kafka custom resource
+     * @param clusterCa         Cluster CA
+     * @param clientsCa         Clients CA
+     * @param versions          Supported Kafka versions
+     * @param operatorVersion   Version of the operator
+     * @param env               Environment variables of the operator
+     * @param maxAgeMs          Maximal age of the fingerprint
+     * @param nowMs             Current time
+     * @param children          Resources belonging to the Kafka cluster and the Secrets and ConfigMaps referenced from
+     *                          the Kafka custom resource. Secrets of the KafkaUsers are ignored.
+     *
+     * @return  SHA-256 hash of the fingerprint inputs
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public static String fingerprint(Kafka kafka, ClusterCa clusterCa, ClientsCa clientsCa, KafkaVersion.Lookup versions,
+                                     String operatorVersion, Map<String, String> env, long maxAgeMs, long nowMs,
+                                     List<? extends HasMetadata> children) {
+        StringBuilder inputs = new StringBuilder();
+
+        Map<String, String> annotations = new TreeMap<>(Annotations.annotations(kafka));
+        annotations.remove(ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT);
+
+        inputs.append("generation=").append(kafka.getMetadata().getGeneration()).append('\n')
+                .append("labels=").append(new TreeMap<>(kafka.getMetadata().getLabels() != null ? kafka.getMetadata().getLabels() : Map.of())).append('\n')
+                .append("annotations=").append(annotations).append('\n')
+                .append("clusterCa=").append(clusterCa.certGeneration()).append('/').append(clusterCa.keyGeneration()).append('\n')
+                .append("clientsCa=").append(clientsCa.certGeneration()).append('/').append(clientsCa.keyGeneration()).append('\n')
+                .append("operatorVersion=").append(operatorVersion).append('\n')
+                .append("defaultKafkaVersion=").append(versions.defaultVersion().version()).append('\n')
+                .append("period=").append(period(kafka, maxAgeMs, nowMs)).append('\n');
+
+        Map<String, String> operatorConfig = new TreeMap<>();
+        for (Map.Entry<String, String> entry : env.entrySet()) {
+            if (entry.getKey().startsWith("STRIMZI_")) {
+                operatorConfig.put(entry.getKey(), entry.getValue());
+            }
+        }
+        inputs.append("operatorConfig=").append(operatorConfig).append('\n');
+
+        Set<String> resourceVersions = new TreeSet<>();
+        for (HasMetadata child : children) {
+            if (isKafkaUserResource(child)) {
+                // The KafkaUser Secrets use the cluster label as well, but the Kafka cluster does not depend on them
+                continue;
+            }
+
+            resourceVersions.add(child.getKind() + "/" + child.getMetadata().getName() + "=" + child.getMetadata().getResourceVersion());
+        }
+        inputs.append("children=").append(resourceVersions).append('\n');
+
+        return sha256(inputs.toString());
+    }
+
+    /**
+     * Finds the names of the Secrets referenced from the Kafka custom resource, such as the custom listener
+     * certificates, the OAuth client secrets and trusted certificates or the Secret keys used in container environment
+     * variables.
+     *
+     * @param kafka     Kafka custom resource
+     *
+     * @return  Names of the referenced Secrets
+     */
+    public static Set<String> referencedSecrets(Kafka kafka) {
+        Set<String> names = new TreeSet<>();
+        collectReferences(Serialization.jsonMapper().valueToTree(kafka.getSpec()), "secretName", "secretKeyRef", names);
+        return names;
+    }
+
+    /**
+     * Finds the names of the ConfigMaps referenced from the Kafka custom resource, such as the external logging and
+     * metrics configuration.
+     *
+     * @param kafka     Kafka custom resource
+     *
+     * @return  Names of the referenced ConfigMaps
+     */
+    public static Set<String> referencedConfigMaps(Kafka kafka) {
+        Set<String> names = new TreeSet<>();
+        collectReferences(Serialization.jsonMapper().valueToTree(kafka.getSpec()), null, "configMapKeyRef", names);
+        return names;
+    }
+
+    /**
+     * Walks the JSON tree and collects the values of the name fields and the names of the key selectors
+     *
+     * @param node          JSON node
+     * @param nameField     Field holding the name of the referenced resource or null
+     * @param keyRefField   Field holding the key selector of the referenced resource
+     * @param names         Set to which the names are added
+     */
+    private static void collectReferences(JsonNode node, String nameField, String keyRefField, Set<String> names) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.isObject()) {
+            if (nameField != null && node.path(nameField).isTextual()) {
+                names.add(node.get(nameField).asText());
+            }
+
+            if (node.path(keyRefField).path("name").isTextual()) {
+                names.add(node.get(keyRefField).get("name").asText());
+            }
+        }
+
+        Iterator<JsonNode> elements = node.elements();
+        while (elements.hasNext()) {
+            collectReferences(elements.next(), nameField, keyRefField, names);
+        }
+    }
+
+    /**
+     * Calculates the current period of the maximal fingerprint age. The periods are offset based on the namespace and
+     * name of the cluster so that the periods of different clusters do not end at the same time.
+     *
+     * @param kafka     Kafka custom resource
+     * @param maxAgeMs  Maximal age of the fingerprint
+     * @param nowMs     Current time
+     *
+     * @return  Index of the current period
+     */
+    /* test */ static long period(Kafka kafka, long maxAgeMs, long nowMs) {
+        long offset = Math.floorMod((long) (kafka.getMetadata().getNamespace() + "/" + kafka.getMetadata().getName()).hashCode(), maxAgeMs);
+        return (nowMs + offset) / maxAgeMs;
+    }
+
+    private static boolean isKafkaUserResource(HasMetadata resource) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        return labels != null && "KafkaUser".equals(labels.get(Labels.STRIMZI_KIND_LABEL));
+    }
+
+    /**
+     * Copies the parts of the status which are set during the full reconciliation from the current status of the
+     * custom resource to the new status. This is used when the reconciliation of the components was skipped. The
+     * readiness conditions and the conditions added by the validation are not copied because they are set again.
+     *
+     * @param current   Current status of the Kafka custom resource
+     * @param desired   New status of the Kafka custom resource
+     */
+    public static void copyStatus(KafkaStatus current, KafkaStatus desired) {
+        if (current == null) {
+            return;
+        }
+
+        desired.setListeners(current.getListeners());
+        desired.setClusterId(current.getClusterId());
+
+        if (current.getConditions() != null) {
+            List<Condition> conditions = new ArrayList<>();
+
+            for (Condition condition : current.getConditions()) {
+                if (!"Ready".equals(condition.getType())
+                        && !"NotReady".equals(condition.getType())
+                        && !VALIDATION_REASONS.contains(condition.getReason())) {
+                    conditions.add(condition);
+                }
+            }
+
+            desired.addConditions(conditions);
+        }
+    }
+
+    private static String sha256(String inputs) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(inputs.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-256 hash", e);
+        }
+    }
+}
@@ -40,6 +40,8 @@ import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.StepGraph;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.CompositeFuture;
@@ -47,7 +49,14 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static io.strimzi.operator.cluster.model.AbstractModel.ANNO_STRIMZI_IO_STORAGE;
@@ -72,6 +81,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final KubernetesRestartEventPublisher eventsPublisher;
+    private final ExecutorService certGenerationExecutor;
 
     /**
      * @param vertx The Vertx instance
@@ -95,6 +105,31 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.crdOperator = supplier.kafkaOperator;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
         this.eventsPublisher = supplier.restartEventsPublisher;
+        this.certGenerationExecutor = createCertGenerationExecutor(config.getCertGenerationThreadPoolSize());
+    }
+
+    /**
+     * Creates the bounded executor used to generate the certificates of different pods concurrently. Its threads are
+     * stopped when they are idle, so the executor does not need to be shut down.
+     *
+     * @param threads   Maximal number of certificates generated concurrently
+     *
+     * @return  The executor or null if the certificates should be generated one by one
+     */
+    private static ExecutorService createCertGenerationExecutor(int threads) {
+        if (threads < 2) {
+            return null;
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "cert-generation-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
     }
 
     @Override
@@ -148,26 +183,43 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             }
         }
 
-        reconcileState.initialStatus()
+        new StepGraph(reconcileState.reconciliation, supplier.metricsProvider)
                 // Preparation steps => prepare cluster descriptions, handle CA creation or changes
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.versionChange())
+                .step("initialStatus", () -> reconcileState.initialStatus().mapEmpty())
+                .step("reconcileCas", () -> reconcileState.reconcileCas(this::dateSupplier).mapEmpty(), "initialStatus")
+                .step("checkFingerprint", reconcileState::checkFingerprint, "reconcileCas")
+                .step("versionChange", unlessUpToDate(reconcileState, () -> reconcileState.versionChange().mapEmpty()), "checkFingerprint")
 
                 // Run reconciliations of the different components
-                .compose(state -> featureGates.useKRaftEnabled() ? Future.succeededFuture(state) : state.reconcileZooKeeper(this::dateSupplier))
-                .compose(state -> state.reconcileKafka(this::dateSupplier))
-                .compose(state -> state.reconcileEntityOperator(this::dateSupplier))
-                .compose(state -> state.reconcileCruiseControl(this::dateSupplier))
-                .compose(state -> state.reconcileKafkaExporter(this::dateSupplier))
-                .compose(state -> state.reconcileJmxTrans())
+                .step("reconcileZooKeeper", unlessUpToDate(reconcileState, () -> featureGates.useKRaftEnabled() ? Future.succeededFuture() : reconcileState.reconcileZooKeeper(this::dateSupplier).mapEmpty()), "versionChange")
+                .step("reconcileKafka", unlessUpToDate(reconcileState, () -> reconcileState.reconcileKafka(this::dateSupplier).mapEmpty()), "reconcileZooKeeper")
+                // The remaining components depend only on the Kafka cluster and not on each other
+                .step("reconcileEntityOperator", unlessUpToDate(reconcileState, () -> reconcileState.reconcileEntityOperator(this::dateSupplier).mapEmpty()), "reconcileKafka")
+                .step("reconcileCruiseControl", unlessUpToDate(reconcileState, () -> reconcileState.reconcileCruiseControl(this::dateSupplier).mapEmpty()), "reconcileKafka")
+                .step("reconcileKafkaExporter", unlessUpToDate(reconcileState, () -> reconcileState.reconcileKafkaExporter(this::dateSupplier).mapEmpty()), "reconcileKafka")
+                .step("reconcileJmxTrans", unlessUpToDate(reconcileState, () -> reconcileState.reconcileJmxTrans().mapEmpty()), "reconcileKafka")
+                .step("updateFingerprint", unlessUpToDate(reconcileState, reconcileState::updateFingerprint), "reconcileEntityOperator", "reconcileCruiseControl", "reconcileKafkaExporter", "reconcileJmxTrans")
 
                 // Finish the reconciliation
-                .map((Void) null)
+                .execute()
                 .onComplete(chainPromise);
 
         return chainPromise.future();
     }
 
+    /**
+     * Wraps a reconciliation step so that it is skipped when the desired state of the cluster did not change since the
+     * last full reconciliation.
+     *
+     * @param reconcileState    Reconciliation state
+     * @param step              The reconciliation step
+     *
+     * @return  The wrapped reconciliation step
+     */
+    private static Supplier<Future<Void>> unlessUpToDate(ReconciliationState reconcileState, Supplier<Future<Void>> step)    {
+        return () -> reconcileState.upToDate ? Future.succeededFuture() : step.get();
+    }
+
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
         return new ReconciliationState(reconciliation, kafkaAssembly);
     }
@@ -192,6 +244,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         /* test */ KafkaStatus kafkaStatus = new KafkaStatus();
 
+        // Indicates that the desired state did not change since the last full reconciliation and that the
+        // reconciliation of the individual components is skipped
+        /* test */ boolean upToDate = false;
+
         ReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
             this.reconciliation = reconciliation;
             this.kafkaAssembly = kafkaAssembly;
@@ -344,7 +400,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  CaReconciler instance
          */
         CaReconciler caReconciler()   {
-            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator);
+            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator, certGenerationExecutor);
         }
 
         /**
@@ -363,6 +419,151 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     });
         }
 
+        /**
+         * Indicates whether the desired-state fingerprint is used for this cluster. It is not used when the Kafka
+         * cluster has maintenance time windows, because the operations postponed to the maintenance time window would
+         * not be started when the fingerprint did not change.
+         *
+         * @return  True if the fingerprint is used. False otherwise.
+         */
+        private boolean fingerprintEnabled()    {
+            return config.getReconciliationFingerprintMaxAgeMs() > 0
+                    && (kafkaAssembly.getSpec().getMaintenanceTimeWindows() == null || kafkaAssembly.getSpec().getMaintenanceTimeWindows().isEmpty());
+        }
+
+        /**
+         * Indicates whether the last reconciliation of the current generation of the Kafka custom resource succeeded
+         *
+         * @return  True if the Kafka cluster was ready after the last reconciliation. False otherwise.
+         */
+        private boolean lastReconciliationSucceeded()   {
+            KafkaStatus status = kafkaAssembly.getStatus();
+
+            return status != null
+                    && status.getConditions() != null
+                    && kafkaAssembly.getMetadata().getGeneration() != null
+                    && status.getObservedGeneration() == kafkaAssembly.getMetadata().getGeneration()
+                    && status.getConditions().stream().anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+        }
+
+        /**
+         * Calculates the desired-state fingerprint from the Kafka custom resource, CAs, operator configuration and the
+         * resources belonging to the Kafka cluster or referenced from the Kafka custom resource.
+         *
+         * @return  Future with the fingerprint
+         */
+        Future<String> fingerprint()   {
+            Labels selector = Labels.forStrimziCluster(name);
+
+            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+            List<Future> lists = List.of(
+                    supplier.secretOperations.listAsync(namespace, selector),
+                    supplier.configMapOperations.listAsync(namespace, selector),
+                    supplier.serviceOperations.listAsync(namespace, selector),
+                    featureGates.useStrimziPodSetsEnabled() ? strimziPodSetOperator.listAsync(namespace, selector) : stsOperations.listAsync(namespace, selector),
+                    supplier.deploymentOperations.listAsync(namespace, selector),
+                    supplier.podOperations.listAsync(namespace, selector),
+                    supplier.pvcOperations.listAsync(namespace, selector));
+
+            // Secrets and ConfigMaps provided by the user do not have the cluster label and have to be fetched by name
+            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+            List<Future> referenced = new ArrayList<>();
+            for (String secretName : DesiredStateFingerprint.referencedSecrets(kafkaAssembly)) {
+                referenced.add(supplier.secretOperations.getAsync(namespace, secretName));
+            }
+            for (String configMapName : DesiredStateFingerprint.referencedConfigMaps(kafkaAssembly)) {
+                referenced.add(supplier.configMapOperations.getAsync(namespace, configMapName));
+            }
+
+            return CompositeFuture.join(lists)
+                    .compose(res -> CompositeFuture.join(referenced).map(refs -> {
+                        List<HasMetadata> children = new ArrayList<>();
+
+                        for (int i = 0; i < res.size(); i++) {
+                            children.addAll(res.resultAt(i));
+                        }
+
+                        for (int i = 0; i < refs.size(); i++) {
+                            HasMetadata resource = refs.resultAt(i);
+
+                            // Missing resources are left out so that the fingerprint changes when they are created
+                            if (resource != null) {
+                                children.add(resource);
+                            }
+                        }
+
+                        return DesiredStateFingerprint.fingerprint(kafkaAssembly, clusterCa, clientsCa, versions,
+                                KafkaAssemblyOperator.class.getPackage().getImplementationVersion(), System.getenv(),
+                                config.getReconciliationFingerprintMaxAgeMs(), System.currentTimeMillis(), children);
+                    }));
+        }
+
+        /**
+         * Compares the current desired-state fingerprint with the fingerprint stored in the Kafka custom resource after
+         * the last full reconciliation. When they match, the reconciliation of the individual components is skipped
+         * and the status is taken over from the Kafka custom resource.
+         *
+         * @return  Future which completes when the fingerprint is checked
+         */
+        Future<Void> checkFingerprint()   {
+            String storedFingerprint = Annotations.stringAnnotation(kafkaAssembly, DesiredStateFingerprint.ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT, null);
+
+            if (!fingerprintEnabled() || storedFingerprint == null || !lastReconciliationSucceeded()) {
+                return Future.succeededFuture();
+            }
+
+            return fingerprint()
+                    .compose(fingerprint -> {
+                        if (storedFingerprint.equals(fingerprint)) {
+                            LOGGER.infoCr(reconciliation, "Desired state did not change since the last full reconciliation. The reconciliation of the components will be skipped.");
+                            upToDate = true;
+                            DesiredStateFingerprint.copyStatus(kafkaAssembly.getStatus(), kafkaStatus);
+                            shortCircuitedReconciliationsCounter(namespace).increment();
+                        } else {
+                            LOGGER.debugCr(reconciliation, "Desired state changed since the last full reconciliation");
+                        }
+
+                        return Future.<Void>succeededFuture();
+                    })
+                    .recover(error -> {
+                        LOGGER.warnCr(reconciliation, "Failed to calculate the desired-state fingerprint", error);
+                        return Future.succeededFuture();
+                    });
+        }
+
+        /**
+         * Stores the desired-state fingerprint in the Kafka custom resource after a full reconciliation. Failure to
+         * store it does not fail the reconciliation, it only means that the next reconciliation will be a full one.
+         *
+         * @return  Future which completes when the fingerprint is stored
+         */
+        Future<Void> updateFingerprint()   {
+            if (!fingerprintEnabled()) {
+                return Future.succeededFuture();
+            }
+
+            return fingerprint()
+                    .compose(fingerprint -> crdOperator.getAsync(namespace, name)
+                            .compose(current -> {
+                                if (current == null
+                                        || fingerprint.equals(Annotations.stringAnnotation(current, DesiredStateFingerprint.ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT, null))) {
+                                    return Future.succeededFuture();
+                                }
+
+                                Kafka patched = new KafkaBuilder(current)
+                                        .editMetadata()
+                                            .addToAnnotations(DesiredStateFingerprint.ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT, fingerprint)
+                                        .endMetadata()
+                                        .build();
+
+                                return crdOperator.patchAsync(reconciliation, patched).<Void>mapEmpty();
+                            }))
+                    .recover(error -> {
+                        LOGGER.warnCr(reconciliation, "Failed to store the desired-state fingerprint", error);
+                        return Future.succeededFuture();
+                    });
+        }
+
         /**
          * Provider method for VersionChangeCreator. Overriding this method can be used to get mocked creator.
          *
@@ -127,6 +127,18 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the map of the connector names to their status and info (including the connector config) in
+     * the same format as returned by the {@code /connectors/${connectorName}/status} and
+     * {@code /connectors/${connectorName}} endpoints.
+     */
+    Future<Map<String, ConnectorStatusAndInfo>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
@@ -54,8 +54,10 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.StepGraph;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -110,6 +112,8 @@ public class KafkaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxConcurrentBrokerRestarts;
+    private final boolean concurrentBrokerRestartsByRack;
     /* test */ final KafkaCluster kafka;
     private final Storage oldStorage;
     private final ClusterCa clusterCa;
@@ -144,6 +148,7 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
 
     private final AdminClientProvider adminClientProvider;
+    private final MetricsProvider metrics;
 
     private final int currentReplicas;
 
@@ -191,6 +196,8 @@ public class KafkaReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxConcurrentBrokerRestarts = config.getMaxConcurrentBrokerRestarts();
+        this.concurrentBrokerRestartsByRack = config.isConcurrentBrokerRestartsByRack();
         this.kafka = KafkaCluster.fromCrd(reconciliation, kafkaCr, config.versions(), oldStorage, currentReplicas, config.featureGates().useKRaftEnabled());
 
         // We set the user-configured inter.broker.protocol.version if needed (when not set by the user)
@@ -236,11 +243,13 @@ public class KafkaReconciler {
         this.eventsPublisher = supplier.restartEventsPublisher;
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.metrics = supplier.metricsProvider;
     }
 
     /**
      * The main reconciliation method which triggers the whole reconciliation pipeline. This is the method which is
-     * expected to be called from the outside to trigger the reconciliation.
+     * expected to be called from the outside to trigger the reconciliation. The steps which do not depend on each
+     * other are executed concurrently.
      *
      * @param kafkaStatus   The Kafka Status class for adding conditions to it during the reconciliation
      * @param dateSupplier  Date supplier for checking maintenance windows
@@ -248,34 +257,44 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Supplier<Date> dateSupplier)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs())
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(dateSupplier))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> podDisruptionBudgetV1Beta1())
-                .compose(i -> statefulSet())
-                .compose(i -> podSet())
-                .compose(i -> rollToAddOrRemoveVolumes())
-                .compose(i -> rollingUpdate())
-                .compose(i -> scaleUp())
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> brokerConfigurationConfigMapsCleanup())
+        return new StepGraph(reconciliation, metrics)
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("manualPodCleaning", this::manualPodCleaning)
+                .step("networkPolicy", this::networkPolicy)
+                // The manually rolled pods have to use the current network policy as in the sequential reconciliation
+                .step("manualRollingUpdate", this::manualRollingUpdate, "manualPodCleaning", "networkPolicy")
+                .step("pvcs", this::pvcs, "manualRollingUpdate")
+                // The service account and the cluster role binding are only created or patched without affecting the
+                // running pods, so they can overlap with the manual rolling update
+                .step("serviceAccount", this::serviceAccount)
+                .step("initClusterRoleBinding", this::initClusterRoleBinding)
+                .step("scaleDown", this::scaleDown, "pvcs")
+                // The listeners and the broker certificates they need are changed only after the manual rolling update,
+                // so that the manually rolled pods do not pick up half of the changes
+                .step("listeners", this::listeners, "manualRollingUpdate")
+                .step("certificateSecret", () -> certificateSecret(dateSupplier), "listeners")
+                // Per-broker configuration deletes the Config Maps of the removed brokers => it has to run after scale-down
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners", "scaleDown")
+                .step("jmxSecret", this::jmxSecret)
+                .step("podDisruptionBudget", this::podDisruptionBudget)
+                .step("podDisruptionBudgetV1Beta1", this::podDisruptionBudgetV1Beta1)
+                // The pods are changed only once all the resources they use are ready
+                .step("statefulSet", this::statefulSet, "modelWarnings", "networkPolicy", "serviceAccount", "initClusterRoleBinding",
+                        "certificateSecret", "brokerConfigurationConfigMaps", "jmxSecret", "podDisruptionBudget", "podDisruptionBudgetV1Beta1")
+                .step("podSet", this::podSet, "statefulSet")
+                .step("rollToAddOrRemoveVolumes", this::rollToAddOrRemoveVolumes, "podSet")
+                .step("rollingUpdate", this::rollingUpdate, "rollToAddOrRemoveVolumes")
+                .step("scaleUp", this::scaleUp, "rollingUpdate")
+                .step("podsReady", this::podsReady, "scaleUp")
+                .step("serviceEndpointsReady", this::serviceEndpointsReady, "podsReady")
+                .step("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady, "podsReady")
+                .step("clusterId", () -> clusterId(kafkaStatus), "serviceEndpointsReady", "headlessServiceEndpointsReady")
+                .step("deletePersistentClaims", this::deletePersistentClaims, "podsReady")
+                .step("brokerConfigurationConfigMapsCleanup", this::brokerConfigurationConfigMapsCleanup, "podsReady")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus));
+                .step("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus, "serviceEndpointsReady", "headlessServiceEndpointsReady")
+                .step("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus), "nodePortExternalListenerStatus", "clusterId")
+                .execute();
     }
 
     /**
@@ -437,8 +456,9 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
-
+                                eventsPublisher,
+                                maxConcurrentBrokerRestarts,
+                                concurrentBrokerRestartsByRack
                         ).rollingRestart(podNeedsRestart));
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Blocking work queue used by controllers with multiple worker threads. The queue deduplicates the keys in constant
+ * time and guarantees that the same key is never processed by two workers at the same time:
+ *   - A key which is already waiting in the queue is not added again.
+ *   - A key which is added while it is being processed is not handed out to another worker. It is queued again only
+ *     when the worker processing it calls {@link #done(Object)}.
+ *
+ * @param <K>   Type of the keys. It has to implement equals and hashCode.
+ */
+public class KeyedWorkQueue<K> {
+    private final int capacity;
+
+    // Keys which can be handed out to the workers in FIFO order
+    private final LinkedHashSet<K> queue = new LinkedHashSet<>();
+    // Keys which need to be processed (waiting in the queue or waiting for the current processing to finish)
+    private final Set<K> dirty = new HashSet<>();
+    // Keys which are being processed right now
+    private final Set<K> processing = new HashSet<>();
+
+    /**
+     * Creates the work queue
+     *
+     * @param capacity  Maximal number of keys waiting to be processed
+     */
+    public KeyedWorkQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the key to the queue unless it is already waiting to be processed.
+     *
+     * @param key   Key which should be processed
+     *
+     * @throws IllegalStateException if the queue is full
+     *
+     * @return  True if the key was added. False if it was already waiting in the queue.
+     */
+    public synchronized boolean add(K key) {
+        if (dirty.contains(key)) {
+            return false;
+        } else if (dirty.size() >= capacity) {
+            throw new IllegalStateException("Queue full");
+        }
+
+        dirty.add(key);
+
+        if (!processing.contains(key)) {
+            queue.add(key);
+            notifyAll();
+        }
+
+        return true;
+    }
+
+    /**
+     * Takes the next key from the queue and marks it as being processed. It blocks until there is a key which is not
+     * being processed by another worker. Every key returned by this method has to be passed to {@link #done(Object)}
+     * once its processing finishes.
+     *
+     * @return  The next key which should be processed
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized K take() throws InterruptedException {
+        while (queue.isEmpty()) {
+            wait();
+        }
+
+        Iterator<K> iterator = queue.iterator();
+        K key = iterator.next();
+        iterator.remove();
+
+        dirty.remove(key);
+        processing.add(key);
+
+        return key;
+    }
+
+    /**
+     * Marks the processing of the key as finished. If the key was added again while it was being processed, it is
+     * returned to the queue.
+     *
+     * @param key   Key which was processed
+     *
+     * @return  True if the key was returned to the queue because it was added while being processed. False otherwise.
+     */
+    public synchronized boolean done(K key) {
+        processing.remove(key);
+
+        if (dirty.contains(key)) {
+            queue.add(key);
+            notifyAll();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @return  Number of keys waiting to be processed
+     */
+    public synchronized int size() {
+        return dirty.size();
+    }
+}
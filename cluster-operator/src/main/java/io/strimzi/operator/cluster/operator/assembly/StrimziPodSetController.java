@@ -17,6 +17,10 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
 import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.StrimziPodSet;
@@ -27,6 +31,9 @@ import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.PodRevision;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -35,14 +42,18 @@ import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -51,7 +62,24 @@ import java.util.stream.Collectors;
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
 
+    /**
+     * Name of the metric with the number of StrimziPodSets waiting in the controller work queue
+     */
+    public static final String METRIC_QUEUE_DEPTH = AbstractOperator.METRICS_PREFIX + "podset.controller.queue.depth";
+
+    /**
+     * Name of the metric with the duration of the StrimziPodSet reconciliations done by the controller
+     */
+    public static final String METRIC_RECONCILIATION_DURATION = AbstractOperator.METRICS_PREFIX + "podset.controller.reconciliation.duration";
+
+    /**
+     * Name of the metric with the number of StrimziPodSets which were reconciled again because they changed during
+     * their reconciliation
+     */
+    public static final String METRIC_REQUEUES = AbstractOperator.METRICS_PREFIX + "podset.controller.requeues";
+
     private final Thread controllerThread;
+    private final List<Thread> workerThreads;
 
     private volatile boolean stop = false;
 
@@ -60,13 +88,17 @@ public class StrimziPodSetController implements Runnable {
     private final Optional<LabelSelector> crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final KeyedWorkQueue<SimplifiedReconciliation> workQueue;
+    private final AtomicInteger queueDepth;
+    private final Timer reconciliationTimer;
+    private final Counter requeueCounter;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
     private final Lister<Pod> podLister;
     private final Lister<StrimziPodSet> strimziPodSetLister;
     private final Lister<Kafka> kafkaLister;
+    private final Map<String, DesiredPods> desiredPodsCache = new ConcurrentHashMap<>();
 
     /**
      * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
@@ -82,18 +114,43 @@ public class StrimziPodSetController implements Runnable {
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
      */
     public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, StrimziPodSetOperator strimziPodSetOperator, PodOperator podOperator, int podSetControllerWorkQueueSize) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, strimziPodSetOperator, podOperator, podSetControllerWorkQueueSize, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * Creates the StrimziPodSet controller with multiple worker threads. Different StrimziPodSets are reconciled in
+     * parallel, but the same StrimziPodSet is never reconciled by two workers at the same time.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param workers                       Number of threads reconciling the StrimziPodSets
+     * @param metrics                       Metrics provider for the work queue and reconciliation metrics
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, StrimziPodSetOperator strimziPodSetOperator, PodOperator podOperator, int podSetControllerWorkQueueSize, int workers, MetricsProvider metrics) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
+        this.workQueue = new KeyedWorkQueue<>(podSetControllerWorkQueueSize);
+
+        Tags tags = Tags.of("kind", StrimziPodSet.RESOURCE_KIND, "namespace", watchedNamespace);
+        this.queueDepth = metrics.gauge(METRIC_QUEUE_DEPTH, "Number of StrimziPodSets waiting in the controller work queue", tags);
+        this.reconciliationTimer = metrics.timer(METRIC_RECONCILIATION_DURATION, "Time it takes the controller to reconcile a StrimziPodSet", tags);
+        this.requeueCounter = metrics.counter(METRIC_REQUEUES, "Number of StrimziPodSets reconciled again because they changed during their reconciliation", tags);
 
         // Kafka informer and lister is used to get Kafka CRs quickly. This is needed for verification of the CR selector labels
-        this.kafkaInformer = kafkaOperator.informer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
+        this.kafkaInformer = kafkaOperator.runnableInformer(watchedNamespace, (crSelectorLabels == null) ? Map.of() : crSelectorLabels.toMap());
         this.kafkaLister = new Lister<>(kafkaInformer.getIndexer());
 
         // StrimziPodSet informer and lister is used to get events about StrimziPodSet and get StrimziPodSet quickly
-        this.strimziPodSetInformer = strimziPodSetOperator.informer(watchedNamespace);
+        this.strimziPodSetInformer = strimziPodSetOperator.runnableInformer(watchedNamespace);
         this.strimziPodSetLister = new Lister<>(strimziPodSetInformer.getIndexer());
         this.strimziPodSetInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
             @Override
@@ -109,12 +166,13 @@ public class StrimziPodSetController implements Runnable {
             @Override
             public void onDelete(StrimziPodSet podSet, boolean deletedFinalStateUnknown) {
                 LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
+                desiredPodsCache.remove(podSetKey(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
                 // Nothing to do => garbage collection should take care of things
             }
         }, 10 * 60 * 1000);
 
         // Pod informer and lister is used to get events about pods and get pods quickly
-        this.podInformer = podOperator.informer(watchedNamespace, Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka"));
+        this.podInformer = podOperator.runnableInformer(watchedNamespace, Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka"));
         this.podLister = new Lister<>(podInformer.getIndexer());
         this.podInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
             @Override
@@ -134,6 +192,12 @@ public class StrimziPodSetController implements Runnable {
         }, 10 * 60 * 1000);
 
         controllerThread = new Thread(this, "StrimziPodSetController");
+
+        // The controller thread is the first worker. The additional workers are started once the informers are synced.
+        workerThreads = new ArrayList<>(Math.max(0, workers - 1));
+        for (int i = 1; i < workers; i++) {
+            workerThreads.add(new Thread(this::processWorkQueue, "StrimziPodSetController-" + i));
+        }
     }
 
     /**
@@ -261,12 +325,12 @@ public class StrimziPodSetController implements Runnable {
                 Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
                 PodCounter podCounter = new PodCounter();
                 podCounter.pods = podSet.getSpec().getPods().size();
+                OwnerReference owner = ModelUtils.createOwnerReference(podSet);
 
-                for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                    Pod pod = PodSetUtils.mapToPod(desiredPod);
-                    desiredPods.add(pod.getMetadata().getName());
+                for (DesiredPod desiredPod : desiredPods(podSet)) {
+                    desiredPods.add(desiredPod.pod.getMetadata().getName());
 
-                    maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet), podCounter);
+                    maybeCreateOrPatchPod(reconciliation, desiredPod, owner, podCounter);
                 }
 
                 // Check if any pods needs to be deleted
@@ -285,6 +349,42 @@ public class StrimziPodSetController implements Runnable {
         }
     }
 
+    /**
+     * Returns the desired pods of the StrimziPodSet. Converting the pods from the StrimziPodSet to the Pod objects is
+     * expensive, so the converted pods are cached until the generation of the StrimziPodSet changes. The cached pods
+     * are shared between reconciliations and must not be modified.
+     *
+     * @param podSet    StrimziPodSet with the desired pods
+     *
+     * @return  List with the desired pods and their revisions
+     */
+    /* test */ List<DesiredPod> desiredPods(StrimziPodSet podSet)  {
+        String key = podSetKey(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName());
+        String uid = podSet.getMetadata().getUid();
+        Long generation = podSet.getMetadata().getGeneration();
+
+        DesiredPods cached = desiredPodsCache.get(key);
+        if (cached != null
+                && uid != null && uid.equals(cached.uid)
+                && generation != null && generation.equals(cached.generation))  {
+            return cached.pods;
+        }
+
+        List<DesiredPod> pods = podSet.getSpec().getPods().stream()
+                .map(map -> new DesiredPod(PodSetUtils.mapToPod(map)))
+                .collect(Collectors.toUnmodifiableList());
+
+        if (uid != null && generation != null)  {
+            desiredPodsCache.put(key, new DesiredPods(uid, generation, pods));
+        }
+
+        return pods;
+    }
+
+    private static String podSetKey(String namespace, String name)    {
+        return namespace + "/" + name;
+    }
+
     /**
      * Updates the status of the StrimziPodSet. The status will be updated only when it changed since last time.
      *
@@ -321,18 +421,24 @@ public class StrimziPodSetController implements Runnable {
      * needed adds it to the Pod.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param pod               Pod which should be checked and created if needed
+     * @param desiredPod        Desired pod which should be checked and created if needed
      * @param owner             The OwnerReference which should be set to the pod
      * @param podCounter        Pod Counter used to count pods for the status
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
+    private void maybeCreateOrPatchPod(Reconciliation reconciliation, DesiredPod desiredPod, OwnerReference owner, PodCounter podCounter)    {
+        Pod pod = desiredPod.pod;
         Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
 
         if (currentPod == null) {
             // Pod does not exist => we create it
             LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            // The desired pod is cached => the owner reference is set on a copy
+            Pod podWithOwnerReference = new PodBuilder(pod)
+                    .editMetadata()
+                        .withOwnerReferences(owner)
+                    .endMetadata()
+                    .build();
+            podOperator.client().inNamespace(reconciliation.namespace()).resource(podWithOwnerReference).create();
         } else {
             if (ModelUtils.hasOwnerReference(currentPod, owner))    {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", pod.getMetadata().getName(), reconciliation.namespace());
@@ -353,7 +459,7 @@ public class StrimziPodSetController implements Runnable {
                 podCounter.readyPods++;
             }
 
-            if (!PodRevision.hasChanged(currentPod, pod))    {
+            if (!PodRevision.hasChanged(currentPod, desiredPod.revision))    {
                 podCounter.currentPods++;
             }
 
@@ -394,12 +500,13 @@ public class StrimziPodSetController implements Runnable {
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
+        if (workQueue.add(reconciliation)) {
+            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.namespace);
         } else {
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
+            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
         }
+
+        queueDepth.set(workQueue.size());
     }
 
     /**
@@ -410,21 +517,31 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.infoOp("Starting StrimziPodSet controller for namespace {}", watchedNamespace);
 
         LOGGER.infoOp("Waiting for informers to sync");
-        while (!stop
-                && (!podInformer.hasSynced() || !strimziPodSetInformer.hasSynced() || !kafkaInformer.hasSynced()))   {
-            // Nothing to do => just loop
+        try {
+            // The futures returned when starting the informers complete once the informers are synced
+            CompletableFuture.allOf(podInformer.start(), strimziPodSetInformer.start(), kafkaInformer.start()).get();
+            LOGGER.infoOp("Informers are in-sync");
+        } catch (InterruptedException e)    {
+            LOGGER.debugOp("StrimziPodSet Controller was interrupted while waiting for informers to sync", e);
+            stop = true;
+        } catch (ExecutionException e)    {
+            LOGGER.errorOp("StrimziPodSet Controller informers failed to sync", e.getCause());
+            stop = true;
         }
-        LOGGER.infoOp("Informers are in-sync");
 
-        while (!stop) {
+        if (!stop) {
+            for (Thread workerThread : workerThreads) {
+                workerThread.start();
+            }
+
+            processWorkQueue();
+        }
+
+        for (Thread workerThread : workerThreads)   {
             try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                workerThread.join();
             } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+                LOGGER.debugOp("StrimziPodSet Controller was interrupted while waiting for the workers to stop", e);
             }
         }
 
@@ -435,6 +552,40 @@ public class StrimziPodSetController implements Runnable {
         kafkaInformer.stop();
     }
 
+    /**
+     * The loop of a single worker. It picks reconciliations from the work queue and executes them until the controller
+     * is stopped.
+     */
+    private void processWorkQueue() {
+        while (!stop) {
+            SimplifiedReconciliation next;
+
+            try {
+                LOGGER.debugOp("Waiting for next event from work queue");
+                next = workQueue.take();
+                queueDepth.set(workQueue.size());
+            } catch (InterruptedException e)    {
+                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
+                continue;
+            }
+
+            long startNanos = System.nanoTime();
+
+            try {
+                reconcile(next.toReconciliation());
+            } catch (Exception e)   {
+                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
+            } finally {
+                reconciliationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+                if (workQueue.done(next))   {
+                    LOGGER.debugOp("StrimziPodSet {} in namespace {} changed during its reconciliation => requeueing", next.name, next.namespace);
+                    requeueCounter.increment();
+                }
+            }
+        }
+    }
+
     /**
      * Starts the controller: this method creates a new thread in which the controller will run
      */
@@ -450,6 +601,10 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
         controllerThread.interrupt();
+
+        for (Thread workerThread : workerThreads)   {
+            workerThread.interrupt();
+        }
     }
 
     /**
@@ -462,6 +617,34 @@ public class StrimziPodSetController implements Runnable {
         int currentPods = 0;
     }
 
+    /**
+     * Desired pod converted from the StrimziPodSet together with its revision
+     */
+    static class DesiredPod {
+        private final Pod pod;
+        private final String revision;
+
+        DesiredPod(Pod pod) {
+            this.pod = pod;
+            this.revision = PodRevision.getRevisionFromAnnotations(pod);
+        }
+    }
+
+    /**
+     * Desired pods of a single generation of a StrimziPodSet
+     */
+    static class DesiredPods {
+        private final String uid;
+        private final Long generation;
+        private final List<DesiredPod> pods;
+
+        DesiredPods(String uid, Long generation, List<DesiredPod> pods) {
+            this.uid = uid;
+            this.generation = generation;
+            this.pods = pods;
+        }
+    }
+
     /**
      * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
      * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
@@ -0,0 +1,171 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Shared HTTP clients for the REST APIs called by the operator (such as the Kafka Connect or Cruise Control APIs).
+ * Unlike {@link HttpClientUtils#withHttpClient(Vertx, HttpClientOptions, BiConsumer)}, the clients are not closed after
+ * each request. Their connections are kept alive and reused by the following requests to the same endpoint, which
+ * saves the TCP connection setup and the TLS handshakes.
+ *
+ * One client is created for each distinct set of client options (for example for each trusted certificate). Vert.x
+ * pools the connections of each client per host and port. The number of clients is limited and the least recently used
+ * client is closed once it is evicted and its requests had time to complete.
+ *
+ * The connections are not pipelined because the clients are used for non-idempotent requests as well.
+ */
+public class HttpClientPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class);
+
+    /**
+     * Name of the metric with the duration of the HTTP requests
+     */
+    public static final String METRIC_REQUESTS = AbstractOperator.METRICS_PREFIX + "http.client.requests";
+
+    /**
+     * Name of the metric with the number of opened HTTP connections. Together with the number of requests, it shows
+     * how often are the connections reused.
+     */
+    public static final String METRIC_CONNECTIONS = AbstractOperator.METRICS_PREFIX + "http.client.connections";
+
+    /* test */ static final int MAX_CLIENTS = 32;
+    private static final long EVICTED_CLIENT_CLOSE_DELAY_MS = 300_000L;
+
+    private final Vertx vertx;
+    private final String name;
+    private final int maxConnectionsPerEndpoint;
+    private final Timer requestTimer;
+    private final Counter connectionCounter;
+    private final Map<String, HttpClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates the HTTP client pool
+     *
+     * @param vertx                     Vert.x instance
+     * @param name                      Name of the pool used in the metrics tags (e.g. connect)
+     * @param maxConnectionsPerEndpoint Maximal number of connections to a single host and port
+     * @param metrics                   Metrics provider
+     */
+    public HttpClientPool(Vertx vertx, String name, int maxConnectionsPerEndpoint, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.name = name;
+        this.maxConnectionsPerEndpoint = maxConnectionsPerEndpoint;
+
+        Tags tags = Tags.of("client", name);
+        this.requestTimer = metrics.timer(METRIC_REQUESTS, "Time it takes to complete an HTTP request", tags);
+        this.connectionCounter = metrics.counter(METRIC_CONNECTIONS, "Number of opened HTTP connections", tags);
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using a shared HTTP client instance. The client is
+     * not closed when the operation completes.
+     *
+     * @param options   Client options. Operations using equal options share the same client.
+     * @param operation The operation to perform.
+     * @param <T>       The type of the result
+     *
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        HttpClient httpClient = client(options);
+        Promise<T> promise = Promise.promise();
+        long startNanos = System.nanoTime();
+
+        try {
+            operation.accept(httpClient, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onComplete(ignore -> requestTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Closes all clients in the pool
+     *
+     * @return  Future which completes when all clients are closed
+     */
+    public Future<Void> close() {
+        List<HttpClient> toClose;
+
+        synchronized (clients) {
+            toClose = new ArrayList<>(clients.values());
+            clients.clear();
+        }
+
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> closeFutures = new ArrayList<>(toClose.size());
+        for (HttpClient client : toClose) {
+            closeFutures.add(client.close());
+        }
+
+        return CompositeFuture.join(closeFutures).mapEmpty();
+    }
+
+    /**
+     * @return  Number of clients in the pool
+     */
+    /* test */ int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    private HttpClient client(HttpClientOptions options) {
+        String key = options.toJson().encode();
+        HttpClient evicted = null;
+        HttpClient client;
+
+        synchronized (clients) {
+            client = clients.get(key);
+
+            if (client == null) {
+                LOGGER.debugOp("Creating new HTTP client in the {} pool", name);
+
+                client = vertx.createHttpClient(new HttpClientOptions(options)
+                        .setKeepAlive(true)
+                        .setPipelining(false)
+                        .setMaxPoolSize(maxConnectionsPerEndpoint));
+                client.connectionHandler(connection -> connectionCounter.increment());
+                clients.put(key, client);
+
+                if (clients.size() > MAX_CLIENTS) {
+                    Map.Entry<String, HttpClient> eldest = clients.entrySet().iterator().next();
+                    evicted = eldest.getValue();
+                    clients.remove(eldest.getKey());
+                }
+            }
+        }
+
+        if (evicted != null) {
+            LOGGER.debugOp("Closing least recently used HTTP client in the {} pool", name);
+            HttpClient toClose = evicted;
+            vertx.setTimer(EVICTED_CLIENT_CLOSE_DELAY_MS, ignore -> toClose.close());
+        }
+
+        return client;
+    }
+}
@@ -13,16 +13,15 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
-import org.apache.kafka.common.Node;
-import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,6 +29,13 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * The replicas and ISR of all partitions are described once when the instance is created and kept in a
+ * {@link PartitionSnapshot} which is used by the first check. Each following check refreshes the snapshot with a single
+ * description of all topics, so that the current ISR and the partitions reassigned to the broker in the meantime are
+ * taken into account. The {@code min.in.sync.replicas} of a topic is described only once per rolling update, when a
+ * broker hosting the topic is checked for the first time, and again only after the metadata of the topic changed.
+ * A single instance should therefore be used for the whole rolling update.
  */
 class KafkaAvailability {
 
@@ -39,18 +45,26 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final PartitionSnapshot snapshot = new PartitionSnapshot();
+
+    private final Future<Void> initialSnapshot;
+
+    private final AtomicBoolean initialSnapshotUsed = new AtomicBoolean(false);
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
         // 1. Get all topic names
         Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
+        // 2. Get topic descriptions and build the snapshot
+        initialSnapshot = topicNames.compose(names -> {
             LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
             LOGGER.traceCr(reconciliation, "Topic names {}", names);
             return describeTopics(names);
+        }).map(descriptions -> {
+            snapshot.update(descriptions);
+            LOGGER.debugCr(reconciliation, "Built partition snapshot with {} topics", snapshot.size());
+            return null;
         });
     }
 
@@ -60,28 +74,41 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId, Set.of());
+    }
+
+    /**
+     * Determine whether the given broker can be rolled while the {@code restartingBrokers} are being rolled as well.
+     * This is the case only when none of the partitions hosted by the given broker has a replica on any of the
+     * restarting brokers and the restart of the given broker alone would not affect producers with acks=all publishing
+     * to topics with a {@code min.in.sync.replicas}. Because the replica sets are disjoint, the ISR of every partition
+     * is then reduced by at most one broker by the whole batch.
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> restartingBrokers) {
+        LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled together with brokers {}", podId, restartingBrokers);
+        return canRollBroker(podId, restartingBrokers);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> restartingBrokers) {
+        // 3. Use the initial snapshot for the first check and refresh all topics for the following ones
+        Future<Set<String>> topicsOnGivenBroker = (initialSnapshotUsed.compareAndSet(false, true) ? initialSnapshot : refresh())
+                .map(i -> snapshot.topicsOnBroker(podId))
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // 4. Get topic configs (for those on $broker which are not known yet)
+        Future<Void> topicConfigsOnGivenBroker = topicsOnGivenBroker
+                .compose(topics -> minIsr(snapshot.topicsWithoutMinIsr(topics)));
 
         // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+        return topicConfigsOnGivenBroker.map(i -> {
+            boolean canRoll = topicsOnGivenBroker.result().stream().noneMatch(topic -> {
+                List<PartitionSnapshot.PartitionState> partitions = snapshot.partitionsOnBroker(topic, podId);
+                return sharesPartitions(podId, topic, partitions, restartingBrokers)
+                        || wouldAffectAvailability(podId, topic, snapshot.minIsr(topic), partitions);
+            });
             if (!canRoll) {
                 LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -92,32 +119,66 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+    /**
+     * Refreshes the snapshot with the current state of all topics. Newly created topics are added, deleted topics are
+     * removed and partitions which were reassigned to other brokers are re-indexed. All topics are described, because
+     * the partitions reassigned to the given broker since the last refresh are not indexed on it yet.
+     *
+     * @return  Future which completes when the snapshot is refreshed
+     */
+    private Future<Void> refresh() {
+        return topicNames()
+                .compose(names -> {
+                    snapshot.retainTopics(names);
+                    return names.isEmpty() ? Future.succeededFuture(List.<TopicDescription>of()) : describeTopics(names);
+                })
+                .map(descriptions -> {
+                    int changed = snapshot.update(descriptions);
+                    LOGGER.debugCr(reconciliation, "Refreshed {} topics in the partition snapshot, {} partitions changed", descriptions.size(), changed);
+                    return null;
+                });
+    }
+
+    private boolean sharesPartitions(int broker, String topic, List<PartitionSnapshot.PartitionState> partitions, Set<Integer> restartingBrokers) {
+        if (restartingBrokers.isEmpty()) {
+            return false;
+        }
+
+        for (PartitionSnapshot.PartitionState pi : partitions) {
+            for (int replica : pi.replicas()) {
+                if (restartingBrokers.contains(replica)) {
+                    LOGGER.debugCr(reconciliation, "{}/{} has replicas on broker {} and on broker {} which is being restarted.",
+                            topic, pi.partition(), broker, replica);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean wouldAffectAvailability(int broker, String topic, int minIsr, List<PartitionSnapshot.PartitionState> partitions) {
+        if (minIsr != PartitionSnapshot.NO_MIN_ISR) {
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topic, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
+        for (PartitionSnapshot.PartitionState pi : partitions) {
+            int[] isr = pi.isr();
+            int[] replicas = pi.replicas();
             if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
+                if (replicas.length <= minIsr) {
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
+                                topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                replicas.length);
                     }
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
+                } else if (isr.length < minIsr
+                        && pi.hasReplicaOn(broker)) {
                     if (LOGGER.isInfoEnabled()) {
                         String msg;
-                        if (contains(isr, broker)) {
+                        if (pi.isInSync(broker)) {
                             msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
                                                           "so should not be restarted right now (it would impact consumers).";
                         } else {
@@ -125,22 +186,22 @@ class KafkaAvailability {
                                                           "so should not be restarted right now (it might be first to catch up).";
                         }
                         LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                     }
                     return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
+                } else if (isr.length == minIsr
+                        && pi.isInSync(broker)) {
+                    if (minIsr < replicas.length) {
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                    topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
                         }
                         return true;
                     } else {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                    pi.replicas().size());
+                                    topic, pi.partition(), nodeList(isr), nodeList(replicas), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                                    replicas.length);
                         }
                     }
                 }
@@ -149,49 +210,44 @@ class KafkaAvailability {
         return false;
     }
 
-    private String nodeList(List<Node> isr) {
-        return isr.stream().map(Node::idString).collect(Collectors.joining(","));
+    private String nodeList(int[] brokerIds) {
+        return Arrays.stream(brokerIds).mapToObj(String::valueOf).collect(Collectors.joining(","));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
-    }
+    /**
+     * Describes the configurations of the given topics and stores their current {@code min.in.sync.replicas} in the
+     * snapshot.
+     *
+     * @param topicNames    Names of the topics
+     *
+     * @return  Future which completes when the configurations are stored
+     */
+    private Future<Void> minIsr(Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture();
+        }
 
-    private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
         LOGGER.debugCr(reconciliation, "Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
                 .collect(Collectors.toList());
-        Promise<Map<String, Config>> promise = Promise.promise();
+        Promise<Void> promise = Promise.promise();
         ac.describeConfigs(configs).all().whenComplete((topicNameToConfig, error) -> {
             if (error != null) {
                 promise.fail(error);
             } else {
                 LOGGER.debugCr(reconciliation, "Got topic configs for {} topics", topicNames.size());
-                promise.complete(topicNameToConfig.entrySet().stream()
-                        .collect(Collectors.toMap(
-                            entry -> entry.getKey().name(),
-                            entry -> entry.getValue())));
+                for (Map.Entry<ConfigResource, Config> entry : topicNameToConfig.entrySet()) {
+                    ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+                    snapshot.minIsr(entry.getKey().name(), minIsrConfig != null && minIsrConfig.value() != null
+                            ? parseInt(minIsrConfig.value()) : PartitionSnapshot.NO_MIN_ISR);
+                }
+                promise.complete();
             }
         });
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).allTopicNames()
@@ -15,9 +15,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.zjsonpatch.JsonDiff;
-import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.Scope;
-import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaConfigModel;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -38,11 +36,11 @@ import org.apache.kafka.clients.admin.ConfigEntry;
  */
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
-    private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final Pattern PLACE_HOLDER = Pattern.compile("\\$\\{" + Pattern.quote("STRIMZI_BROKER_ID") + "}");
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> diff;
-    private final Map<String, ConfigModel> configModel;
+    private final KafkaConfigModel configModel;
 
     /**
      * These options are skipped because they contain placeholders
@@ -67,13 +65,13 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
     public KafkaBrokerConfigurationDiff(Reconciliation reconciliation, Config brokerConfigs, String desired, KafkaVersion kafkaVersion, int brokerId) {
         this.reconciliation = reconciliation;
-        this.configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+        this.configModel = KafkaConfigModel.forVersion(kafkaVersion);
         this.diff = diff(brokerId, desired, brokerConfigs, configModel);
     }
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
+            String v = PLACE_HOLDER.matcher(entry.getValue()).replaceAll(value);
             entry.setValue(v);
         });
     }
@@ -95,7 +93,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @return true if the entry is READ_ONLY
      */
     private boolean isEntryReadOnly(ConfigEntry entry) {
-        return configModel.get(entry.name()).getScope().equals(Scope.READ_ONLY);
+        return !configModel.isDynamicallyUpdatable(entry.name());
     }
 
     /**
@@ -127,7 +125,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      */
     private Collection<AlterConfigOp> diff(int brokerId, String desired,
                                                   Config brokerConfigs,
-                                                  Map<String, ConfigModel> configModel) {
+                                                  KafkaConfigModel configModel) {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
@@ -189,7 +187,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         return updatedCE;
     }
 
-    private void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
+    private void updateOrAdd(String propertyName, KafkaConfigModel configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE) {
         if (!isIgnorableProperty(propertyName)) {
             if (isCustomEntry(propertyName, configModel)) {
                 LOGGER.traceCr(reconciliation, "custom property {} has been updated/added {}", propertyName, desiredMap.get(propertyName));
@@ -202,7 +200,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         }
     }
 
-    private void removeProperty(Map<String, ConfigModel> configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry) {
+    private void removeProperty(KafkaConfigModel configModel, Collection<AlterConfigOp> updatedCE, String pathValueWithoutSlash, ConfigEntry entry) {
         if (isCustomEntry(entry.name(), configModel)) {
             // we are deleting custom option
             LOGGER.traceCr(reconciliation, "removing custom property {}", entry.name());
@@ -238,8 +236,8 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @param configModel configModel
      * @return true if entry is custom (not default)
      */
-    private static boolean isCustomEntry(String entryName, Map<String, ConfigModel> configModel) {
-        return !configModel.containsKey(entryName);
+    private static boolean isCustomEntry(String entryName, KafkaConfigModel configModel) {
+        return !configModel.isKnown(entryName);
     }
 
 }
@@ -104,11 +104,22 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>By default, the pods are rolled one-at-a-time. When {@code maxConcurrentRestarts} is bigger than 1, up to that
+ * many pods are considered in parallel. A pod is then restarted together with the pods which are already being
+ * restarted only when none of its partitions has a replica on them (see {@link KafkaAvailability#canRoll(int, Set)}).
+ * When {@code concurrentRestartsByRack} is enabled, only pods from the same rack are restarted together, so that a
+ * whole rack can be rolled at once. The controller is still rolled last and alone.</p>
+ *
+ * <p>When none of the pods needs to be restarted and the configuration changes of all brokers can be applied
+ * dynamically, all brokers are reconfigured together with a single Admin request before the pods are checked.</p>
  */
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ParameterNumber"})
 public class KafkaRoller {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRoller.class);
+    // Maximal age of a described broker configuration which is still accepted as a proof that the broker is responsive
+    private static final long DESCRIBED_CONFIG_MAX_AGE_MS = 10_000L;
 
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
@@ -127,13 +138,34 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
-    private Admin allClient;
+    private final int maxConcurrentRestarts;
+    private final boolean concurrentRestartsByRack;
+    private final ScheduledExecutorService executor;
+    private final Set<Integer> restartingBrokers = new HashSet<>();
+    private volatile Map<Integer, String> brokerRacks;
+    private volatile Admin allClient;
+    private KafkaAvailability kafkaAvailability;
+    // Broker and broker logger configurations described by the batched describeConfigs requests
+    private final Map<ConfigResource, KafkaFuture<Config>> describedConfigs = new HashMap<>();
+    private final Map<Integer, Long> describedConfigsNanos = new HashMap<>();
+    private boolean allConfigsDescribed = false;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<String> podList,
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, podList,
+                clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion,
+                allowReconfiguration, eventsPublisher, 1, false);
+    }
+
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<String> podList,
+                       Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       int maxConcurrentRestarts, boolean concurrentRestartsByRack) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.podList = podList;
@@ -154,6 +186,10 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxConcurrentRestarts = Math.max(1, maxConcurrentRestarts);
+        this.concurrentRestartsByRack = concurrentRestartsByRack;
+        this.executor = Executors.newScheduledThreadPool(this.maxConcurrentRestarts,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -164,9 +200,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaResources.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -174,7 +207,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, podList.size()).boxed().collect(Collectors.toList()), false);
@@ -196,7 +229,9 @@ public class KafkaRoller {
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        executor.submit(() -> {
+            maybeDynamicUpdateAllBrokers();
+
             List<PodRef> pods = new ArrayList<>(podList.size());
 
             for (int podIndex = 0; podIndex < podList.size(); podIndex++) {
@@ -210,7 +245,7 @@ public class KafkaRoller {
                 futures.add(schedule(podRef, 0, TimeUnit.MILLISECONDS));
             }
             CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
+                executor.shutdown();
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -224,10 +259,83 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Fast path for the rolling updates which do not need to restart any pod. When none of the pods needs to be
+     * restarted and the configuration changes of all brokers can be applied dynamically, the configuration and logging
+     * changes of all brokers are applied together in a single incrementalAlterConfigs request instead of reconfiguring
+     * the brokers one by one. All described configurations are invalidated afterwards, so that the regular checks
+     * of the pods which follow verify the result with one batched describeConfigs request and wait for the pods to be
+     * ready. When the fast path cannot be used or the update fails, the brokers are reconfigured one by one as usual.
+     *
+     * The fast path is used only when all pods are ready. It does not use canRoll(), because the dynamic
+     * reconfiguration neither restarts the brokers nor takes their replicas out of the ISR, so it cannot make any
+     * partition under-replicated. The restart reasons evaluated for each pod are passed to its RestartContext together
+     * with the resourceVersion of the pod, so that they are not evaluated again by the first check of the pod unless the
+     * pod changed in the meantime.
+     */
+    private void maybeDynamicUpdateAllBrokers() {
+        if (!allowReconfiguration || !initAdminClient()) {
+            return;
+        }
+
+        Map<Integer, KafkaBrokerConfigurationDiff> configurationDiffs = new HashMap<>();
+        Map<Integer, KafkaBrokerLoggingConfigurationDiff> logDiffs = new HashMap<>();
+
+        try {
+            for (String podName : podList) {
+                PodRef podRef = new PodRef(podName, ModelUtils.idOfPod(podName));
+                Pod pod = podOperations.get(namespace, podName);
+
+                if (pod == null || !podOperations.isReady(namespace, podName)) {
+                    LOGGER.debugCr(reconciliation, "Pod {} is not ready, the brokers will be reconfigured one by one", podRef);
+                    return;
+                }
+
+                RestartReasons restartReasons = podNeedsRestart.apply(pod);
+                RestartContext restartContext = podToContext.computeIfAbsent(podName, k -> new RestartContext(backoffSupplier));
+                restartContext.initialRestartReasons = restartReasons;
+                restartContext.initialRestartReasonsPodVersion = pod.getMetadata() != null ? pod.getMetadata().getResourceVersion() : null;
+
+                if (isPodStuck(pod) || restartReasons.shouldRestart()) {
+                    LOGGER.debugCr(reconciliation, "Pod {} might need to be restarted, the brokers will be reconfigured one by one", podRef);
+                    return;
+                }
+
+                KafkaBrokerConfigurationDiff diff = new KafkaBrokerConfigurationDiff(reconciliation, brokerConfig(podRef), kafkaConfigProvider.apply(podRef.getPodId()), kafkaVersion, podRef.getPodId());
+                KafkaBrokerLoggingConfigurationDiff loggingDiff = logging(podRef);
+
+                if (diff.getDiffSize() > 0 && !diff.canBeUpdatedDynamically()) {
+                    LOGGER.debugCr(reconciliation, "Pod {} needs to be restarted, the brokers will be reconfigured one by one", podRef);
+                    return;
+                } else if (diff.getDiffSize() > 0 || loggingDiff.getDiffSize() > 0) {
+                    configurationDiffs.put(podRef.getPodId(), diff);
+                    logDiffs.put(podRef.getPodId(), loggingDiff);
+                }
+            }
+
+            if (!configurationDiffs.isEmpty()) {
+                try {
+                    dynamicUpdateBrokersConfig(allClient, configurationDiffs, logDiffs);
+                } finally {
+                    invalidateAllDescribedConfigs();
+                }
+            }
+        } catch (ForceableProblem | RuntimeException e) {
+            // Any error is handled again by the regular rolling of the pods
+            LOGGER.debugCr(reconciliation, "Brokers could not be reconfigured together ({}), they will be reconfigured one by one", e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
         RestartReasons restartReasons;
+        // Restart reasons already evaluated before the first check of the pod and the resourceVersion of the pod they
+        // were evaluated for
+        RestartReasons initialRestartReasons;
+        String initialRestartReasonsPodVersion;
         private long connectionErrorStart = 0L;
 
         boolean needsRestart;
@@ -269,7 +377,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or up to {@code maxConcurrentRestarts} at a time) so the delay may be overrun.
      * @param podRef  The reference to pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -278,7 +386,7 @@ public class KafkaRoller {
     private Future<Void> schedule(PodRef podRef, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podRef.getPodName(),
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering restart of pod {} after delay of {} {}", podRef, delay, unit);
             try {
                 restartIfNecessary(podRef, ctx);
@@ -290,7 +398,7 @@ public class KafkaRoller {
                 LOGGER.infoCr(reconciliation, "Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         podRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -332,22 +440,39 @@ public class KafkaRoller {
             throw new UnforceableProblem("Error getting pod " + podRef.getPodName(), e);
         }
 
-        restartContext.restartReasons = podNeedsRestart.apply(pod);
+        if (restartContext.initialRestartReasons != null
+                && restartContext.initialRestartReasonsPodVersion != null
+                && pod != null
+                && pod.getMetadata() != null
+                && restartContext.initialRestartReasonsPodVersion.equals(pod.getMetadata().getResourceVersion())) {
+            // The pod did not change since its restart reasons were evaluated
+            restartContext.restartReasons = restartContext.initialRestartReasons;
+        } else {
+            restartContext.restartReasons = podNeedsRestart.apply(pod);
+        }
+
+        restartContext.initialRestartReasons = null;
+        restartContext.initialRestartReasonsPodVersion = null;
 
         try {
             checkReconfigurability(podRef, pod, restartContext);
             if (restartContext.forceRestart || restartContext.needsRestart || restartContext.needsReconfig) {
                 if (!restartContext.forceRestart && deferController(podRef, restartContext)) {
                     LOGGER.debugCr(reconciliation, "Pod {} is controller and there are other pods to roll", podRef);
+                    awaitOtherRestarts();
                     throw new ForceableProblem("Pod " + podRef.getPodName() + " is currently the controller and there are other pods still to roll");
                 } else {
-                    if (restartContext.forceRestart || canRoll(podRef, 60_000, TimeUnit.MILLISECONDS, false, restartContext)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartContext.forceRestart || !maybeDynamicUpdateBrokerConfig(podRef.getPodId(), restartContext)) {
-                            LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podRef);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
-                        } else {
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    if (restartContext.forceRestart ? markRestarting(podRef) : canRoll(podRef, 60_000, TimeUnit.MILLISECONDS, false, restartContext)) {
+                        try {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (restartContext.forceRestart || !maybeDynamicUpdateBrokerConfig(podRef.getPodId(), restartContext)) {
+                                LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podRef);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                            } else {
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
+                        } finally {
+                            doneRestarting(podRef);
                         }
                     } else {
                         LOGGER.debugCr(reconciliation, "Pod {} cannot be rolled right now", podRef);
@@ -368,7 +493,11 @@ public class KafkaRoller {
                 if (canRoll(podRef, 60_000, TimeUnit.MILLISECONDS, true, restartContext)) {
                     LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", podRef, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     restartContext.restartReasons.add(RestartReason.POD_FORCE_RESTART_ON_ERROR);
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                    try {
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+                    } finally {
+                        doneRestarting(podRef);
+                    }
                 } else {
                     LOGGER.warnCr(reconciliation, "Pod {} can't be safely force-rolled; original error: ", podRef, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -422,6 +551,8 @@ public class KafkaRoller {
             } catch (ForceableProblem e) {
                 LOGGER.debugCr(reconciliation, "Pod {} could not be updated dynamically ({}), will restart", podId, e);
                 updatedDynamically = false;
+            } finally {
+                invalidateDescribedConfigs(podId);
             }
         } else {
             updatedDynamically = false;
@@ -461,8 +592,10 @@ public class KafkaRoller {
         KafkaBrokerConfigurationDiff diff = null;
         KafkaBrokerLoggingConfigurationDiff loggingDiff = null;
         boolean needsReconfig = false;
-        // Always get the broker config. This request gets sent to that specific broker, so it's a proof that we can
-        // connect to the broker and that it's capable of responding.
+        // Always get the broker config. The describe request for it gets sent to that specific broker, so it's a proof
+        // that we can connect to the broker and that it's capable of responding. The configs of all brokers are
+        // described together in one batched request, but a broker config which is too old to serve as that proof is
+        // described again (see describedConfig(int, ConfigResource)).
         if (!initAdminClient()) {
             LOGGER.infoCr(reconciliation, "Pod {} needs to be restarted, because it does not seem to responding to connection attempts", podRef);
             reasonToRestartPod.add(RestartReason.POD_UNRESPONSIVE);
@@ -523,11 +656,8 @@ public class KafkaRoller {
      * @return a Future which completes with the config of the given broker.
      */
     protected Config brokerConfig(PodRef podRef) throws ForceableProblem, InterruptedException {
-        ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(podRef.getPodId()));
-        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
-            30, TimeUnit.SECONDS,
-            error -> new ForceableProblem("Error getting broker config", error)
-        );
+        ConfigResource resource = Util.getBrokersConfig(podRef.getPodId());
+        return awaitDescribedConfig(podRef.getPodId(), resource, "Error getting broker config");
     }
 
     /**
@@ -537,10 +667,110 @@ public class KafkaRoller {
      */
     protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = Util.getBrokersLogging(brokerId);
-        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
-                30, TimeUnit.SECONDS,
-            error -> new ForceableProblem("Error getting broker logging", error)
-        );
+        return awaitDescribedConfig(brokerId, resource, "Error getting broker logging");
+    }
+
+    /**
+     * Waits for the described configuration of the given resource. When the described configuration cannot be
+     * obtained, the configurations of the broker are invalidated so that they are described again in the next attempt.
+     */
+    private Config awaitDescribedConfig(int brokerId, ConfigResource resource, String errorMessage) throws ForceableProblem, InterruptedException {
+        try {
+            return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, describedConfig(brokerId, resource)),
+                    30, TimeUnit.SECONDS,
+                error -> new ForceableProblem(errorMessage, error)
+            );
+        } catch (ForceableProblem e) {
+            invalidateDescribedConfigs(brokerId);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the described configuration of the given resource. The first call describes the configurations of all
+     * brokers and broker loggers together in a single batched describeConfigs request, instead of sending a separate
+     * request for each broker. Afterwards, only the configurations of the brokers which were invalidated because they
+     * were reconfigured or restarted are described again when they are needed. The broker configuration is also
+     * described again when it is older than the maximal age, because it is used as a proof that the broker is
+     * responsive.
+     *
+     * @param brokerId  The id of the broker.
+     * @param resource  The broker or broker logger resource.
+     * @return a KafkaFuture which completes with the configuration of the given resource.
+     */
+    private KafkaFuture<Config> describedConfig(int brokerId, ConfigResource resource) {
+        synchronized (describedConfigs) {
+            Long describedNanos = describedConfigsNanos.get(brokerId);
+            if (resource.type() == ConfigResource.Type.BROKER
+                    && describedNanos != null
+                    && System.nanoTime() - describedNanos >= TimeUnit.MILLISECONDS.toNanos(describedConfigMaxAgeMs())) {
+                LOGGER.debugCr(reconciliation, "Configuration of broker {} is outdated and will be described again", brokerId);
+                describedConfigs.remove(Util.getBrokersConfig(brokerId));
+                describedConfigs.remove(Util.getBrokersLogging(brokerId));
+            }
+
+            if (!describedConfigs.containsKey(resource)) {
+                Set<ConfigResource> resources = new HashSet<>();
+                resources.add(resource);
+                resources.add(Util.getBrokersConfig(brokerId));
+                resources.add(Util.getBrokersLogging(brokerId));
+
+                if (!allConfigsDescribed) {
+                    for (String podName : podList) {
+                        int podId = ModelUtils.idOfPod(podName);
+                        resources.add(Util.getBrokersConfig(podId));
+                        resources.add(Util.getBrokersLogging(podId));
+                    }
+
+                    allConfigsDescribed = true;
+                }
+
+                resources.removeAll(describedConfigs.keySet());
+                LOGGER.debugCr(reconciliation, "Describing configurations {}", resources);
+                describedConfigs.putAll(allClient.describeConfigs(resources).values());
+
+                long nowNanos = System.nanoTime();
+                for (ConfigResource described : resources) {
+                    describedConfigsNanos.put(Integer.parseInt(described.name()), nowNanos);
+                }
+            }
+
+            return describedConfigs.get(resource);
+        }
+    }
+
+    /**
+     * Invalidates the described configurations of the given broker after it was reconfigured or restarted or when its
+     * configuration could not be described. They will be described again when they are needed next time.
+     *
+     * @param brokerId  The id of the broker.
+     */
+    private void invalidateDescribedConfigs(int brokerId) {
+        synchronized (describedConfigs) {
+            describedConfigs.remove(Util.getBrokersConfig(brokerId));
+            describedConfigs.remove(Util.getBrokersLogging(brokerId));
+            describedConfigsNanos.remove(brokerId);
+        }
+    }
+
+    /**
+     * Invalidates the described configurations of all brokers, so that they are described again in a single batched
+     * request when they are needed next time.
+     */
+    private void invalidateAllDescribedConfigs() {
+        synchronized (describedConfigs) {
+            describedConfigs.clear();
+            describedConfigsNanos.clear();
+            allConfigsDescribed = false;
+        }
+    }
+
+    /**
+     * @return  The maximal age of a described broker configuration which is still accepted as a proof that the broker
+     *          is responsive.
+     */
+    protected long describedConfigMaxAgeMs() {
+        return DESCRIBED_CONFIG_MAX_AGE_MS;
     }
 
     protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff)
@@ -569,6 +799,36 @@ public class KafkaRoller {
         LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for broker {} was successful.", podId);
     }
 
+    /**
+     * Dynamically updates the configuration and logging of several brokers with a single incrementalAlterConfigs
+     * request. The Admin client sends the changes to all the brokers concurrently.
+     *
+     * @param ac                    The Admin client.
+     * @param configurationDiffs    The configuration changes of the brokers.
+     * @param logDiffs              The logging changes of the brokers.
+     */
+    protected void dynamicUpdateBrokersConfig(Admin ac, Map<Integer, KafkaBrokerConfigurationDiff> configurationDiffs, Map<Integer, KafkaBrokerLoggingConfigurationDiff> logDiffs)
+            throws ForceableProblem, InterruptedException {
+        Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(configurationDiffs.size() * 2);
+        for (Map.Entry<Integer, KafkaBrokerConfigurationDiff> diff : configurationDiffs.entrySet()) {
+            updatedConfig.put(Util.getBrokersConfig(diff.getKey()), diff.getValue().getConfigDiff());
+            updatedConfig.put(Util.getBrokersLogging(diff.getKey()), logDiffs.get(diff.getKey()).getLoggingDiff());
+        }
+
+        Set<Integer> podIds = configurationDiffs.keySet();
+        LOGGER.debugCr(reconciliation, "Altering configuration of brokers {}", podIds);
+        LOGGER.traceCr(reconciliation, "Altering configuration of brokers {} with {}", podIds, updatedConfig);
+
+        AlterConfigsResult alterConfigResult = ac.incrementalAlterConfigs(updatedConfig);
+        await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, alterConfigResult.all()), 30, TimeUnit.SECONDS,
+            error -> {
+                LOGGER.warnCr(reconciliation, "Error doing dynamic config update of brokers {}", podIds, error);
+                return new ForceableProblem("Error doing dynamic update of brokers " + podIds, error);
+            });
+
+        LOGGER.infoCr(reconciliation, "Dynamic reconfiguration for brokers {} was successful.", podIds);
+    }
+
     private KafkaBrokerLoggingConfigurationDiff logging(PodRef podRef)
             throws ForceableProblem, InterruptedException {
         Config brokerLogging = brokerLogging(podRef.getPodId());
@@ -614,22 +874,122 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Determines whether the given pod can be rolled now. When it can, the pod is marked as restarting and the caller
+     * has to call {@link #doneRestarting(PodRef)} once the pod was rolled. When other pods are being restarted in
+     * parallel and the given pod cannot be rolled together with them, this method waits for them to finish before
+     * checking the rollability again. The restarts of these pods are bounded by the operation timeout, so the waiting
+     * is bounded as well and does not count against the back-off of the given pod.
+     *
+     * The rollability is checked against a snapshot of the pods being restarted without holding the lock, so that the
+     * other pods can be marked as restarted while the Admin API is queried. The pod is marked as restarting only when
+     * no other pod started restarting in the meantime. Otherwise, the rollability is checked again.
+     */
     private boolean canRoll(PodRef podRef, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException {
+        while (true) {
+            Set<Integer> inFlight;
+            synchronized (restartingBrokers) {
+                inFlight = Set.copyOf(restartingBrokers);
+            }
+
+            boolean canRoll = inFlight.size() < maxConcurrentRestarts
+                    && inSameRack(podRef.getPodId(), inFlight)
+                    && canRollWith(podRef, inFlight, timeout, unit, ignoreSslError, restartContext);
+
+            synchronized (restartingBrokers) {
+                if (canRoll && inFlight.containsAll(restartingBrokers)) {
+                    // Pods which finished restarting in the meantime do not invalidate the check
+                    restartingBrokers.add(podRef.getPodId());
+                    return true;
+                } else if (!canRoll && inFlight.isEmpty()) {
+                    return false;
+                } else if (restartingBrokers.equals(inFlight)) {
+                    LOGGER.debugCr(reconciliation, "Pod {} cannot be rolled together with pods {}, waiting for them to be rolled first", podRef, inFlight);
+                    restartingBrokers.wait(operationTimeoutMs);
+                }
+
+                // The pods being restarted changed, so the rollability has to be checked again
+            }
+        }
+    }
+
+    private boolean canRollWith(PodRef podRef, Set<Integer> restartingBrokers, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
+            throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podRef.getPodId()), timeout, unit,
+            return await(restartingBrokers.isEmpty() ? availability().canRoll(podRef.getPodId()) : availability().canRoll(podRef.getPodId(), restartingBrokers),
+                timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
-            // If we're not able to connect then roll
+            // If we're not able to connect then roll, but only alone as we cannot check that the pod does not share
+            // partitions with the pods being restarted
             if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
-                restartContext.restartReasons.add(RestartReason.POD_UNRESPONSIVE);
-                return true;
+                if (restartingBrokers.isEmpty()) {
+                    restartContext.restartReasons.add(RestartReason.POD_UNRESPONSIVE);
+                    return true;
+                } else {
+                    LOGGER.debugCr(reconciliation, "Pod {} is not responding and will be rolled once pods {} are rolled", podRef, restartingBrokers);
+                    return false;
+                }
             } else {
                 throw e;
             }
         }
     }
 
+    /**
+     * Checks whether the given broker is in the same rack as all the brokers which are being restarted. This is always
+     * the case when rolling by rack is not enabled or when no other broker is being restarted.
+     */
+    private boolean inSameRack(int podId, Set<Integer> restartingBrokers) throws ForceableProblem, InterruptedException {
+        if (!concurrentRestartsByRack || restartingBrokers.isEmpty()) {
+            return true;
+        }
+
+        if (brokerRacks == null) {
+            brokerRacks = brokerRacks();
+        }
+
+        String rack = brokerRacks.get(podId);
+        return rack != null && restartingBrokers.stream().allMatch(id -> rack.equals(brokerRacks.get(id)));
+    }
+
+    /**
+     * Waits until none of the pods is being restarted. This is used for the controller, so that it is retried only
+     * after the pods rolled in parallel with it are done and not at the pace of its back-off. When the pods are rolled
+     * one-at-a-time, this returns immediately.
+     */
+    private void awaitOtherRestarts() throws InterruptedException {
+        synchronized (restartingBrokers) {
+            while (!restartingBrokers.isEmpty()) {
+                restartingBrokers.wait(operationTimeoutMs);
+            }
+        }
+    }
+
+    /**
+     * Marks the given pod as restarting without checking whether it can be rolled. This is used when the pod has to be
+     * restarted anyway, so that the other pods are not rolled together with it.
+     *
+     * @return Always true
+     */
+    private boolean markRestarting(PodRef podRef) {
+        synchronized (restartingBrokers) {
+            restartingBrokers.add(podRef.getPodId());
+        }
+        return true;
+    }
+
+    /**
+     * Marks the given pod as no longer restarting and wakes up the pods waiting to be rolled.
+     */
+    private void doneRestarting(PodRef podRef) {
+        synchronized (restartingBrokers) {
+            restartingBrokers.remove(podRef.getPodId());
+            restartingBrokers.notifyAll();
+        }
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -643,6 +1003,7 @@ public class KafkaRoller {
             throws InterruptedException, UnforceableProblem, FatalProblem {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
+        invalidateDescribedConfigs(ModelUtils.idOfPod(podName));
         await(restart(pod, restartContext), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
         awaitReadiness(pod, timeout, unit);
     }
@@ -721,10 +1082,35 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Returns the racks of the brokers as reported by the Kafka cluster. Brokers without a rack are not included.
+     */
+    protected Map<Integer, String> brokerRacks() throws ForceableProblem, InterruptedException {
+        Collection<Node> nodes = await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeCluster().nodes()),
+            30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error getting the racks of the brokers", error)
+        );
+
+        return nodes.stream()
+                .filter(node -> node.rack() != null)
+                .collect(Collectors.toMap(Node::id, Node::rack));
+    }
+
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
 
+    /**
+     * Returns the KafkaAvailability used for all rollability checks during this rolling update. It is created on first
+     * use, so that the snapshot of the partitions is built only once and then refreshed incrementally.
+     */
+    private synchronized KafkaAvailability availability() {
+        if (kafkaAvailability == null || allClient == null) {
+            kafkaAvailability = availability(allClient);
+        }
+        return kafkaAvailability;
+    }
+
     String podName(int podId) {
         return KafkaResources.kafkaPodName(this.cluster, podId);
     }
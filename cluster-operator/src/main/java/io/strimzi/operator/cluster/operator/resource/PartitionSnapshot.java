@@ -0,0 +1,275 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the replicas and in-sync replicas of all partitions in the Kafka cluster, indexed by the broker ID. It is
+ * built once per rolling update and then updated with the descriptions of all topics before each broker is rolled.
+ * Only the partitions whose replicas or ISR changed are replaced. The {@code min.insync.replicas} of the topics is
+ * stored as well. It is kept for the whole rolling update and is only considered unknown again when the metadata of
+ * the topic changes - when the topic is re-created, its partitions are added or its replicas are reassigned. Changes
+ * of the ISR alone, which are expected while the brokers are rolled, keep it.
+ *
+ * The snapshot might be updated from different threads, so all access is synchronized.
+ */
+class PartitionSnapshot {
+    /**
+     * Value of the {@code min.insync.replicas} of topics which do not have it configured
+     */
+    static final int NO_MIN_ISR = -1;
+
+    private final Map<String, TopicState> topics = new HashMap<>();
+    private final Map<Integer, Set<String>> topicsByBroker = new HashMap<>();
+
+    /**
+     * Updates the snapshot with the given topic descriptions. Topics which are not in the snapshot yet are added.
+     * The stored {@code min.insync.replicas} of the topics whose metadata changed is dropped.
+     *
+     * @param descriptions  Descriptions of the topics
+     *
+     * @return  The number of partitions which were added or changed
+     */
+    synchronized int update(Collection<TopicDescription> descriptions) {
+        int changed = 0;
+
+        for (TopicDescription description : descriptions) {
+            TopicState topic = topics.computeIfAbsent(description.name(), TopicState::new);
+            List<TopicPartitionInfo> partitionInfos = description.partitions();
+
+            if (!Objects.equals(topic.topicId, description.topicId())) {
+                // The topic was deleted and created again with the same name
+                topic.topicId = description.topicId();
+                topic.partitions = new PartitionState[0];
+                topic.minIsrKnown = false;
+            }
+
+            if (topic.partitions.length != partitionInfos.size()) {
+                topic.partitions = Arrays.copyOf(topic.partitions, partitionInfos.size());
+                topic.minIsrKnown = false;
+            }
+
+            for (TopicPartitionInfo info : partitionInfos) {
+                if (info.partition() >= topic.partitions.length) {
+                    // Should not happen as the partitions are numbered from 0 but we do not want to fail on it
+                    topic.partitions = Arrays.copyOf(topic.partitions, info.partition() + 1);
+                }
+
+                PartitionState current = topic.partitions[info.partition()];
+                int[] replicas = brokerIds(info.replicas());
+                int[] isr = brokerIds(info.isr());
+
+                if (current == null) {
+                    topic.partitions[info.partition()] = new PartitionState(info.partition(), replicas, isr);
+                    indexReplicas(topic.name, replicas);
+                    changed++;
+                } else if (!Arrays.equals(current.replicas, replicas)) {
+                    current.replicas = replicas;
+                    current.isr = isr;
+                    indexReplicas(topic.name, replicas);
+                    topic.minIsrKnown = false;
+                    changed++;
+                } else if (!Arrays.equals(current.isr, isr)) {
+                    current.isr = isr;
+                    changed++;
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Removes the topics which do not exist anymore from the snapshot.
+     *
+     * @param existingTopics    Names of the topics which currently exist in the Kafka cluster
+     */
+    synchronized void retainTopics(Set<String> existingTopics) {
+        if (topics.keySet().retainAll(existingTopics)) {
+            for (Set<String> topicsOnBroker : topicsByBroker.values()) {
+                topicsOnBroker.retainAll(existingTopics);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the topics with at least one replica on the given broker. The index is only extended when
+     * replicas are reassigned, so it might contain topics which do not have replicas on the broker anymore.
+     *
+     * @param brokerId  ID of the broker
+     *
+     * @return  Set with the topic names
+     */
+    synchronized Set<String> topicsOnBroker(int brokerId) {
+        Set<String> topicsOnBroker = topicsByBroker.get(brokerId);
+        return topicsOnBroker != null ? new HashSet<>(topicsOnBroker) : Set.of();
+    }
+
+    /**
+     * Returns the names of the given topics whose {@code min.insync.replicas} is not known yet. Topics which are not in
+     * the snapshot are skipped.
+     *
+     * @param names     Topic names
+     *
+     * @return  Set with the topic names
+     */
+    synchronized Set<String> topicsWithoutMinIsr(Collection<String> names) {
+        return names.stream()
+                .filter(name -> {
+                    TopicState topic = topics.get(name);
+                    return topic != null && !topic.minIsrKnown;
+                })
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Stores the {@code min.insync.replicas} of a topic.
+     *
+     * @param name      Topic name
+     * @param minIsr    The {@code min.insync.replicas} value or {@link #NO_MIN_ISR} if the topic does not have it
+     */
+    synchronized void minIsr(String name, int minIsr) {
+        TopicState topic = topics.get(name);
+
+        if (topic != null) {
+            topic.minIsr = minIsr;
+            topic.minIsrKnown = true;
+        }
+    }
+
+    /**
+     * Returns the current state of the partitions of a topic hosted by a given broker.
+     *
+     * @param name      Topic name
+     * @param brokerId  ID of the broker
+     *
+     * @return  List of the partitions with a replica on the broker or an empty list if the topic is unknown
+     */
+    synchronized List<PartitionState> partitionsOnBroker(String name, int brokerId) {
+        TopicState topic = topics.get(name);
+
+        if (topic == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(topic.partitions)
+                .filter(partition -> partition != null && partition.hasReplicaOn(brokerId))
+                .map(PartitionState::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the stored {@code min.insync.replicas} of a topic.
+     *
+     * @param name  Topic name
+     *
+     * @return  The {@code min.insync.replicas} or {@link #NO_MIN_ISR} when it is not configured or not known
+     */
+    synchronized int minIsr(String name) {
+        TopicState topic = topics.get(name);
+        return topic != null ? topic.minIsr : NO_MIN_ISR;
+    }
+
+    /**
+     * @return  Number of topics in the snapshot
+     */
+    synchronized int size() {
+        return topics.size();
+    }
+
+    private void indexReplicas(String topic, int[] replicas) {
+        for (int replica : replicas) {
+            topicsByBroker.computeIfAbsent(replica, id -> new HashSet<>()).add(topic);
+        }
+    }
+
+    private static int[] brokerIds(List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).id();
+        }
+
+        return ids;
+    }
+
+    /**
+     * State of a single topic
+     */
+    private static class TopicState {
+        private final String name;
+        private Uuid topicId;
+        private PartitionState[] partitions = new PartitionState[0];
+        private int minIsr = NO_MIN_ISR;
+        private boolean minIsrKnown = false;
+
+        TopicState(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Replicas and in-sync replicas of a single partition
+     */
+    static class PartitionState {
+        private final int partition;
+        private int[] replicas;
+        private int[] isr;
+
+        PartitionState(int partition, int[] replicas, int[] isr) {
+            this.partition = partition;
+            this.replicas = replicas;
+            this.isr = isr;
+        }
+
+        private PartitionState copy() {
+            return new PartitionState(partition, replicas, isr);
+        }
+
+        int partition() {
+            return partition;
+        }
+
+        int[] replicas() {
+            return replicas;
+        }
+
+        int[] isr() {
+            return isr;
+        }
+
+        boolean hasReplicaOn(int brokerId) {
+            return contains(replicas, brokerId);
+        }
+
+        boolean isInSync(int brokerId) {
+            return contains(isr, brokerId);
+        }
+
+        private static boolean contains(int[] brokerIds, int brokerId) {
+            for (int id : brokerIds) {
+                if (id == brokerId) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -77,8 +77,20 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, Pod desiredPod)   {
+        return hasChanged(currentPod, getRevisionFromAnnotations(desiredPod));
+    }
+
+    /**
+     * Compares the revision of the current Pod with the desired revision to decide if the desired pod changed and
+     * needs to be rolled. This is used when the desired revision was already extracted from the desired Pod.
+     *
+     * @param currentPod        Current pod
+     * @param desiredRevision   Revision of the desired pod
+     *
+     * @return                  True if the revision changed. False otherwise.
+     */
+    public static boolean hasChanged(Pod currentPod, String desiredRevision)   {
         String currentRevision = getRevisionFromAnnotations(currentPod);
-        String desiredRevision = getRevisionFromAnnotations(desiredPod);
 
         if (currentRevision == null && desiredRevision == null) {
             // Both revisions are null => that is weird, but it means they had not changed
@@ -99,7 +111,7 @@ public class PodRevision {
      *
      * @return      Current revision of the Pod
      */
-    private static String getRevisionFromAnnotations(Pod pod)  {
+    public static String getRevisionFromAnnotations(Pod pod)  {
         return Annotations.stringAnnotation(pod, STRIMZI_REVISION_ANNOTATION, null);
     }
 }
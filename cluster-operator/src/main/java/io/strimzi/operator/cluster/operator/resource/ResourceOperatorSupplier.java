@@ -20,12 +20,15 @@ import io.strimzi.api.kafka.model.KafkaMirrorMaker;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.KafkaRebalance;
 import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.CachingAdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -52,6 +55,8 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.Vertx;
 
+import java.util.Map;
+
 // Deprecation is suppressed because of KafkaMirrorMaker
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -91,14 +96,18 @@ public class ResourceOperatorSupplier {
     public final KubernetesRestartEventPublisher restartEventsPublisher;
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName) {
+        this(vertx, client, pfa, operationTimeoutMs, operatorName, new MicrometerMetricsProvider());
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName, MetricsProvider metricsProvider) {
         this(vertx,
                 client,
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                         () -> new BackOff(5_000, 2, 4)),
-                new DefaultAdminClientProvider(),
+                new CachingAdminClientProvider(new DefaultAdminClientProvider(), metricsProvider, CachingAdminClientProvider.DEFAULT_IDLE_TIMEOUT_MS),
                 new DefaultZookeeperScalerProvider(),
-                new MicrometerMetricsProvider(),
+                metricsProvider,
                 pfa,
                 operationTimeoutMs,
                 KubernetesRestartEventPublisher.createPublisher(client, operatorName, pfa.hasEventsApiV1())
@@ -241,4 +250,62 @@ public class ResourceOperatorSupplier {
         this.zookeeperLeaderFinder = zookeeperLeaderFinder;
         this.restartEventsPublisher = restartEventsPublisher;
     }
+
+    /**
+     * Enables the informer-backed read caches for the custom resources and for the resources managed by the operator
+     * in given namespace. The resources managed by the operator are cached based on the managed-by label. Other
+     * resources are not cached and are always read from the Kubernetes API server.
+     *
+     * @param namespace         Namespace for which the caches should be enabled. Use * for all namespaces.
+     * @param maxStalenessMs    For how long can be the cached data used when the informer is not watching
+     */
+    public void enableResourceCaches(String namespace, long maxStalenessMs) {
+        Map<String, String> managedByOperator = Map.of(Labels.KUBERNETES_MANAGED_BY_LABEL, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
+
+        // Custom resources
+        kafkaOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        connectOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        mirrorMakerOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        mirrorMaker2Operator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        kafkaBridgeOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        kafkaConnectorOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        kafkaRebalanceOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+        strimziPodSetOperator.enableCache(namespace, Map.of(), maxStalenessMs, metricsProvider);
+
+        // Resources managed by the operator
+        stsOperations.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+        deploymentOperations.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+        serviceOperations.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+        configMapOperations.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+        secretOperations.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+        serviceAccountOperations.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+        networkPolicyOperator.enableCache(namespace, managedByOperator, maxStalenessMs, metricsProvider);
+    }
+
+    /**
+     * Enables the watch-driven waiting for the readiness of the resources which the operator waits for during the
+     * reconciliation (for example the pods during rolling updates or the services of the Kafka listeners).
+     */
+    public void enableWatchDrivenWaiting() {
+        podOperations.enableWatchDrivenWaiting();
+        stsOperations.enableWatchDrivenWaiting();
+        deploymentOperations.enableWatchDrivenWaiting();
+        serviceOperations.enableWatchDrivenWaiting();
+        ingressOperations.enableWatchDrivenWaiting();
+        ingressV1Beta1Operations.enableWatchDrivenWaiting();
+
+        if (routeOperations != null) {
+            routeOperations.enableWatchDrivenWaiting();
+        }
+    }
+
+    /**
+     * Releases the resources held by the supplier when the operator shuts down. It closes the cached Kafka Admin
+     * clients and stops the thread which evicts the idle clients.
+     */
+    public void close() {
+        if (adminClientProvider instanceof CachingAdminClientProvider) {
+            ((CachingAdminClientProvider) adminClientProvider).close();
+        }
+    }
 }
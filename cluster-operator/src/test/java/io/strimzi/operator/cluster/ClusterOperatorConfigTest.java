@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -70,6 +71,13 @@ public class ClusterOperatorConfigTest {
         assertThat(config.isNetworkPolicyGeneration(), is(true));
         assertThat(config.isPodSetReconciliationOnly(), is(false));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS));
+        assertThat(config.isResourceCacheEnabled(), is(false));
+        assertThat(config.getResourceCacheMaxStalenessMs(), is(ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_MAX_STALENESS_MS));
+        assertThat(config.getMaxConcurrentReconciliations(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS));
+        assertThat(config.getMaxConcurrentReconciliationsPerNamespace(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE));
+        assertThat(config.getPeriodicReconciliationJitterMs(), is(ClusterOperatorConfig.DEFAULT_PERIODIC_RECONCILIATION_JITTER_MS));
+        assertThat(config.getMaxConcurrentBrokerRestarts(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS));
+        assertThat(config.isConcurrentBrokerRestartsByRack(), is(false));
     }
 
     @Test
@@ -94,7 +102,20 @@ public class ClusterOperatorConfigTest {
                 false,
                 1024,
                 "operator_name",
-                null);
+                null,
+                false,
+                60_000,
+                0,
+                0,
+                30_000,
+                1,
+                false,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER,
+                ClusterOperatorConfig.DEFAULT_CERT_GENERATION_THREAD_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS,
+                ClusterOperatorConfig.DEFAULT_WATCH_DRIVEN_READINESS_ENABLED,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_FINGERPRINT_MAX_AGE_MS);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -386,4 +407,113 @@ public class ClusterOperatorConfigTest {
         assertThat(ClusterOperatorConfig.parsePodSecurityProviderClass("restricted"), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_RESTRICTED_CLASS));
         assertThat(ClusterOperatorConfig.parsePodSecurityProviderClass("my.package.MyClass"), is("my.package.MyClass"));
     }
+
+    @Test
+    public void testResourceCache() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_ENABLED, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_MAX_STALENESS_MS, "15000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isResourceCacheEnabled(), is(true));
+        assertThat(config.getResourceCacheMaxStalenessMs(), is(15_000L));
+    }
+
+    @Test
+    public void testReconciliationWorkQueue() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "20");
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_NAMESPACE, "5");
+        envVars.put(ClusterOperatorConfig.STRIMZI_PERIODIC_RECONCILIATION_JITTER_MS, "60000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliations(), is(20));
+        assertThat(config.getMaxConcurrentReconciliationsPerNamespace(), is(5));
+        assertThat(config.getPeriodicReconciliationJitterMs(), is(60_000L));
+    }
+
+    @Test
+    public void testConcurrentBrokerRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS, "3");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONCURRENT_BROKER_RESTARTS_BY_RACK, "true");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentBrokerRestarts(), is(3));
+        assertThat(config.isConcurrentBrokerRestartsByRack(), is(true));
+    }
+
+    @Test
+    public void testInvalidConcurrentBrokerRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "JCA");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.JCA));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCertGenerationThreadPoolSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertGenerationThreadPoolSize(), is(ClusterOperatorConfig.DEFAULT_CERT_GENERATION_THREAD_POOL_SIZE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_GENERATION_THREAD_POOL_SIZE, "8");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertGenerationThreadPoolSize(), is(8));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_GENERATION_THREAD_POOL_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testPodSetControllerWorkers() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "4");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(4));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testHttpClientMaxConnections() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getHttpClientMaxConnections(), is(ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_HTTP_CLIENT_MAX_CONNECTIONS, "10");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getHttpClientMaxConnections(), is(10));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_HTTP_CLIENT_MAX_CONNECTIONS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testWatchDrivenReadiness() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isWatchDrivenReadinessEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_WATCH_DRIVEN_READINESS_ENABLED, "true");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isWatchDrivenReadinessEnabled(), is(true));
+    }
+
+    @Test
+    public void testReconciliationFingerprintMaxAge() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationFingerprintMaxAgeMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_FINGERPRINT_MAX_AGE_MS, "3600000");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationFingerprintMaxAgeMs(), is(3_600_000L));
+    }
 }
@@ -749,7 +749,20 @@ public class ResourceUtils {
                 false,
                 1024,
                 "cluster-operator-name",
-                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS);
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS,
+                false,
+                60_000,
+                0,
+                0,
+                30_000,
+                1,
+                false,
+                ClusterOperatorConfig.DEFAULT_CERT_MANAGER,
+                ClusterOperatorConfig.DEFAULT_CERT_GENERATION_THREAD_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_MAX_CONNECTIONS,
+                ClusterOperatorConfig.DEFAULT_WATCH_DRIVEN_READINESS_ENABLED,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_FINGERPRINT_MAX_AGE_MS);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions, long operationTimeoutMs) {
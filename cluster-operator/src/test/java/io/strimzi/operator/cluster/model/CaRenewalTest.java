@@ -6,10 +6,13 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
@@ -21,8 +24,12 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -214,6 +221,55 @@ public class CaRenewalTest {
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
 
+    @ParallelTest
+    public void concurrentGenerationOfStatefulSetCertificates() throws IOException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        Ca mockedCa = new MockedCa(Reconciliation.DUMMY_RECONCILIATION, null, null, "test-ca", null, null, null, null, 2, 1, true, null) {
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) {
+                String name = subject.commonName();
+
+                return new CertAndKey(
+                        ("new-key-" + name).getBytes(),
+                        ("new-cert-" + name).getBytes(),
+                        ("new-truststore-" + name).getBytes(),
+                        ("new-keystore-" + name).getBytes(),
+                        "new-password-" + name
+                );
+            }
+        };
+
+        try {
+            mockedCa.configureCertGeneration(executor, new MicrometerMetricsProvider(registry));
+
+            int replicas = 10;
+            Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName("pod" + i).build();
+            Function<Integer, String> podNameFn = i -> "pod" + i;
+
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION, replicas,
+                    subjectFn,
+                    null,
+                    podNameFn,
+                    true);
+
+            assertThat(newCerts.keySet(), is(IntStream.range(0, replicas).mapToObj(i -> "pod" + i).collect(Collectors.toSet())));
+
+            for (int i = 0; i < replicas; i++) {
+                assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).keyStore()), is("new-keystore-pod" + i));
+                assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+            }
+
+            assertThat(registry.get(Ca.METRIC_CERT_GENERATION).tag("ca", mockedCa.toString()).timer().count(), is((long) replicas));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public static class MockedCa extends Ca {
         private boolean isCertRenewed;
         private boolean isCertExpiring;
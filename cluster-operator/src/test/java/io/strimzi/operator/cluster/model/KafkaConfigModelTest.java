@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+@ParallelSuite
+public class KafkaConfigModelTest {
+    private final KafkaVersion kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+    @ParallelTest
+    public void testModelIsCached() {
+        KafkaConfigModel model = KafkaConfigModel.forVersion(kafkaVersion);
+
+        assertThat(KafkaConfigModel.forVersion(kafkaVersion), is(sameInstance(model)));
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(model.configs())));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.configs().remove("broker.id"));
+    }
+
+    @ParallelTest
+    public void testCachedConfigsCannotBeModified() {
+        ConfigModel config = KafkaConfigModel.forVersion(kafkaVersion).configs().get("log.message.timestamp.type");
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> config.setType(Type.INT));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> config.setValues(List.of("dog")));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> config.getValues().add("dog"));
+
+        assertThat(config.getType(), is(Type.STRING));
+        assertThat(config.getValues(), is(List.of("CreateTime", "LogAppendTime")));
+    }
+
+    @ParallelTest
+    public void testScopes() {
+        KafkaConfigModel model = KafkaConfigModel.forVersion(kafkaVersion);
+
+        assertThat(model.configsWithScope(Scope.READ_ONLY), hasItem("zookeeper.connect"));
+        assertThat(model.configsWithScope(Scope.CLUSTER_WIDE), hasItem("log.retention.ms"));
+        assertThat(model.configsWithScope(Scope.CLUSTER_WIDE), not(hasItem("zookeeper.connect")));
+
+        assertThat(model.isDynamicallyUpdatable("log.retention.ms"), is(true));
+        assertThat(model.isDynamicallyUpdatable("zookeeper.connect"), is(false));
+        assertThat(model.isDynamicallyUpdatable("custom.property"), is(false));
+    }
+
+    @ParallelTest
+    public void testValidate() {
+        KafkaConfigModel model = KafkaConfigModel.forVersion(kafkaVersion);
+
+        assertThat(model.isKnown("log.message.timestamp.type"), is(true));
+        assertThat(model.validate("log.message.timestamp.type", "LogAppendTime"), is(emptyList()));
+        assertThat(model.validate("log.message.timestamp.type", "dog"),
+                is(singletonList("log.message.timestamp.type has value 'dog' which is not one of the allowed values: [CreateTime, LogAppendTime]")));
+
+        // Unknown configs are not validated
+        assertThat(model.isKnown("custom.property"), is(false));
+        assertThat(model.validate("custom.property", "dog"), is(emptyList()));
+    }
+}
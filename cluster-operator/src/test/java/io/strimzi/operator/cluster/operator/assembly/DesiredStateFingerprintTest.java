@@ -0,0 +1,185 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.api.kafka.model.ExternalLoggingBuilder;
+import io.strimzi.api.kafka.model.JmxPrometheusExporterMetricsBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.api.kafka.model.status.ListenerStatusBuilder;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.ClientsCa;
+import io.strimzi.operator.cluster.model.ClusterCa;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DesiredStateFingerprintTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final long MAX_AGE_MS = 3_600_000L;
+    // Start of a period of the my-cluster cluster
+    private static final long NOW_MS = 10 * MAX_AGE_MS - Math.floorMod((long) "my-namespace/my-cluster".hashCode(), MAX_AGE_MS);
+
+    private static Kafka kafka(long generation, Map<String, String> annotations) {
+        return kafka("my-cluster", generation, annotations);
+    }
+
+    private static Kafka kafka(String name, long generation, Map<String, String> annotations) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("my-namespace")
+                    .withGeneration(generation)
+                    .withAnnotations(annotations)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                    .endKafka()
+                .endSpec()
+                .build();
+    }
+
+    private static List<HasMetadata> children(String secretVersion, String podVersion) {
+        return List.of(
+                new SecretBuilder().withNewMetadata().withName("my-cluster-cluster-ca-cert").withResourceVersion(secretVersion).endMetadata().build(),
+                new PodBuilder().withNewMetadata().withName("my-cluster-kafka-0").withResourceVersion(podVersion).endMetadata().build());
+    }
+
+    private static String fingerprint(Kafka kafka, int clusterCaCertGeneration, Map<String, String> env, long nowMs, List<HasMetadata> children) {
+        ClusterCa clusterCa = mock(ClusterCa.class);
+        when(clusterCa.certGeneration()).thenReturn(clusterCaCertGeneration);
+        ClientsCa clientsCa = mock(ClientsCa.class);
+
+        return DesiredStateFingerprint.fingerprint(kafka, clusterCa, clientsCa, VERSIONS, "0.31.0", env, MAX_AGE_MS, nowMs, children);
+    }
+
+    @Test
+    public void testFingerprintIsStable() {
+        Map<String, String> env = Map.of("STRIMZI_DEFAULT_KAFKA_EXPORTER_IMAGE", "exporter:1", "HOSTNAME", "operator-1");
+        String fingerprint = fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, children("1", "2"));
+
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, children("1", "2")), is(fingerprint));
+        // Order of the children does not matter
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, List.of(children("1", "2").get(1), children("1", "2").get(0))), is(fingerprint));
+        // The stored fingerprint and unrelated environment variables are ignored
+        assertThat(fingerprint(kafka(1, Map.of(DesiredStateFingerprint.ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT, "abc")), 0, env, NOW_MS, children("1", "2")), is(fingerprint));
+        assertThat(fingerprint(kafka(1, Map.of()), 0, Map.of("STRIMZI_DEFAULT_KAFKA_EXPORTER_IMAGE", "exporter:1", "HOSTNAME", "operator-2"), NOW_MS, children("1", "2")), is(fingerprint));
+        // Within the same period
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS + 1, children("1", "2")), is(fingerprint));
+        // Secrets of the KafkaUsers are ignored
+        List<HasMetadata> withUserSecret = new ArrayList<>(children("1", "2"));
+        withUserSecret.add(new SecretBuilder().withNewMetadata().withName("my-user").withLabels(Map.of(Labels.STRIMZI_KIND_LABEL, "KafkaUser")).withResourceVersion("5").endMetadata().build());
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, withUserSecret), is(fingerprint));
+    }
+
+    @Test
+    public void testFingerprintChanges() {
+        Map<String, String> env = Map.of("STRIMZI_DEFAULT_KAFKA_EXPORTER_IMAGE", "exporter:1");
+        String fingerprint = fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, children("1", "2"));
+
+        assertThat(fingerprint(kafka(2, Map.of()), 0, env, NOW_MS, children("1", "2")), is(not(fingerprint)));
+        assertThat(fingerprint(kafka(1, Map.of("strimzi.io/skip-broker-scaledown-check", "true")), 0, env, NOW_MS, children("1", "2")), is(not(fingerprint)));
+        assertThat(fingerprint(kafka(1, Map.of()), 1, env, NOW_MS, children("1", "2")), is(not(fingerprint)));
+        assertThat(fingerprint(kafka(1, Map.of()), 0, Map.of("STRIMZI_DEFAULT_KAFKA_EXPORTER_IMAGE", "exporter:2"), NOW_MS, children("1", "2")), is(not(fingerprint)));
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, children("1", "3")), is(not(fingerprint)));
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS + MAX_AGE_MS, children("1", "2")), is(not(fingerprint)));
+        // Referenced Secret provided by the user
+        List<HasMetadata> withCustomCert = new ArrayList<>(children("1", "2"));
+        withCustomCert.add(new SecretBuilder().withNewMetadata().withName("my-listener-cert").withResourceVersion("7").endMetadata().build());
+        assertThat(fingerprint(kafka(1, Map.of()), 0, env, NOW_MS, withCustomCert), is(not(fingerprint)));
+    }
+
+    @Test
+    public void testPeriodsAreOffsetPerCluster() {
+        Kafka myCluster = kafka("my-cluster", 1, Map.of());
+        Kafka otherCluster = kafka("other-cluster", 1, Map.of());
+
+        // The period of my-cluster starts at NOW_MS, but the period of other-cluster does not
+        assertThat(DesiredStateFingerprint.period(myCluster, MAX_AGE_MS, NOW_MS), is(DesiredStateFingerprint.period(myCluster, MAX_AGE_MS, NOW_MS - 1) + 1));
+        assertThat(DesiredStateFingerprint.period(otherCluster, MAX_AGE_MS, NOW_MS), is(DesiredStateFingerprint.period(otherCluster, MAX_AGE_MS, NOW_MS - 1)));
+    }
+
+    @Test
+    public void testReferencedResources() {
+        Kafka kafka = new KafkaBuilder(kafka(1, Map.of()))
+                .editSpec()
+                    .editKafka()
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9093)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .withNewConfiguration()
+                                    .withNewBrokerCertChainAndKey()
+                                        .withSecretName("my-listener-cert")
+                                        .withCertificate("tls.crt")
+                                        .withKey("tls.key")
+                                    .endBrokerCertChainAndKey()
+                                .endConfiguration()
+                                .build())
+                        .withMetricsConfig(new JmxPrometheusExporterMetricsBuilder()
+                                .withNewValueFrom()
+                                    .withConfigMapKeyRef(new ConfigMapKeySelectorBuilder().withName("my-metrics").withKey("metrics.yaml").build())
+                                .endValueFrom()
+                                .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withLogging(new ExternalLoggingBuilder()
+                                .withNewValueFrom()
+                                    .withConfigMapKeyRef(new ConfigMapKeySelectorBuilder().withName("my-logging").withKey("log4j.properties").build())
+                                .endValueFrom()
+                                .build())
+                    .endZookeeper()
+                .endSpec()
+                .build();
+
+        assertThat(DesiredStateFingerprint.referencedSecrets(kafka), is(Set.of("my-listener-cert")));
+        assertThat(DesiredStateFingerprint.referencedConfigMaps(kafka), is(Set.of("my-logging", "my-metrics")));
+    }
+
+    @Test
+    public void testCopyStatus() {
+        Condition warning = StatusUtils.buildWarningCondition("KafkaStorage", "A warning from the Kafka model");
+        Condition validationWarning = StatusUtils.buildWarningCondition("DeprecatedFields", "A warning from the validation");
+        Condition ready = new ConditionBuilder().withType("Ready").withStatus("True").build();
+
+        KafkaStatus current = new KafkaStatusBuilder()
+                .withClusterId("my-cluster-id")
+                .withListeners(new ListenerStatusBuilder().withName("plain").withCertificates("my-certificate").build())
+                .withConditions(warning, validationWarning, ready)
+                .build();
+
+        KafkaStatus desired = new KafkaStatus();
+        DesiredStateFingerprint.copyStatus(current, desired);
+
+        assertThat(desired.getClusterId(), is("my-cluster-id"));
+        assertThat(desired.getListeners(), is(current.getListeners()));
+        assertThat(desired.getConditions(), is(List.of(warning)));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.api.kafka.model.ExternalLoggingBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.platform.KubernetesVersion;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorFingerprintMockTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final String NAMESPACE = "testns";
+    private static final String CLUSTER_NAME = "my-cluster";
+
+    private static Vertx vertx;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+
+    private Kafka kafka;
+    private KafkaAssemblyOperator operator;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9093)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .withNewConfiguration()
+                                    .withNewBrokerCertChainAndKey()
+                                        .withSecretName("my-listener-cert")
+                                        .withCertificate("tls.crt")
+                                        .withKey("tls.key")
+                                    .endBrokerCertChainAndKey()
+                                .endConfiguration()
+                                .build())
+                        .withLogging(new ExternalLoggingBuilder()
+                                .withNewValueFrom()
+                                    .withConfigMapKeyRef(new ConfigMapKeySelectorBuilder().withName("my-logging").withKey("log4j.properties").build())
+                                .endValueFrom()
+                                .build())
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaCrd()
+                .withInitialKafkas(kafka)
+                .withStrimziPodSetCrd()
+                .build();
+        mockKube.start();
+
+        client.secrets().inNamespace(NAMESPACE).resource(new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-listener-cert")
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .addToData("tls.crt", "Y2VydA==")
+                .addToData("tls.key", "a2V5")
+                .build()).create();
+
+        client.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-logging")
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .addToData("log4j.properties", "kafka.root.logger.level=INFO")
+                .build()).create();
+
+        Map<String, String> env = new HashMap<>();
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_IMAGES, KafkaVersionTestUtils.getKafkaConnectImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMakerImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_2_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMaker2ImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_FINGERPRINT_MAX_AGE_MS, "86400000");
+
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_18);
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, client, pfa, 10000, "op");
+
+        operator = new KafkaAssemblyOperator(vertx, pfa, new MockCertManager(), new PasswordGenerator(10, "a", "a"),
+                supplier, ClusterOperatorConfig.fromMap(env, VERSIONS));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        mockKube.stop();
+    }
+
+    @Test
+    public void testFingerprintChangesWithReferencedResources(VertxTestContext context) {
+        KafkaAssemblyOperator.ReconciliationState state = operator.createReconciliationState(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME), kafka);
+        AtomicReference<String> fingerprint = new AtomicReference<>();
+
+        Checkpoint async = context.checkpoint();
+        state.reconcileCas(Date::new)
+                .compose(i -> state.fingerprint())
+                .compose(current -> {
+                    fingerprint.set(current);
+                    return state.fingerprint();
+                })
+                .compose(current -> {
+                    // Nothing changed
+                    context.verify(() -> assertThat(current, is(fingerprint.get())));
+
+                    client.secrets().inNamespace(NAMESPACE).withName("my-listener-cert")
+                            .edit(secret -> new SecretBuilder(secret).addToData("tls.crt", "bmV3LWNlcnQ=").build());
+
+                    return state.fingerprint();
+                })
+                .compose(current -> {
+                    // The custom listener certificate changed
+                    context.verify(() -> assertThat(current, is(not(fingerprint.get()))));
+                    fingerprint.set(current);
+
+                    client.secrets().inNamespace(NAMESPACE).resource(new SecretBuilder()
+                            .withNewMetadata()
+                                .withName("my-user")
+                                .withNamespace(NAMESPACE)
+                                .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER_NAME, Labels.STRIMZI_KIND_LABEL, "KafkaUser"))
+                            .endMetadata()
+                            .addToData("password", "cGFzc3dvcmQ=")
+                            .build()).create();
+
+                    return state.fingerprint();
+                })
+                .compose(current -> {
+                    // The KafkaUser Secret is ignored
+                    context.verify(() -> assertThat(current, is(fingerprint.get())));
+
+                    client.configMaps().inNamespace(NAMESPACE).withName("my-logging")
+                            .edit(cm -> new ConfigMapBuilder(cm).addToData("log4j.properties", "kafka.root.logger.level=DEBUG").build());
+
+                    return state.fingerprint();
+                })
+                .onComplete(context.succeeding(current -> context.verify(() -> {
+                    // The external logging configuration changed
+                    assertThat(current, is(not(fingerprint.get())));
+                    async.flag();
+                })));
+    }
+}
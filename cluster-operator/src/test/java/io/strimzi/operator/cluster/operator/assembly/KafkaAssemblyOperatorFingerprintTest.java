@@ -0,0 +1,255 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.api.kafka.model.status.ListenerStatusBuilder;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.platform.KubernetesVersion;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorFingerprintTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final String NAMESPACE = "testns";
+    private static final String CLUSTER_NAME = "my-cluster";
+    private static final String FINGERPRINT = "current-fingerprint";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ClusterOperatorConfig config(long fingerprintMaxAgeMs) {
+        Map<String, String> env = new HashMap<>();
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_IMAGES, KafkaVersionTestUtils.getKafkaImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_IMAGES, KafkaVersionTestUtils.getKafkaConnectImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMakerImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_2_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMaker2ImagesEnvVarString());
+        env.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_FINGERPRINT_MAX_AGE_MS, String.valueOf(fingerprintMaxAgeMs));
+
+        return ClusterOperatorConfig.fromMap(env, VERSIONS);
+    }
+
+    private static Kafka kafka(String fingerprint) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(2L)
+                    .addToAnnotations(DesiredStateFingerprint.ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT, fingerprint)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .withStatus(new KafkaStatusBuilder()
+                        .withObservedGeneration(2L)
+                        .withClusterId("my-cluster-id")
+                        .withListeners(new ListenerStatusBuilder().withName("plain").withCertificates("my-certificate").build())
+                        .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                        .build())
+                .build();
+    }
+
+    private static MockKafkaAssemblyOperator operator(ResourceOperatorSupplier supplier, ClusterOperatorConfig config, Kafka kafka) {
+        @SuppressWarnings("unchecked")
+        CrdOperator<?, Kafka, ?> mockKafkaOps = supplier.kafkaOperator;
+        when(mockKafkaOps.getAsync(eq(NAMESPACE), eq(CLUSTER_NAME))).thenReturn(Future.succeededFuture(kafka));
+        when(mockKafkaOps.patchAsync(any(), any())).thenAnswer(i -> Future.succeededFuture(i.getArgument(1)));
+
+        return new MockKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_18),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier, config);
+    }
+
+    private static double shortCircuited(ResourceOperatorSupplier supplier) {
+        return supplier.metricsProvider.meterRegistry().get("strimzi.reconciliations.short.circuited").counter().count();
+    }
+
+    @Test
+    public void testUnchangedFingerprintSkipsComponents(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        Kafka kafka = kafka(FINGERPRINT);
+        MockKafkaAssemblyOperator operator = operator(supplier, config(3_600_000L), kafka);
+
+        Checkpoint async = context.checkpoint();
+        operator.createOrUpdate(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME), kafka)
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(operator.steps, is(List.of("reconcileCas")));
+                    assertThat(status.getClusterId(), is("my-cluster-id"));
+                    assertThat(status.getListeners(), is(kafka.getStatus().getListeners()));
+                    assertThat(status.getConditions().get(0).getType(), is("Ready"));
+                    assertThat(shortCircuited(supplier), is(1.0));
+                    verify(supplier.kafkaOperator, never()).patchAsync(any(), any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testChangedFingerprintReconcilesComponents(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        Kafka kafka = kafka("old-fingerprint");
+        MockKafkaAssemblyOperator operator = operator(supplier, config(3_600_000L), kafka);
+
+        Checkpoint async = context.checkpoint();
+        operator.createOrUpdate(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME), kafka)
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(operator.steps.size(), is(8));
+                    assertThat(operator.steps.contains("reconcileKafka"), is(true));
+
+                    @SuppressWarnings("unchecked")
+                    ArgumentCaptor<Kafka> kafkaCaptor = ArgumentCaptor.forClass(Kafka.class);
+                    verify(supplier.kafkaOperator).patchAsync(any(), kafkaCaptor.capture());
+                    assertThat(kafkaCaptor.getValue().getMetadata().getAnnotations().get(DesiredStateFingerprint.ANNO_STRIMZI_IO_DESIRED_STATE_FINGERPRINT), is(FINGERPRINT));
+                    assertThat(supplier.metricsProvider.meterRegistry().find("strimzi.reconciliations.short.circuited").counter(), is(nullValue()));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFingerprintNotUsedWhenDisabled(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        Kafka kafka = kafka(FINGERPRINT);
+        MockKafkaAssemblyOperator operator = operator(supplier, config(0L), kafka);
+
+        Checkpoint async = context.checkpoint();
+        operator.createOrUpdate(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME), kafka)
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(operator.steps.size(), is(8));
+                    assertThat(operator.fingerprintCalculations, is(0));
+                    verify(supplier.kafkaOperator, never()).patchAsync(any(), any());
+
+                    async.flag();
+                })));
+    }
+
+    static class MockKafkaAssemblyOperator extends KafkaAssemblyOperator  {
+        final List<String> steps = new ArrayList<>();
+        int fingerprintCalculations = 0;
+
+        public MockKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, MockCertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+            super(vertx, pfa, certManager, passwordGenerator, supplier, config);
+        }
+
+        @Override
+        ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
+            return new MockReconciliationState(reconciliation, kafkaAssembly);
+        }
+
+        class MockReconciliationState extends KafkaAssemblyOperator.ReconciliationState {
+            MockReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
+                super(reconciliation, kafkaAssembly);
+            }
+
+            private Future<ReconciliationState> step(String name) {
+                synchronized (steps) {
+                    steps.add(name);
+                }
+
+                return Future.succeededFuture(this);
+            }
+
+            @Override
+            Future<String> fingerprint() {
+                fingerprintCalculations++;
+                return Future.succeededFuture(FINGERPRINT);
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileCas(Supplier<Date> dateSupplier) {
+                return step("reconcileCas");
+            }
+
+            @Override
+            Future<ReconciliationState> versionChange() {
+                return step("versionChange");
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileZooKeeper(Supplier<Date> dateSupplier) {
+                return step("reconcileZooKeeper");
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileKafka(Supplier<Date> dateSupplier) {
+                return step("reconcileKafka");
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileEntityOperator(Supplier<Date> dateSupplier) {
+                return step("reconcileEntityOperator");
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileCruiseControl(Supplier<Date> dateSupplier) {
+                return step("reconcileCruiseControl");
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileKafkaExporter(Supplier<Date> dateSupplier) {
+                return step("reconcileKafkaExporter");
+            }
+
+            @Override
+            Future<ReconciliationState> reconcileJmxTrans() {
+                return step("reconcileJmxTrans");
+            }
+        }
+    }
+}
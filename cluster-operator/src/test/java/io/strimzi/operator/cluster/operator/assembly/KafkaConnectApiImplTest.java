@@ -15,6 +15,9 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -62,6 +65,34 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithStatusAndInfo(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        String response = "{\"my-connector\": {" +
+                "\"status\": {\"name\": \"my-connector\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"10.0.0.1:8083\"}, \"tasks\": [], \"type\": \"source\"}, " +
+                "\"info\": {\"name\": \"my-connector\", \"config\": {\"name\": \"my-connector\", \"tasks.max\": \"1\"}, \"tasks\": [], \"type\": \"source\"}" +
+                "}}";
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/connectors".equals(request.path()) && request.params().getAll("expand").containsAll(List.of("status", "info"))) {
+                request.response().setStatusCode(200).end(response);
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                    assertThat(connectors.keySet(), is(Set.of("my-connector")));
+                    assertThat(connectors.get("my-connector").config(), is(Map.of("name", "my-connector", "tasks.max", "1")));
+                    assertThat(((Map<?, ?>) connectors.get("my-connector").status().get("connector")).get("state"), is("RUNNING"));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, String error) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(500).end(error));
 
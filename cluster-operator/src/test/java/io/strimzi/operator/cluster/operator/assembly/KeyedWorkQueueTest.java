@@ -0,0 +1,74 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyedWorkQueueTest {
+    @Test
+    public void testDeduplication() throws InterruptedException {
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(10);
+
+        assertThat(queue.add("a"), is(true));
+        assertThat(queue.add("b"), is(true));
+        assertThat(queue.add("a"), is(false));
+        assertThat(queue.size(), is(2));
+
+        assertThat(queue.take(), is("a"));
+        assertThat(queue.take(), is("b"));
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testCapacity() {
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(2);
+
+        queue.add("a");
+        queue.add("b");
+        assertThat(queue.add("a"), is(false));
+        assertThrows(IllegalStateException.class, () -> queue.add("c"));
+    }
+
+    @Test
+    public void testKeyIsNotProcessedConcurrently() throws InterruptedException, ExecutionException, TimeoutException {
+        KeyedWorkQueue<String> queue = new KeyedWorkQueue<>(10);
+
+        queue.add("a");
+        assertThat(queue.take(), is("a"));
+
+        // Added again while being processed => it is not handed out to another worker
+        assertThat(queue.add("a"), is(true));
+        assertThat(queue.add("a"), is(false));
+        queue.add("b");
+        assertThat(queue.take(), is("b"));
+
+        CompletableFuture<String> next = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> next.get(200, TimeUnit.MILLISECONDS));
+
+        // Once the processing is done, the key is returned to the queue
+        assertThat(queue.done("a"), is(true));
+        assertThat(next.get(5, TimeUnit.SECONDS), is("a"));
+
+        assertThat(queue.done("a"), is(false));
+        assertThat(queue.done("b"), is(false));
+        assertThat(queue.size(), is(0));
+    }
+}
@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.StrimziPodSetList;
 import io.strimzi.api.kafka.model.Kafka;
@@ -25,6 +26,7 @@ import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.operator.resource.PodRevision;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -42,11 +44,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @EnableKubernetesMockClient(crud = true)
@@ -191,7 +196,7 @@ public class StrimziPodSetControllerMockTest {
     }
 
     private void startController()  {
-        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, podSetOperator, podOperator, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, podSetOperator, podOperator, ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE, 4, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         controller.start();
     }
 
@@ -557,4 +562,46 @@ public class StrimziPodSetControllerMockTest {
             client.pods().inNamespace(NAMESPACE).withName(preExistingPodName).delete();
         }
     }
+
+    /**
+     * Tests that the desired pods are converted from the StrimziPodSet only once per its UID and generation
+     */
+    @Test
+    public void testDesiredPodsAreCachedPerGeneration() {
+        String podSetName = "desired-pods-cache";
+        StrimziPodSet podSet = new StrimziPodSetBuilder(podSet(podSetName, KAFKA_NAME, pod(podSetName + "-0", KAFKA_NAME, podSetName)))
+                .editMetadata()
+                    .withUid("uid-1")
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+
+        List<StrimziPodSetController.DesiredPod> desiredPods = controller.desiredPods(podSet);
+        assertThat(desiredPods.size(), is(1));
+
+        // Same UID and generation => the cached pods are used
+        assertThat(controller.desiredPods(new StrimziPodSetBuilder(podSet).build()), is(sameInstance(desiredPods)));
+
+        // New generation => the pods are converted again
+        StrimziPodSet scaledUp = new StrimziPodSetBuilder(podSet(podSetName, KAFKA_NAME, pod(podSetName + "-0", KAFKA_NAME, podSetName), pod(podSetName + "-1", KAFKA_NAME, podSetName)))
+                .editMetadata()
+                    .withUid("uid-1")
+                    .withGeneration(2L)
+                .endMetadata()
+                .build();
+        List<StrimziPodSetController.DesiredPod> scaledUpPods = controller.desiredPods(scaledUp);
+        assertThat(scaledUpPods, is(not(sameInstance(desiredPods))));
+        assertThat(scaledUpPods.size(), is(2));
+        assertThat(controller.desiredPods(scaledUp), is(sameInstance(scaledUpPods)));
+
+        // Re-created StrimziPodSet with the same generation => the pods are converted again
+        StrimziPodSet recreated = new StrimziPodSetBuilder(podSet)
+                .editMetadata()
+                    .withUid("uid-2")
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+        assertThat(controller.desiredPods(recreated), is(not(sameInstance(desiredPods))));
+        assertThat(controller.desiredPods(recreated).size(), is(1));
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private HttpServer server;
+    private int port;
+
+    @BeforeEach
+    public void startServer(Vertx vertx) throws ExecutionException, InterruptedException, TimeoutException {
+        server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().end("pong"));
+        port = server.listen(0)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS)
+                .actualPort();
+    }
+
+    @AfterEach
+    public void stopServer() throws ExecutionException, InterruptedException, TimeoutException {
+        server.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private Future<String> ping(HttpClientPool pool, HttpClientOptions options) {
+        return pool.withHttpClient(options, (httpClient, result) ->
+            httpClient.request(HttpMethod.GET, port, "localhost", "/ping")
+                    .compose(request -> request.send())
+                    .compose(response -> response.body())
+                    .map(Buffer::toString)
+                    .onComplete(result));
+    }
+
+    // The connection is returned to the pool only after the response is handled
+    private Future<String> pingLater(Vertx vertx, HttpClientPool pool, HttpClientOptions options) {
+        Promise<Void> delay = Promise.promise();
+        vertx.setTimer(100, ignore -> delay.complete());
+        return delay.future().compose(ignore -> ping(pool, options));
+    }
+
+    @Test
+    public void testConnectionIsReused(Vertx vertx, VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, new MicrometerMetricsProvider(registry));
+        HttpClientOptions options = new HttpClientOptions();
+
+        Checkpoint checkpoint = context.checkpoint();
+        ping(pool, options)
+                .compose(ignore -> pingLater(vertx, pool, options))
+                .compose(ignore -> pingLater(vertx, pool, new HttpClientOptions()))
+                .onComplete(context.succeeding(response -> context.verify(() -> {
+                    assertThat(response, is("pong"));
+                    assertThat(pool.size(), is(1));
+                    assertThat(registry.get(HttpClientPool.METRIC_CONNECTIONS).tag("client", "test").counter().count(), is(1.0));
+                    assertThat(registry.get(HttpClientPool.METRIC_REQUESTS).tag("client", "test").timer().count(), is(3L));
+
+                    pool.close().onComplete(context.succeeding(v -> checkpoint.flag()));
+                })));
+    }
+
+    @Test
+    public void testClientsWithDifferentOptionsAreNotShared(Vertx vertx) {
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        ping(pool, new HttpClientOptions());
+        ping(pool, new HttpClientOptions().setPemTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer("cert-1"))));
+        ping(pool, new HttpClientOptions().setPemTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer("cert-2"))));
+        ping(pool, new HttpClientOptions().setPemTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer("cert-2"))));
+
+        assertThat(pool.size(), is(3));
+        pool.close();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedClientIsEvicted(Vertx vertx) {
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        for (int i = 0; i <= HttpClientPool.MAX_CLIENTS; i++) {
+            ping(pool, new HttpClientOptions().setConnectTimeout(1_000 + i));
+        }
+
+        assertThat(pool.size(), is(HttpClientPool.MAX_CLIENTS));
+        pool.close();
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +35,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -410,6 +415,45 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testCanRollTogetherWithBrokersWithDisjointReplicas(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(6);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(ksb.brokers.size());
+        for (Integer brokerId : ksb.brokers.keySet()) {
+            kafkaAvailability.canRoll(brokerId, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                if (brokerId <= 2) {
+                    assertFalse(canRoll,
+                            "broker " + brokerId + " should not be rollable, sharing a partition with the restarting broker 0");
+                } else {
+                    assertTrue(canRoll,
+                            "broker " + brokerId + " should be rollable, not sharing any partition with the restarting broker 0");
+                }
+                a.flag();
+            })));
+        }
+    }
+
     @Test
     public void testMinIsrEqualsReplicasWithOfflineReplicas(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -640,4 +684,118 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testSnapshotIsRefreshedForTheRolledBroker(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // Broker 0 was rolled and did not catch up yet and a new topic was created
+                    ksb.addNewTopic("A", false).addNewPartition(0).isr(1, 2);
+                    ksb.addNewTopic("D", false)
+                            .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                            .addNewPartition(0)
+                                .replicaOn(4, 5)
+                                .leader(4)
+                                .isr(4, 5)
+                            .endPartition();
+
+                    return kafkaAvailability.canRoll(1);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 1 should not be rollable as topic A is at its min.insync.replicas");
+
+                    ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(0)), is(Set.of("A", "B", "C")));
+                    // All topics including the new topic are described again in a single request
+                    assertThat(new HashSet<>(describedTopics.getAllValues().get(1)), is(Set.of("A", "B", "C", "D")));
+
+                    ArgumentCaptor<Collection<ConfigResource>> describedConfigs = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeConfigs(describedConfigs.capture());
+                    assertThat(describedConfigs.getAllValues().get(0).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("A")));
+                    // Only the min.insync.replicas of topic B is described as topic A is known and only its ISR changed
+                    assertThat(describedConfigs.getAllValues().get(1).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("B")));
+
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testSnapshotIncludesReplicasMovedToTheRolledBroker(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3, 4)
+                        .leader(2)
+                        .isr(2, 3, 4)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(3)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // Topic B was reassigned from broker 3 to broker 0 and broker 4 dropped out of its ISR
+                    ksb.addNewTopic("B", false).addNewPartition(0)
+                            .replicaOn(2, 0, 4)
+                            .isr(2, 0);
+
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 0 should not be rollable as topic B moved to it and is at its min.insync.replicas");
+
+                    ArgumentCaptor<Collection<ConfigResource>> describedConfigs = ArgumentCaptor.forClass(Collection.class);
+                    verify(ac, times(2)).describeConfigs(describedConfigs.capture());
+                    assertThat(describedConfigs.getAllValues().get(0).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("B")));
+                    // The min.insync.replicas of topic B is described again as its replicas were reassigned
+                    assertThat(describedConfigs.getAllValues().get(1).stream().map(ConfigResource::name).collect(Collectors.toSet()), is(Set.of("A", "B")));
+                    a.flag();
+                })));
+    }
 }
@@ -21,14 +21,22 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -40,13 +48,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -57,6 +70,8 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -482,6 +497,233 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testParallelRollOfBrokersWithDisjointReplicas(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps, 3, false, Map.of(),
+            (brokerId, restartingBrokers) -> succeededFuture(true), 2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                // Controller last
+                assertThat(restarted().get(4), is(2));
+                assertThat(kafkaRoller.batches.stream().mapToInt(Set::size).max().orElse(0), is(greaterThan(1)));
+                assertThat(kafkaRoller.batches.stream().mapToInt(Set::size).max().orElse(0), is(lessThanOrEqualTo(3)));
+                // The controller is restarted alone
+                assertThat(kafkaRoller.batches.stream().filter(batch -> batch.contains(2)).allMatch(batch -> batch.size() == 1), is(true));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testParallelRollOfBrokersWithOverlappingReplicas(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps, 3, false, Map.of(),
+            (brokerId, restartingBrokers) -> succeededFuture(false), 2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                assertThat(restarted().get(4), is(2));
+                assertThat(kafkaRoller.batches.stream().allMatch(batch -> batch.size() == 1), is(true));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testParallelRollByRack(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-b", 2, "zone-a", 3, "zone-b", 4, "zone-a");
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, podOps, 5, true, racks,
+            (brokerId, restartingBrokers) -> succeededFuture(true), -1);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(new HashSet<>(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                for (Set<Integer> batch : kafkaRoller.batches) {
+                    assertThat("Brokers from different racks restarted together: " + batch,
+                            batch.stream().map(racks::get).distinct().count(), is(1L));
+                }
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBrokerConfigsAreDescribedInOneBatch(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps, brokerId -> false);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                // The configs and loggers of all 5 brokers are described in a single request
+                assertThat(kafkaRoller.describeConfigsRequests.size(), is(1));
+                assertThat(kafkaRoller.describeConfigsRequests.get(0).size(), is(10));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testOnlyFailedBrokerConfigsAreDescribedAgain(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger failures = new AtomicInteger(0);
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps,
+            brokerId -> brokerId == 1 && failures.getAndIncrement() == 0);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(kafkaRoller.describeConfigsRequests.size(), is(2));
+                assertThat(kafkaRoller.describeConfigsRequests.get(0).size(), is(10));
+                // Only the configs of the broker which failed are described again
+                assertThat(new HashSet<>(kafkaRoller.describeConfigsRequests.get(1)),
+                        is(Set.of(new ConfigResource(ConfigResource.Type.BROKER, "1"), new ConfigResource(ConfigResource.Type.BROKER_LOGGER, "1"))));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testOutdatedBrokerConfigsAreDescribedAgain(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps, brokerId -> false);
+        // Every described config is already outdated when it is used again
+        kafkaRoller.describedConfigMaxAgeMs = 0L;
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(kafkaRoller.describeConfigsRequests.get(0).size(), is(10));
+                // The config of each broker is described again by itself, so that it proves the broker is responsive
+                Set<ConfigResource> describedAgain = new HashSet<>();
+                for (Collection<ConfigResource> request : kafkaRoller.describeConfigsRequests.subList(1, kafkaRoller.describeConfigsRequests.size())) {
+                    assertThat(request.size(), is(2));
+                    describedAgain.addAll(request);
+                }
+                for (int brokerId = 0; brokerId < 5; brokerId++) {
+                    assertThat(describedAgain.contains(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId))), is(true));
+                }
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testAllBrokersAreReconfiguredTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps,
+            "INFO", brokerId -> false, false);
+        AtomicInteger podNeedsRestartCalls = new AtomicInteger(0);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> {
+            podNeedsRestartCalls.incrementAndGet();
+            return RestartReasons.empty();
+        })
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                // The restart reasons are evaluated only once for each pod
+                assertThat(podNeedsRestartCalls.get(), is(5));
+                // The configs and loggers of all 5 brokers are altered in a single request
+                assertThat(kafkaRoller.alterConfigsRequests.size(), is(1));
+                assertThat(kafkaRoller.alterConfigsRequests.get(0).size(), is(10));
+                assertThat(kafkaRoller.reconfiguredOneByOne, is(emptyList()));
+                // And verified with a single request
+                assertThat(kafkaRoller.describeConfigsRequests.size(), is(2));
+                assertThat(kafkaRoller.describeConfigsRequests.get(1).size(), is(10));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRestartReasonsAreEvaluatedAgainWhenPodChanged(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        // Every get returns a new version of the pod
+        AtomicInteger resourceVersion = new AtomicInteger(0);
+        when(podOps.get(any(), any())).thenAnswer(
+            invocation -> new PodBuilder()
+                    .withNewMetadata()
+                        .withNamespace(invocation.getArgument(0))
+                        .withName(invocation.getArgument(1))
+                        .withResourceVersion(String.valueOf(resourceVersion.incrementAndGet()))
+                    .endMetadata()
+                .build()
+        );
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps,
+            "INFO", brokerId -> false, false);
+        AtomicInteger podNeedsRestartCalls = new AtomicInteger(0);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> {
+            podNeedsRestartCalls.incrementAndGet();
+            return RestartReasons.empty();
+        })
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                // The restart reasons evaluated before the brokers were reconfigured together are not reused
+                assertThat(podNeedsRestartCalls.get(), is(10));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBrokersAreReconfiguredOneByOneWhenAlteringAllFails(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps,
+            "INFO", brokerId -> false, true);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(kafkaRoller.alterConfigsRequests.size(), is(1));
+                assertThat(new HashSet<>(kafkaRoller.reconfiguredOneByOne), is(Set.of(0, 1, 2, 3, 4)));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBrokersAreReconfiguredOneByOneWhenPodIsNotReady(VertxTestContext testContext) {
+        // Pod 2 is not ready when the fast path checks it, but it becomes ready afterwards
+        AtomicInteger pod2ReadinessChecks = new AtomicInteger(0);
+        PodOperator podOps = mockPodOps(podId -> podId == 2 && pod2ReadinessChecks.getAndIncrement() == 0 ? failedFuture(new TimeoutException("Timeout")) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps,
+            "INFO", brokerId -> false, false);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(kafkaRoller.alterConfigsRequests, is(emptyList()));
+                assertThat(new HashSet<>(kafkaRoller.reconfiguredOneByOne), is(Set.of(0, 1, 2, 3, 4)));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testBrokersAreReconfiguredOneByOneWhenPodNeedsRestart(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        DescribeConfigsKafkaRoller kafkaRoller = new DescribeConfigsKafkaRoller(addPodNames(sts.getSpec().getReplicas()), podOps,
+            "INFO", brokerId -> false, false);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 2 ? RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE) : RestartReasons.empty())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(singletonList(2)));
+                assertThat(kafkaRoller.alterConfigsRequests, is(emptyList()));
+                assertThat(new HashSet<>(kafkaRoller.reconfiguredOneByOne), is(Set.of(0, 1, 3, 4)));
+                async.flag();
+            })));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, addPodNames(sts.getSpec().getReplicas()), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -558,7 +800,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -568,6 +810,7 @@ public class KafkaRollerTest {
                     .withNewMetadata()
                         .withNamespace(invocation.getArgument(0))
                         .withName(invocation.getArgument(1))
+                        .withResourceVersion("1")
                     .endMetadata()
                 .build()
         );
@@ -611,6 +854,11 @@ public class KafkaRollerTest {
         private final Function<List<Integer>, RuntimeException> acOpenException;
         private final Throwable acCloseException;
         private final Function<Integer, Future<Boolean>> canRollFn;
+        private final BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollWithFn;
+        private final Map<Integer, String> racks;
+        private final long restartDelayMs;
+        private final Set<Integer> restarting = new HashSet<>();
+        private final List<Set<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
@@ -625,6 +873,34 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podList, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, null, 1, false, Map.of(), 0L, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, PodOperator podOps, int maxConcurrentRestarts, boolean concurrentRestartsByRack,
+                                   Map<Integer, String> racks,
+                                   BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollWithFn,
+                                   int... controllers) {
+            this(sts, null, null, addPodNames(sts.getSpec().getReplicas()), podOps, noException(), null, noException(),
+                    noException(), noException(), brokerId -> succeededFuture(true), canRollWithFn, maxConcurrentRestarts,
+                    concurrentRestartsByRack, racks, 100L, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollWithFn,
+                                   int maxConcurrentRestarts,
+                                   boolean concurrentRestartsByRack,
+                                   Map<Integer, String> racks,
+                                   long restartDelayMs,
+                                   int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -640,7 +916,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class)
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxConcurrentRestarts,
+                    concurrentRestartsByRack
             );
 
             this.controllers = controllers;
@@ -652,6 +930,9 @@ public class KafkaRollerTest {
             this.getConfigsException = getConfigsException;
             this.acCloseException = acCloseException;
             this.canRollFn = canRollFn;
+            this.canRollWithFn = canRollWithFn;
+            this.racks = racks;
+            this.restartDelayMs = restartDelayMs;
             this.unclosedAdminClients = new IdentityHashMap<>();
         }
 
@@ -693,9 +974,19 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> restartingBrokers) {
+                    return canRollWithFn.apply(podId, restartingBrokers);
+                }
             };
         }
 
+        @Override
+        protected Map<Integer, String> brokerRacks() {
+            return racks;
+        }
+
         @Override
         int controller(PodRef podRef, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
             Throwable throwable = controllerException.apply(podRef.getPodId());
@@ -734,13 +1025,181 @@ public class KafkaRollerTest {
             }
         }
 
+        @Override
+        protected void dynamicUpdateBrokersConfig(Admin ac, Map<Integer, KafkaBrokerConfigurationDiff> configurationDiffs, Map<Integer, KafkaBrokerLoggingConfigurationDiff> logDiffs) throws ForceableProblem {
+            for (Integer podId : configurationDiffs.keySet()) {
+                ForceableProblem problem = alterConfigsException.apply(podId);
+                if (problem != null) {
+                    throw problem;
+                }
+            }
+        }
+
         @Override
         protected Future<Void> restart(Pod pod, RestartContext restartContext) {
             restarted.add(pod.getMetadata().getName());
+            if (restartDelayMs > 0) {
+                int podId = podName2Number(pod.getMetadata().getName());
+                synchronized (restarting) {
+                    restarting.add(podId);
+                    batches.add(Set.copyOf(restarting));
+                }
+                Promise<Void> restartPromise = Promise.promise();
+                KafkaRollerTest.vertx.setTimer(restartDelayMs, timerId -> {
+                    synchronized (restarting) {
+                        restarting.remove(podId);
+                    }
+                    restartPromise.complete();
+                });
+                return restartPromise.future();
+            }
             return succeededFuture();
         }
 
     }
 
+    /**
+     * Roller which uses the real broker config and logging descriptions and dynamic updates with a mocked Admin client
+     * which keeps the broker configs and records the describeConfigs and incrementalAlterConfigs requests.
+     */
+    private class DescribeConfigsKafkaRoller extends KafkaRoller {
+        private final List<Collection<ConfigResource>> describeConfigsRequests = Collections.synchronizedList(new ArrayList<>());
+        private final List<Collection<ConfigResource>> alterConfigsRequests = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> reconfiguredOneByOne = Collections.synchronizedList(new ArrayList<>());
+        private final Map<ConfigResource, Map<String, String>> configs = new ConcurrentHashMap<>();
+        private final String rootLogLevel;
+        private final Function<Integer, Boolean> describeConfigsFails;
+        private final boolean alterConfigsFails;
+        private long describedConfigMaxAgeMs = 10_000L;
+
+        private DescribeConfigsKafkaRoller(List<String> podList, PodOperator podOps, Function<Integer, Boolean> describeConfigsFails) {
+            this(podList, podOps, "WARN", describeConfigsFails, false);
+        }
+
+        private DescribeConfigsKafkaRoller(List<String> podList, PodOperator podOps, String rootLogLevel,
+                                           Function<Integer, Boolean> describeConfigsFails, boolean alterConfigsFails) {
+            super(
+                    new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
+                    KafkaRollerTest.vertx,
+                    podOps,
+                    500,
+                    1000,
+                    () -> new BackOff(10L, 2, 4),
+                    podList,
+                    null,
+                    null,
+                    new DefaultAdminClientProvider(),
+                    brokerId -> "",
+                    "",
+                    KafkaVersionTestUtils.getLatestVersion(),
+                    true,
+                    mock(KubernetesRestartEventPublisher.class)
+            );
+
+            this.rootLogLevel = rootLogLevel;
+            this.describeConfigsFails = describeConfigsFails;
+            this.alterConfigsFails = alterConfigsFails;
+        }
+
+        private Map<String, String> config(ConfigResource resource) {
+            return configs.computeIfAbsent(resource, r -> {
+                Map<String, String> config = new ConcurrentHashMap<>();
+                if (r.type() == ConfigResource.Type.BROKER_LOGGER) {
+                    config.put("root", rootLogLevel);
+                }
+                return config;
+            });
+        }
+
+        @Override
+        protected long describedConfigMaxAgeMs() {
+            return describedConfigMaxAgeMs;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Admin adminClient(List<Integer> bootstrapBrokers, boolean b) {
+            Admin ac = mock(Admin.class);
+            when(ac.describeConfigs(any())).thenAnswer(invocation -> {
+                Collection<ConfigResource> resources = invocation.getArgument(0);
+                describeConfigsRequests.add(new ArrayList<>(resources));
+
+                Map<ConfigResource, KafkaFuture<Config>> futures = new HashMap<>();
+                for (ConfigResource resource : resources) {
+                    KafkaFutureImpl<Config> future = new KafkaFutureImpl<>();
+                    if (resource.type() == ConfigResource.Type.BROKER && describeConfigsFails.apply(Integer.parseInt(resource.name()))) {
+                        future.completeExceptionally(new RuntimeException("Describe configs failed"));
+                    } else {
+                        future.complete(new Config(config(resource).entrySet().stream()
+                                .map(entry -> new ConfigEntry(entry.getKey(), entry.getValue()))
+                                .collect(Collectors.toList())));
+                    }
+                    futures.put(resource, future);
+                }
+
+                DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+                when(result.values()).thenReturn(futures);
+                return result;
+            });
+            when(ac.incrementalAlterConfigs(any())).thenAnswer(invocation -> {
+                Map<ConfigResource, Collection<AlterConfigOp>> updates = invocation.getArgument(0);
+                alterConfigsRequests.add(new ArrayList<>(updates.keySet()));
+
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (alterConfigsFails) {
+                    future.completeExceptionally(new RuntimeException("Alter configs failed"));
+                } else {
+                    for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> update : updates.entrySet()) {
+                        for (AlterConfigOp op : update.getValue()) {
+                            config(update.getKey()).put(op.configEntry().name(), op.configEntry().value());
+                        }
+                    }
+                    future.complete(null);
+                }
+
+                AlterConfigsResult result = mock(AlterConfigsResult.class);
+                when(result.all()).thenReturn(future);
+                return result;
+            });
+            return ac;
+        }
+
+        @Override
+        protected KafkaAvailability availability(Admin ac) {
+            return new KafkaAvailability(null, null) {
+                @Override
+                protected Future<Set<String>> topicNames() {
+                    return succeededFuture(Collections.emptySet());
+                }
+
+                @Override
+                protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
+                    return succeededFuture(Collections.emptySet());
+                }
+
+                @Override
+                Future<Boolean> canRoll(int podId) {
+                    return succeededFuture(true);
+                }
+            };
+        }
+
+        @Override
+        int controller(PodRef podRef, long timeout, TimeUnit unit, RestartContext restartContext) {
+            return -1;
+        }
+
+        @Override
+        protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff) {
+            reconfiguredOneByOne.add(podId);
+        }
+
+        @Override
+        protected Future<Void> restart(Pod pod, RestartContext restartContext) {
+            restarted.add(pod.getMetadata().getName());
+            return succeededFuture();
+        }
+    }
+
     // TODO Error when finding the next broker
 }
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ParallelSuite
@@ -88,6 +89,24 @@ public class PodRevisionTest {
         assertThat(PodRevision.hasChanged(POD, pod2), is(true));
     }
 
+    @ParallelTest
+    public void testHasChangedWithRevision()    {
+        Pod pod1 = new PodBuilder(POD)
+                .editMetadata()
+                    .withAnnotations(Map.of(PodRevision.STRIMZI_REVISION_ANNOTATION, "827d8b53"))
+                .endMetadata()
+                .build();
+
+        assertThat(PodRevision.getRevisionFromAnnotations(pod1), is("827d8b53"));
+        assertThat(PodRevision.getRevisionFromAnnotations(POD), is(nullValue()));
+
+        assertThat(PodRevision.hasChanged(POD, (String) null), is(false));
+        assertThat(PodRevision.hasChanged(pod1, "827d8b53"), is(false));
+        assertThat(PodRevision.hasChanged(pod1, "35db17f2"), is(true));
+        assertThat(PodRevision.hasChanged(pod1, (String) null), is(true));
+        assertThat(PodRevision.hasChanged(POD, "35db17f2"), is(true));
+    }
+
     @ParallelTest
     public void testHasChangedWithPodAndPodSet()    {
         // Two pods without the revision annotation
@@ -7,27 +7,29 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.SecretCertProvider;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.time.Clock;
 import java.time.Instant;
@@ -42,10 +44,15 @@ import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -105,6 +112,13 @@ public abstract class Ca {
     public static final String ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION = Annotations.STRIMZI_DOMAIN + "clients-ca-cert-generation";
     public static final int INIT_GENERATION = 0;
 
+    /**
+     * Name of the metric with the time it takes to generate a single certificate signed by the CA
+     */
+    public static final String METRIC_CERT_GENERATION = AbstractOperator.METRICS_PREFIX + "certificate.generation";
+
+    private static final CertificateCache CERTIFICATE_CACHE = new CertificateCache(CertificateCache.DEFAULT_MAX_SIZE);
+
     private final PasswordGenerator passwordGenerator;
     protected final Reconciliation reconciliation;
     private Clock clock;
@@ -193,6 +207,8 @@ public abstract class Ca {
     private RenewalType renewalType;
     private boolean caCertsRemoved;
     private final CertificateExpirationPolicy policy;
+    private Executor certGenerationExecutor;
+    private Timer certGenerationTimer;
 
     public Ca(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
               String caCertSecretName, Secret caCertSecret,
@@ -218,6 +234,21 @@ public abstract class Ca {
         this.clock = clock;
     }
 
+    /**
+     * Configures how the certificates of the individual pods are generated in
+     * {@link #maybeCopyOrGenerateCerts(Reconciliation, int, Function, Secret, Function, boolean)}.
+     *
+     * @param executor          Bounded executor used to generate the certificates of different pods concurrently. When
+     *                          null, the certificates are generated one by one in the calling thread.
+     * @param metricsProvider   Metrics provider used for the certificate generation timer. When null, the generation
+     *                          time is not measured.
+     */
+    public void configureCertGeneration(Executor executor, MetricsProvider metricsProvider) {
+        this.certGenerationExecutor = executor;
+        this.certGenerationTimer = metricsProvider == null ? null
+                : metricsProvider.timer(METRIC_CERT_GENERATION, "Time it takes to generate a single certificate signed by the CA", Tags.of("ca", toString()));
+    }
+
     private static void delete(Reconciliation reconciliation, File file) {
         if (!file.delete()) {
             LOGGER.warnCr(reconciliation, "{} cannot be deleted", file.getName());
@@ -365,13 +396,11 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        // The certificates which need to be generated are only collected here and generated at the end (possibly
+        // concurrently) so that the decisions and the logged reasons stay in the pod order
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        Map<String, Subject> certsToGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -412,9 +441,7 @@ public abstract class Ca {
 
             if (!reasons.isEmpty())  {
                 LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                certsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -427,18 +454,84 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for pod {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            certsToGenerate.put(podName, subjectFn.apply(i));
         }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+
+        certs.putAll(generateSignedCerts(certsToGenerate));
 
         return certs;
     }
 
+    /**
+     * Generates the certificates for the given pods. When an executor is configured, the certificates are generated
+     * concurrently. Each certificate uses its own temporary files.
+     *
+     * @param subjects  Map with the pod names and the subjects of their certificates
+     *
+     * @return  Map with the pod names and their new certificates
+     *
+     * @throws IOException  If any of the certificates could not be generated
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects) throws IOException {
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+
+        if (certGenerationExecutor == null || subjects.size() < 2) {
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                certs.put(subject.getKey(), generateSignedCertWithScratchFiles(subject.getValue()));
+            }
+        } else {
+            Map<String, CompletableFuture<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                futures.put(subject.getKey(), CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return generateSignedCertWithScratchFiles(subject.getValue());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, certGenerationExecutor));
+            }
+
+            try {
+                CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else {
+                    throw e;
+                }
+            }
+
+            for (Map.Entry<String, CompletableFuture<CertAndKey>> future : futures.entrySet()) {
+                certs.put(future.getKey(), future.getValue().join());
+            }
+        }
+
+        return certs;
+    }
+
+    private CertAndKey generateSignedCertWithScratchFiles(Subject subject) throws IOException {
+        File csrFile = File.createTempFile("tls", "broker-csr");
+        File keyFile = File.createTempFile("tls", "broker-key");
+        File certFile = File.createTempFile("tls", "broker-cert");
+        File keyStoreFile = File.createTempFile("tls", "broker-p12");
+        long startNanos = System.nanoTime();
+
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            if (certGenerationTimer != null) {
+                certGenerationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
@@ -491,12 +584,7 @@ public abstract class Ca {
         List<String> subjectAltNames = null;
 
         try {
-            X509Certificate cert = x509Certificate(certificate);
-            Collection<List<?>> altNames = cert.getSubjectAlternativeNames();
-            subjectAltNames = altNames.stream()
-                    .filter(name -> name.get(1) instanceof String)
-                    .map(item -> (String) item.get(1))
-                    .collect(Collectors.toList());
+            subjectAltNames = CERTIFICATE_CACHE.get(certificate).subjectAltNames();
         } catch (CertificateException | RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
             LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
@@ -825,8 +913,7 @@ public abstract class Ca {
         String certName = entry.getKey();
         String certText = entry.getValue();
         try {
-            X509Certificate cert = x509Certificate(Base64.getDecoder().decode(certText));
-            Instant expiryDate = cert.getNotAfter().toInstant();
+            Instant expiryDate = CERTIFICATE_CACHE.get(Base64.getDecoder().decode(certText)).notAfter();
             remove = expiryDate.isBefore(clock.instant());
             if (remove) {
                 LOGGER.debugCr(reconciliation, "The certificate (data.{}) in Secret expired {}; removing it",
@@ -936,27 +1023,14 @@ public abstract class Ca {
     }
 
     static X509Certificate x509Certificate(byte[] bytes) throws CertificateException {
-        CertificateFactory factory = certificateFactory();
-        return x509Certificate(factory, bytes);
-    }
-
-    static X509Certificate x509Certificate(CertificateFactory factory, byte[] bytes) throws CertificateException {
-        Certificate certificate = factory.generateCertificate(new ByteArrayInputStream(bytes));
-        if (certificate instanceof X509Certificate) {
-            return (X509Certificate) certificate;
-        } else {
-            throw new CertificateException("Not an X509Certificate: " + certificate);
-        }
+        return CERTIFICATE_CACHE.get(bytes).certificate();
     }
 
-    static CertificateFactory certificateFactory() {
-        CertificateFactory factory = null;
-        try {
-            factory = CertificateFactory.getInstance("X.509");
-        } catch (CertificateException e) {
-            throw new RuntimeException("No security provider with support for X.509 certificates", e);
-        }
-        return factory;
+    /**
+     * @return  The cache of the parsed certificates shared by all CAs
+     */
+    public static CertificateCache certificateCache() {
+        return CERTIFICATE_CACHE;
     }
 
     private void addCertCaToTrustStore(String alias, Map<String, String> certData) {
@@ -0,0 +1,209 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.AbstractOperator;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of the parsed X.509 certificates and of the data derived from them. The certificates are stored in
+ * the Secrets which rarely change between the reconciliations, so caching them avoids parsing the same certificates
+ * again and again for every pod and every cluster. The cache is keyed by the SHA-256 hash of the encoded certificate,
+ * so a changed certificate is always parsed again. When the cache is full, the least recently used certificates are
+ * evicted.
+ */
+public class CertificateCache {
+    /**
+     * Name of the metric with the number of certificates found in the cache
+     */
+    public static final String METRIC_HITS = AbstractOperator.METRICS_PREFIX + "certificate.cache.hits";
+
+    /**
+     * Name of the metric with the number of certificates which had to be parsed
+     */
+    public static final String METRIC_MISSES = AbstractOperator.METRICS_PREFIX + "certificate.cache.misses";
+
+    /**
+     * Default maximal number of certificates in the cache
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Map<ByteBuffer, ParsedCertificate> cache;
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+
+    /**
+     * Constructor
+     *
+     * @param maxSize   Maximal number of certificates kept in the cache
+     */
+    public CertificateCache(int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, ParsedCertificate> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the parsed certificate either from the cache or by parsing it. Certificates which fail to parse are not
+     * cached.
+     *
+     * @param bytes     Encoded (DER or PEM) certificate
+     *
+     * @return  The parsed certificate
+     *
+     * @throws CertificateException If the certificate cannot be parsed or is not an X.509 certificate
+     */
+    public ParsedCertificate get(byte[] bytes) throws CertificateException {
+        ByteBuffer key = ByteBuffer.wrap(sha256(bytes));
+
+        synchronized (cache) {
+            ParsedCertificate parsed = cache.get(key);
+
+            if (parsed != null) {
+                hits.incrementAndGet();
+                return parsed;
+            }
+        }
+
+        misses.incrementAndGet();
+        // Parsing is done outside of the lock. Concurrent misses for the same certificate just parse it more than once.
+        ParsedCertificate parsed = new ParsedCertificate(parse(bytes));
+
+        synchronized (cache) {
+            cache.put(key, parsed);
+        }
+
+        return parsed;
+    }
+
+    /**
+     * @return  Number of certificates found in the cache
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return  Number of certificates which were not found in the cache
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return  Number of certificates currently in the cache
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Registers the hit and miss counters of this cache in the meter registry
+     *
+     * @param registry  Meter registry
+     */
+    public void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_HITS, this, CertificateCache::hits)
+                .description("Number of parsed certificates found in the certificate cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_MISSES, this, CertificateCache::misses)
+                .description("Number of certificates which had to be parsed because they were not found in the certificate cache")
+                .register(registry);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("No security provider with support for SHA-256", e);
+        }
+    }
+
+    private static X509Certificate parse(byte[] bytes) throws CertificateException {
+        Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(bytes));
+
+        if (certificate instanceof X509Certificate) {
+            return (X509Certificate) certificate;
+        } else {
+            throw new CertificateException("Not an X509Certificate: " + certificate);
+        }
+    }
+
+    /**
+     * Parsed certificate together with the data derived from it. The certificate is shared by all users of the cache
+     * and must not be modified.
+     */
+    public static class ParsedCertificate {
+        private final X509Certificate certificate;
+        private final Instant notAfter;
+        private final String subject;
+        private final List<String> subjectAltNames;
+
+        ParsedCertificate(X509Certificate certificate) throws CertificateParsingException {
+            this.certificate = certificate;
+            this.notAfter = certificate.getNotAfter().toInstant();
+            this.subject = certificate.getSubjectX500Principal().getName();
+
+            Collection<List<?>> altNames = certificate.getSubjectAlternativeNames();
+            this.subjectAltNames = altNames == null ? null : Collections.unmodifiableList(altNames.stream()
+                    .filter(name -> name.get(1) instanceof String)
+                    .map(item -> (String) item.get(1))
+                    .collect(Collectors.toList()));
+        }
+
+        /**
+         * @return  The parsed certificate
+         */
+        public X509Certificate certificate() {
+            return certificate;
+        }
+
+        /**
+         * @return  The end of the validity of the certificate
+         */
+        public Instant notAfter() {
+            return notAfter;
+        }
+
+        /**
+         * @return  The subject distinguished name of the certificate in the RFC 2253 format
+         */
+        public String subject() {
+            return subject;
+        }
+
+        /**
+         * @return  The subject alternative names with string values or null if the certificate has no subject
+         *          alternative names extension
+         */
+        public List<String> subjectAltNames() {
+            return subjectAltNames;
+        }
+    }
+}
@@ -4,8 +4,6 @@
  */
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.AbstractJsonDiff;
@@ -21,30 +19,17 @@ public class StatusDiff extends AbstractJsonDiff {
     private final boolean isEmpty;
 
     public StatusDiff(Status current, Status desired) {
-        JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
-        JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                LOGGER.debugOp("Ignoring Status diff {}", d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugOp("Status differs: {}", d);
-                LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
-                LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
-            }
-
-            num++;
+        Object source = current == null ? "{}" : current;
+        Object target = desired == null ? "{}" : desired;
+        String pathValue = firstDifference(source, target, IgnorablePaths.fromPattern(IGNORABLE_PATHS));
+
+        if (pathValue != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugOp("Status differs at path {}", pathValue);
+            LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(PATCH_MAPPER.valueToTree(source), pathValue));
+            LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(PATCH_MAPPER.valueToTree(target), pathValue));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = pathValue == null;
     }
 
     /**
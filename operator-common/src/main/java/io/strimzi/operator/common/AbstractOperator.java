@@ -95,8 +95,11 @@ public abstract class AbstractOperator<
     private Map<String, Counter> failedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> successfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> lockedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private Map<String, Counter> shortCircuitedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Timer> reconciliationsTimerMap = new ConcurrentHashMap<>(1);
 
+    private volatile ReconciliationWorkQueue workQueue;
+
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
         this.vertx = vertx;
         this.kind = kind;
@@ -117,6 +120,32 @@ public abstract class AbstractOperator<
         return kind;
     }
 
+    /**
+     * Enables the work queue for this operator. When enabled, the reconciliations submitted through
+     * {@link #submit(Reconciliation, boolean)} are queued and executed with limited concurrency instead of being
+     * started immediately.
+     *
+     * @param maxConcurrency                Maximal number of reconciliations running in parallel
+     * @param maxConcurrencyPerNamespace    Maximal number of reconciliations running in parallel in a single namespace
+     * @param periodicJitterMs              Period over which the start of the periodic reconciliations is spread
+     */
+    public void enableWorkQueue(int maxConcurrency, int maxConcurrencyPerNamespace, long periodicJitterMs) {
+        this.workQueue = new ReconciliationWorkQueue(vertx, kind, maxConcurrency, maxConcurrencyPerNamespace, periodicJitterMs, metrics);
+    }
+
+    @Override
+    public Future<Void> submit(Reconciliation reconciliation, boolean periodic) {
+        ReconciliationWorkQueue queue = workQueue;
+
+        if (queue == null) {
+            return reconcile(reconciliation);
+        } else if (periodic) {
+            return queue.enqueuePeriodic(reconciliation, this::reconcile);
+        } else {
+            return queue.enqueue(reconciliation, ReconciliationWorkQueue.Priority.HIGH, this::reconcile);
+        }
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -560,6 +589,11 @@ public abstract class AbstractOperator<
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
 
+    public Counter shortCircuitedReconciliationsCounter(String namespace) {
+        return Operator.getCounter(namespace, kind(), METRICS_PREFIX + "reconciliations.short.circuited", metrics, selectorLabels, shortCircuitedReconciliationsCounterMap,
+                "Number of reconciliations which skipped the reconciliation of the operands because their desired state did not change");
+    }
+
     @Override
     public AtomicInteger resourceCounter(String namespace) {
         return Operator.getGauge(namespace, kind(), METRICS_PREFIX + "resources", metrics, selectorLabels, resourceCounterMap,
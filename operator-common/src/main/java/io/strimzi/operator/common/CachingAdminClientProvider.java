@@ -0,0 +1,373 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admin client provider which keeps the created Admin clients and shares them between the callers instead of creating
+ * a new client (with a new TLS handshake and metadata fetch) every time. One client is kept for each Kafka cluster
+ * (identified by the namespace and name of its cluster CA Secret), bootstrap address and client certificate.
+ *
+ * Every returned client is a lease on the cached client. Closing it only releases the lease, so the existing callers
+ * can keep closing their clients. The cached client is replaced when the data of the cluster CA Secret or of the key
+ * Secret changes and it is evicted once it was not used for the idle timeout. The replaced clients are
+ * closed only after all their leases were released and clients with open leases are never evicted, so a caller
+ * holding a client for a long time (e.g. the KafkaRoller during a rolling update) never uses a closed client.
+ */
+public class CachingAdminClientProvider implements AdminClientProvider {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CachingAdminClientProvider.class);
+
+    /**
+     * Name of the metric with the number of cached Admin clients
+     */
+    public static final String METRIC_CLIENTS = AbstractOperator.METRICS_PREFIX + "admin.client.pool.clients";
+
+    /**
+     * Name of the metric with the number of created Admin clients
+     */
+    public static final String METRIC_CREATED = AbstractOperator.METRICS_PREFIX + "admin.client.pool.created";
+
+    /**
+     * Default time after which unused clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final Map<String, Entry> clients = new HashMap<>();
+    private final ScheduledExecutorService executor;
+    private final AtomicInteger clientsGauge;
+    private final Counter createdCounter;
+
+    /**
+     * Creates the caching Admin client provider
+     *
+     * @param delegate      Provider used to create the new clients
+     * @param metrics       Metrics provider
+     * @param idleTimeoutMs Time after which unused clients are closed
+     */
+    public CachingAdminClientProvider(AdminClientProvider delegate, MetricsProvider metrics, long idleTimeoutMs) {
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        this.clientsGauge = metrics.gauge(METRIC_CLIENTS, "Number of cached Kafka Admin clients", Tags.empty());
+        this.createdCounter = metrics.counter(METRIC_CREATED, "Number of Kafka Admin clients created by the cache", Tags.empty());
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admin-client-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepIntervalMs = Math.max(1L, idleTimeoutMs / 2);
+        this.executor.scheduleWithFixedDelay(this::evictIdle, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        return createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, new Properties());
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName, Properties config) {
+        String key = key(bootstrapHostnames, clusterCaCertSecret, keyCertName, config);
+        String caHash = dataHash(clusterCaCertSecret);
+        String keyHash = dataHash(keyCertSecret);
+
+        Entry entry = lease(key, caHash, keyHash, null);
+
+        if (entry == null) {
+            // Creating the client can take a while, so it is not done while holding the lock on the cached clients
+            LOGGER.debugOp("Creating new cached Admin client for {}", bootstrapHostnames);
+            // The delegate modifies the passed properties
+            Properties properties = new Properties();
+            properties.putAll(config);
+
+            Entry created = new Entry(delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, properties), caHash, keyHash);
+            entry = lease(key, caHash, keyHash, created);
+
+            if (entry != created) {
+                LOGGER.debugOp("Admin client for {} was created concurrently, closing the new one", bootstrapHostnames);
+                closeLater(created.admin);
+            }
+        }
+
+        return new Lease(entry).proxy;
+    }
+
+    /**
+     * Leases the cached client for the given key. The cached client is replaced when it was created from Secrets with
+     * different data. When there is no valid cached client, the newly created client is cached and leased instead.
+     *
+     * @param key       Key of the cached client
+     * @param caHash    Hash of the data of the cluster CA Secret
+     * @param keyHash   Hash of the data of the key Secret
+     * @param created   Newly created client or null if it was not created yet
+     *
+     * @return  The leased client or null when there is no valid cached client and no client was created yet
+     */
+    private Entry lease(String key, String caHash, String keyHash, Entry created) {
+        Entry replaced = null;
+        Entry entry;
+
+        synchronized (clients) {
+            entry = clients.get(key);
+
+            if (entry != null && !(Objects.equals(entry.caHash, caHash) && Objects.equals(entry.keyHash, keyHash))) {
+                LOGGER.debugOp("Replacing Admin client because the certificates changed");
+                replaced = clients.remove(key);
+                replaced.retired = true;
+                entry = null;
+            }
+
+            if (entry == null && created != null) {
+                entry = created;
+                clients.put(key, entry);
+                createdCounter.increment();
+            }
+
+            if (entry != null) {
+                entry.lastUsedMs = System.currentTimeMillis();
+                entry.leases++;
+            }
+
+            clientsGauge.set(clients.size());
+
+            if (replaced != null && replaced.leases > 0) {
+                LOGGER.debugOp("Replaced Admin client will be closed once it is released");
+                replaced = null;
+            }
+        }
+
+        if (replaced != null) {
+            closeLater(replaced.admin);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Releases a lease on the cached client. When the client was already replaced and this was its last lease, it is
+     * closed.
+     *
+     * @param entry     The cached client
+     */
+    private void release(Entry entry) {
+        boolean close;
+
+        synchronized (clients) {
+            entry.leases--;
+            entry.lastUsedMs = System.currentTimeMillis();
+            close = entry.retired && entry.leases == 0;
+        }
+
+        if (close) {
+            LOGGER.debugOp("Closing replaced Admin client after its last lease was released");
+            closeLater(entry.admin);
+        }
+    }
+
+    /**
+     * Closes all cached clients and stops the thread used to evict the idle clients. It is called when the operator
+     * shuts down, so the clients are closed even when they are still leased.
+     */
+    public void close() {
+        List<Entry> toClose;
+
+        synchronized (clients) {
+            toClose = new ArrayList<>(clients.values());
+            clients.clear();
+            clientsGauge.set(0);
+        }
+
+        for (Entry entry : toClose) {
+            closeLater(entry.admin);
+        }
+
+        executor.shutdown();
+    }
+
+    /**
+     * @return  Number of cached clients
+     */
+    /* test */ int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    /* test */ void evictIdle() {
+        long now = System.currentTimeMillis();
+        List<Entry> toClose = new ArrayList<>();
+
+        synchronized (clients) {
+            Iterator<Entry> iterator = clients.values().iterator();
+
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+
+                if (entry.leases == 0 && now - entry.lastUsedMs >= idleTimeoutMs) {
+                    iterator.remove();
+                    toClose.add(entry);
+                }
+            }
+
+            clientsGauge.set(clients.size());
+        }
+
+        for (Entry entry : toClose) {
+            LOGGER.debugOp("Closing idle Admin client");
+            closeLater(entry.admin);
+        }
+    }
+
+    private void closeLater(Admin admin) {
+        if (executor.isShutdown()) {
+            // The provider was closed and the client was closed with it
+            return;
+        }
+
+        // Closing waits for the pending requests, so it is not done in the caller's thread
+        executor.execute(() -> {
+            try {
+                admin.close(CLOSE_TIMEOUT);
+            } catch (RuntimeException e) {
+                LOGGER.warnOp("Failed to close Admin client", e);
+            }
+        });
+    }
+
+    private static String key(String bootstrapHostnames, Secret clusterCaCertSecret, String keyCertName, Properties config) {
+        StringBuilder key = new StringBuilder();
+
+        if (clusterCaCertSecret != null && clusterCaCertSecret.getMetadata() != null) {
+            key.append(clusterCaCertSecret.getMetadata().getNamespace())
+                    .append('/')
+                    .append(clusterCaCertSecret.getMetadata().getName());
+        }
+
+        key.append('|').append(bootstrapHostnames).append('|').append(keyCertName);
+
+        if (config != null && !config.isEmpty()) {
+            key.append('|').append(new TreeMap<>(config));
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Calculates the hash of the data of the Secret. The Secrets passed by the callers are not always read from the
+     * Kubernetes API (for example the CA certificate Secret rebuilt by the CaReconciler) and do not have any
+     * resourceVersion, so the data itself is used to find out whether the certificates changed.
+     *
+     * @param secret    Secret with the certificates or keys
+     *
+     * @return  SHA-256 hash of the sorted data entries of the Secret or null if the Secret does not have any data
+     */
+    private static String dataHash(Secret secret) {
+        if (secret == null || secret.getData() == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+
+            for (Map.Entry<String, String> entry : new TreeMap<>(secret.getData()).entrySet()) {
+                sha256.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                sha256.update((byte) 0);
+                if (entry.getValue() != null) {
+                    sha256.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+                sha256.update((byte) 0);
+            }
+
+            return String.format("%064x", new BigInteger(1, sha256.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("No security provider with support for SHA-256", e);
+        }
+    }
+
+    /**
+     * Cached client together with the hashes of the Secrets it was created from and the number of its open leases. The
+     * leases are guarded by the lock on the cached clients.
+     */
+    private static class Entry {
+        private final Admin admin;
+        private final String caHash;
+        private final String keyHash;
+        private volatile long lastUsedMs;
+        private int leases = 0;
+        private boolean retired = false;
+
+        Entry(Admin admin, String caHash, String keyHash) {
+            this.admin = admin;
+            this.caHash = caHash;
+            this.keyHash = keyHash;
+        }
+    }
+
+    /**
+     * Lease on a cached client returned to the callers. It delegates all calls to the cached client except for
+     * {@code close()} which releases the lease (only once, when the caller closes the client several times).
+     */
+    private class Lease implements InvocationHandler {
+        private final Entry entry;
+        private final Admin proxy;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        Lease(Entry entry) {
+            this.entry = entry;
+            this.proxy = (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName())) {
+                if (released.compareAndSet(false, true)) {
+                    release(entry);
+                }
+
+                return null;
+            }
+
+            // Clients used for a long time (e.g. during a rolling update) are not idle
+            entry.lastUsedMs = System.currentTimeMillis();
+
+            try {
+                return method.invoke(entry.admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.micrometer.backends.BackendRegistries;
 
 import java.time.Duration;
@@ -21,10 +22,12 @@ public class MicrometerMetricsProvider implements MetricsProvider {
     private final MeterRegistry metrics;
 
     /**
-     * Constructor of the Micrometer metrics provider
+     * Constructor of the Micrometer metrics provider. When Vert.x metrics are not enabled (for example in tests), the
+     * metrics are recorded into a local registry which is not exported.
      */
     public MicrometerMetricsProvider() {
-        this.metrics = BackendRegistries.getDefaultNow();
+        MeterRegistry defaultRegistry = BackendRegistries.getDefaultNow();
+        this.metrics = defaultRegistry != null ? defaultRegistry : new SimpleMeterRegistry();
     }
 
     /**
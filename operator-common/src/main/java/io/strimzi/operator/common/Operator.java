@@ -48,6 +48,17 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Submits the reconciliation of the resource identified by the given reconciliation. By default, the
+     * reconciliation is started immediately. Operators using a {@link ReconciliationWorkQueue} queue it instead.
+     * @param reconciliation The resource.
+     * @param periodic Whether the reconciliation was triggered periodically rather than by a watch event.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> submit(Reconciliation reconciliation, boolean periodic) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -81,7 +92,7 @@ public interface Operator {
             for (NamespaceAndName resourceRef : desiredNames) {
                 resourceCounter(resourceRef.getNamespace()).getAndIncrement();
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(submit(reconciliation, true));
             }
             CompositeFuture.join(futures).map((Void) null).onComplete(handler);
         } else {
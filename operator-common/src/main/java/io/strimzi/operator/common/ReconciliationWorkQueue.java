@@ -0,0 +1,294 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bounded work queue for the reconciliations of a single kind of custom resource. Instead of starting all
+ * reconciliations at once, they are queued and started only when there is a free slot. This avoids the situation when
+ * hundreds of reconciliations triggered by the periodic timer compete for the locks and for the worker threads at the
+ * same time.
+ *
+ * The queue:
+ *   - limits the number of reconciliations running in parallel for the kind and for each namespace,
+ *   - deduplicates the queued reconciliations of the same resource,
+ *   - never runs two reconciliations of the same resource in parallel,
+ *   - starts the watch-triggered reconciliations before the periodic ones,
+ *   - spreads the periodic reconciliations randomly over the configured jitter period.
+ */
+public class ReconciliationWorkQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationWorkQueue.class);
+
+    /**
+     * Priority of the queued reconciliation
+     */
+    public enum Priority {
+        /**
+         * Used for reconciliations triggered by watch events
+         */
+        HIGH,
+
+        /**
+         * Used for the periodic reconciliations
+         */
+        LOW
+    }
+
+    private final Vertx vertx;
+    private final String kind;
+    private final int maxConcurrency;
+    private final int maxConcurrencyPerNamespace;
+    private final long periodicJitterMs;
+
+    // Queued items per priority indexed by the resource key. LinkedHashMap keeps the FIFO order while allowing the
+    // lookup and removal by key in constant time.
+    private final Map<String, Item> highPriority = new LinkedHashMap<>();
+    private final Map<String, Item> lowPriority = new LinkedHashMap<>();
+    private final Set<String> inFlightKeys = new HashSet<>();
+    private final Map<String, Integer> inFlightPerNamespace = new HashMap<>();
+    private boolean dispatching = false;
+    private boolean redispatch = false;
+
+    private final AtomicInteger depthGauge;
+    private final AtomicInteger inFlightGauge;
+    private final Timer waitTimer;
+    private final Counter deduplicatedCounter;
+
+    /**
+     * Creates the work queue
+     *
+     * @param vertx                         Vert.x instance used for scheduling the periodic reconciliations
+     * @param kind                          Kind of the reconciled resources (used for logging and metrics)
+     * @param maxConcurrency                Maximal number of reconciliations running in parallel
+     * @param maxConcurrencyPerNamespace    Maximal number of reconciliations running in parallel in a single
+     *                                      namespace. Values lower than 1 mean no per-namespace limit.
+     * @param periodicJitterMs              Period over which the start of the periodic reconciliations will be spread
+     * @param metrics                       Metrics provider
+     */
+    public ReconciliationWorkQueue(Vertx vertx, String kind, int maxConcurrency, int maxConcurrencyPerNamespace, long periodicJitterMs, MetricsProvider metrics) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximal concurrency has to be at least 1");
+        }
+
+        this.vertx = vertx;
+        this.kind = kind;
+        this.maxConcurrency = maxConcurrency;
+        this.maxConcurrencyPerNamespace = maxConcurrencyPerNamespace < 1 ? Integer.MAX_VALUE : maxConcurrencyPerNamespace;
+        this.periodicJitterMs = Math.max(0, periodicJitterMs);
+
+        Tags tags = Tags.of(Tag.of("kind", kind));
+        this.depthGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.depth", "Number of reconciliations waiting in the queue", tags);
+        this.inFlightGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.in.flight", "Number of reconciliations started from the queue and still in progress", tags);
+        this.waitTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.wait", "Time the reconciliations spent waiting in the queue", tags);
+        this.deduplicatedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.deduplicated", "Number of reconciliations merged with a reconciliation of the same resource which was already queued", tags);
+    }
+
+    /**
+     * Queues a reconciliation. If the reconciliation of the same resource is already queued, the two are merged and
+     * the returned future completes with the result of the queued reconciliation.
+     *
+     * @param reconciliation    The reconciliation
+     * @param priority          Priority of the reconciliation
+     * @param task              Function which runs the reconciliation
+     *
+     * @return  Future which completes when the reconciliation completes
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation, Priority priority, Function<Reconciliation, Future<Void>> task) {
+        Future<Void> result;
+
+        synchronized (this) {
+            String key = key(reconciliation);
+            Item item = highPriority.get(key);
+
+            if (item == null) {
+                item = lowPriority.get(key);
+
+                if (item != null && priority == Priority.HIGH) {
+                    // Already queued with lower priority => move it to the high priority queue
+                    lowPriority.remove(key);
+                    highPriority.put(key, item);
+                }
+            }
+
+            if (item != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation merged with already queued {}", item.reconciliation);
+                deduplicatedCounter.increment();
+                result = item.promise.future();
+            } else {
+                item = new Item(reconciliation, task);
+                (priority == Priority.HIGH ? highPriority : lowPriority).put(key, item);
+                depthGauge.set(highPriority.size() + lowPriority.size());
+                result = item.promise.future();
+            }
+        }
+
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Queues a periodic reconciliation with low priority after a random delay within the jitter period.
+     *
+     * @param reconciliation    The reconciliation
+     * @param task              Function which runs the reconciliation
+     *
+     * @return  Future which completes when the reconciliation completes
+     */
+    public Future<Void> enqueuePeriodic(Reconciliation reconciliation, Function<Reconciliation, Future<Void>> task) {
+        if (periodicJitterMs <= 0) {
+            return enqueue(reconciliation, Priority.LOW, task);
+        } else {
+            Promise<Void> promise = Promise.promise();
+            // Vert.x timers need at least 1ms delay
+            long delay = 1 + ThreadLocalRandom.current().nextLong(periodicJitterMs);
+            vertx.setTimer(delay, timerId -> enqueue(reconciliation, Priority.LOW, task).onComplete(promise));
+            return promise.future();
+        }
+    }
+
+    /**
+     * @return  Number of queued reconciliations
+     */
+    public synchronized int depth() {
+        return highPriority.size() + lowPriority.size();
+    }
+
+    /**
+     * @return  Number of reconciliations which are in progress
+     */
+    public synchronized int inFlight() {
+        return inFlightKeys.size();
+    }
+
+    /**
+     * Starts as many queued reconciliations as the limits allow. Reconciliations which complete synchronously would
+     * call this method recursively. To avoid deep recursion, nested calls only ask the outer call to do another round.
+     */
+    private void dispatch() {
+        synchronized (this) {
+            if (dispatching) {
+                redispatch = true;
+                return;
+            }
+
+            dispatching = true;
+        }
+
+        while (true) {
+            List<Item> toStart = new ArrayList<>();
+
+            synchronized (this) {
+                selectStartable(highPriority, toStart);
+                selectStartable(lowPriority, toStart);
+
+                depthGauge.set(highPriority.size() + lowPriority.size());
+                inFlightGauge.set(inFlightKeys.size());
+
+                if (toStart.isEmpty() && !redispatch) {
+                    dispatching = false;
+                    return;
+                }
+
+                redispatch = false;
+            }
+
+            for (Item item : toStart) {
+                start(item);
+            }
+        }
+    }
+
+    /**
+     * Moves the queued items which can be started from the queue to the list of items to start and marks them as in
+     * flight. Items for resources which are already being reconciled or for namespaces which reached the limit are
+     * skipped and stay in the queue.
+     *
+     * @param queue     Queue from which the items should be taken
+     * @param toStart   List where the selected items are added
+     */
+    private void selectStartable(Map<String, Item> queue, List<Item> toStart) {
+        Iterator<Map.Entry<String, Item>> it = queue.entrySet().iterator();
+
+        while (inFlightKeys.size() < maxConcurrency && it.hasNext()) {
+            Map.Entry<String, Item> entry = it.next();
+            String namespace = entry.getValue().reconciliation.namespace();
+
+            if (!inFlightKeys.contains(entry.getKey())
+                    && inFlightPerNamespace.getOrDefault(namespace, 0) < maxConcurrencyPerNamespace) {
+                it.remove();
+                inFlightKeys.add(entry.getKey());
+                inFlightPerNamespace.merge(namespace, 1, Integer::sum);
+                toStart.add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Runs the reconciliation and releases the slot when it completes
+     *
+     * @param item  Item which should be started
+     */
+    private void start(Item item) {
+        waitTimer.record(System.nanoTime() - item.enqueuedNanos, TimeUnit.NANOSECONDS);
+        LOGGER.debugCr(item.reconciliation, "Starting reconciliation of {} from the queue", kind);
+
+        Future<Void> result;
+        try {
+            result = item.task.apply(item.reconciliation);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            synchronized (this) {
+                String namespace = item.reconciliation.namespace();
+                inFlightKeys.remove(key(item.reconciliation));
+                inFlightPerNamespace.computeIfPresent(namespace, (ns, count) -> count > 1 ? count - 1 : null);
+            }
+
+            dispatch();
+            item.promise.handle(res);
+        });
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Queued reconciliation
+     */
+    private static class Item {
+        final Reconciliation reconciliation;
+        final Function<Reconciliation, Future<Void>> task;
+        final Promise<Void> promise = Promise.promise();
+        final long enqueuedNanos = System.nanoTime();
+
+        Item(Reconciliation reconciliation, Function<Reconciliation, Future<Void>> task) {
+            this.reconciliation = reconciliation;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executes the steps of a reconciliation based on their dependencies. Each step declares the steps it depends on and
+ * is started as soon as all of them completed successfully. Steps which do not depend on each other run concurrently.
+ *
+ * The steps have to be added in an order where every dependency is added before the steps depending on it. This
+ * ensures that the graph has no cycles.
+ *
+ * When any step fails, no new steps are started. The execution completes once the steps which are already running
+ * finish and it fails with the cause of the first failed step.
+ *
+ * The duration of each step is recorded in the {@code strimzi.reconciliation.step.duration} timer.
+ */
+public class StepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StepGraph.class);
+
+    /* test */ static final String METRIC_NAME = AbstractOperator.METRICS_PREFIX + "reconciliation.step.duration";
+
+    private final Reconciliation reconciliation;
+    private final MetricsProvider metrics;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    private final Promise<Void> result = Promise.promise();
+    private int running = 0;
+    private int completed = 0;
+    private Throwable failure;
+
+    /**
+     * Creates the step graph
+     *
+     * @param reconciliation    The reconciliation
+     * @param metrics           Metrics provider used for the step timers or null when the durations should not be recorded
+     */
+    public StepGraph(Reconciliation reconciliation, MetricsProvider metrics) {
+        this.reconciliation = reconciliation;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a step to the graph
+     *
+     * @param name          Name of the step (used for logging and metrics)
+     * @param step          Supplier which starts the step and returns a future which completes when the step is done
+     * @param dependsOn     Names of the steps which have to complete before this step is started. They have to be
+     *                      added to the graph before this step.
+     *
+     * @return  This step graph
+     */
+    public StepGraph step(String name, Supplier<Future<Void>> step, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " already exists");
+        }
+
+        Step newStep = new Step(name, step, dependsOn.length);
+
+        for (String dependency : dependsOn) {
+            Step dependencyStep = steps.get(dependency);
+
+            if (dependencyStep == null) {
+                throw new IllegalArgumentException("Step " + name + " depends on unknown step " + dependency);
+            }
+
+            dependencyStep.dependents.add(newStep);
+        }
+
+        steps.put(name, newStep);
+        return this;
+    }
+
+    /**
+     * Executes the steps. This method should be called only once.
+     *
+     * @return  Future which completes when all steps complete or fails when any of the steps fails
+     */
+    public Future<Void> execute() {
+        List<Step> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            for (Step step : steps.values()) {
+                if (step.pendingDependencies == 0) {
+                    toStart.add(step);
+                    running++;
+                }
+            }
+        }
+
+        if (toStart.isEmpty()) {
+            result.complete();
+        } else {
+            toStart.forEach(this::start);
+        }
+
+        return result.future();
+    }
+
+    private void start(Step step) {
+        LOGGER.debugCr(reconciliation, "Starting step {}", step.name);
+        long startNanos = System.nanoTime();
+
+        Future<Void> stepFuture;
+        try {
+            stepFuture = step.step.get();
+        } catch (Throwable t) {
+            stepFuture = Future.failedFuture(t);
+        }
+
+        stepFuture.onComplete(res -> {
+            long durationNanos = System.nanoTime() - startNanos;
+            LOGGER.debugCr(reconciliation, "Step {} {} after {}ms", step.name, res.succeeded() ? "completed" : "failed", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+            if (metrics != null) {
+                metrics.timer(METRIC_NAME, "Duration of the individual reconciliation steps",
+                                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace()), Tag.of("step", step.name)))
+                        .record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+
+            completed(step, res);
+        });
+    }
+
+    private void completed(Step step, AsyncResult<Void> res) {
+        List<Step> toStart = new ArrayList<>();
+        boolean done;
+        Throwable cause;
+        boolean allCompleted;
+
+        synchronized (this) {
+            running--;
+            completed++;
+
+            if (res.failed()) {
+                if (failure == null) {
+                    failure = res.cause();
+                }
+            } else if (failure == null) {
+                for (Step dependent : step.dependents) {
+                    if (--dependent.pendingDependencies == 0) {
+                        toStart.add(dependent);
+                        running++;
+                    }
+                }
+            }
+
+            done = running == 0 && toStart.isEmpty();
+            cause = failure;
+            allCompleted = completed == steps.size();
+        }
+
+        if (done) {
+            if (cause != null) {
+                result.fail(cause);
+            } else if (allCompleted) {
+                result.complete();
+            } else {
+                // Should not happen since all dependencies are added before their dependents
+                result.fail(new IllegalStateException("Some reconciliation steps were never started"));
+            }
+        } else {
+            toStart.forEach(this::start);
+        }
+    }
+
+    /**
+     * Single step of the graph
+     */
+    private static class Step {
+        final String name;
+        final Supplier<Future<Void>> step;
+        final List<Step> dependents = new ArrayList<>();
+        int pendingDependencies;
+
+        Step(String name, Supplier<Future<Void>> step, int pendingDependencies) {
+            this.name = name;
+            this.step = step;
+            this.pendingDependencies = pendingDependencies;
+        }
+    }
+}
@@ -4,12 +4,26 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 public abstract class AbstractJsonDiff {
     // use SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS just for better human readability in the logs
     @SuppressWarnings("deprecation") // Suppress deprecated warning of SerializationFeature.WRITE_EMPTY_JSON_ARRAYS which currently does not have proper alternative
@@ -18,6 +32,10 @@ public abstract class AbstractJsonDiff {
             .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
 
     protected static JsonNode lookupPath(JsonNode source, String path) {
+        if (path.isEmpty()) {
+            return source;
+        }
+
         JsonNode s = source;
         for (String component : path.substring(1).split("/")) {
             if (s.isArray()) {
@@ -33,6 +51,377 @@ public abstract class AbstractJsonDiff {
         return s;
     }
 
+    /**
+     * Compares the JSON representations of two objects and finds the first difference which is not ignorable. Unlike
+     * generating the full JSON Patch and matching each of its paths against the ignorable paths regular expression,
+     * this serializes both objects into token buffers, walks them in step, skips the ignorable subtrees and stops at
+     * the first real difference. The JSON trees are built only for the rest of an object whose fields do not follow
+     * the same order in both objects.
+     *
+     * @param source            The current object
+     * @param target            The desired object
+     * @param ignorablePaths    Paths which should be ignored
+     *
+     * @return  JSON Pointer path of the first difference or null if the objects do not differ outside the ignorable paths
+     */
+    protected static String firstDifference(Object source, Object target, IgnorablePaths ignorablePaths) {
+        try (JsonParser sourceParser = tokens(source).asParser(PATCH_MAPPER);
+             JsonParser targetParser = tokens(target).asParser(PATCH_MAPPER)) {
+            sourceParser.nextToken();
+            targetParser.nextToken();
+
+            List<Object> path = new ArrayList<>();
+            return firstDifference(sourceParser, targetParser, ignorablePaths.root, ignorablePaths, path) ? pathToString(path) : null;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to compare the JSON representations", e);
+        }
+    }
+
+    private static TokenBuffer tokens(Object value) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(PATCH_MAPPER, false);
+        PATCH_MAPPER.writeValue(buffer, value);
+        return buffer;
+    }
+
+    /**
+     * Walks the current value of both token streams. The path list is used as a stack of the field names and array
+     * indexes. When a difference is found, it is left with the path of the difference. Otherwise, both parsers are
+     * left at the last token of the value.
+     *
+     * @return  True if a difference was found. False otherwise.
+     */
+    private static boolean firstDifference(JsonParser source, JsonParser target, IgnorablePaths.Node node, IgnorablePaths paths, List<Object> path) throws IOException {
+        JsonToken sourceToken = source.currentToken();
+        JsonToken targetToken = target.currentToken();
+
+        if (node != null && node.terminal) {
+            // Ignorable subtree
+            source.skipChildren();
+            target.skipChildren();
+            return false;
+        } else if (sourceToken == JsonToken.START_OBJECT && targetToken == JsonToken.START_OBJECT) {
+            return firstObjectDifference(source, target, node, paths, path);
+        } else if (sourceToken == JsonToken.START_ARRAY && targetToken == JsonToken.START_ARRAY) {
+            return firstArrayDifference(source, target, node, paths, path);
+        } else if (!sameScalar(source, target)) {
+            // Different values or different types of nodes
+            if (paths.isIgnorable(node, path)) {
+                source.skipChildren();
+                target.skipChildren();
+                return false;
+            } else {
+                return true;
+            }
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean firstObjectDifference(JsonParser source, JsonParser target, IgnorablePaths.Node node, IgnorablePaths paths, List<Object> path) throws IOException {
+        while (true) {
+            JsonToken sourceToken = source.nextToken();
+            JsonToken targetToken = target.nextToken();
+
+            if (sourceToken == JsonToken.END_OBJECT && targetToken == JsonToken.END_OBJECT) {
+                return false;
+            } else if (sourceToken == JsonToken.FIELD_NAME && targetToken == JsonToken.FIELD_NAME
+                    && source.getCurrentName().equals(target.getCurrentName())) {
+                String fieldName = source.getCurrentName();
+                source.nextToken();
+                target.nextToken();
+
+                path.add(fieldName);
+                if (firstDifference(source, target, node == null ? null : node.child(fieldName), paths, path)) {
+                    return true;
+                }
+                path.remove(path.size() - 1);
+            } else {
+                // Added or removed fields => the remaining fields are compared regardless of their order
+                return firstObjectDifference(remainingFields(source), remainingFields(target), node, paths, path);
+            }
+        }
+    }
+
+    private static boolean firstArrayDifference(JsonParser source, JsonParser target, IgnorablePaths.Node node, IgnorablePaths paths, List<Object> path) throws IOException {
+        JsonToken sourceToken = source.nextToken();
+        JsonToken targetToken = target.nextToken();
+        int i = 0;
+
+        while (sourceToken != JsonToken.END_ARRAY && targetToken != JsonToken.END_ARRAY) {
+            path.add(i);
+            if (firstDifference(source, target, node == null ? null : node.index(i), paths, path)) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+
+            sourceToken = source.nextToken();
+            targetToken = target.nextToken();
+            i++;
+        }
+
+        // Added or removed items
+        JsonParser longer = sourceToken != JsonToken.END_ARRAY ? source : target;
+
+        while (longer.currentToken() != JsonToken.END_ARRAY) {
+            path.add(i);
+            if (!paths.isIgnorable(node == null ? null : node.index(i), path)) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+
+            longer.skipChildren();
+            longer.nextToken();
+            i++;
+        }
+
+        return false;
+    }
+
+    private static boolean sameScalar(JsonParser source, JsonParser target) throws IOException {
+        JsonToken token = source.currentToken();
+
+        if (token != target.currentToken() || token.isStructStart()) {
+            return false;
+        }
+
+        switch (token) {
+            case VALUE_STRING:
+                return source.getText().equals(target.getText());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return source.getNumberValue().equals(target.getNumberValue());
+            case VALUE_EMBEDDED_OBJECT:
+                return Objects.equals(source.getEmbeddedObject(), target.getEmbeddedObject());
+            default:
+                // true, false and null
+                return true;
+        }
+    }
+
+    /**
+     * Reads the fields remaining in the current object into a JSON tree
+     *
+     * @param parser    Parser positioned at a field name or at the end of the object
+     *
+     * @return  Object node with the remaining fields
+     */
+    private static JsonNode remainingFields(JsonParser parser) throws IOException {
+        ObjectNode fields = PATCH_MAPPER.createObjectNode();
+
+        while (parser.currentToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            fields.set(fieldName, PATCH_MAPPER.readTree(parser));
+            parser.nextToken();
+        }
+
+        return fields;
+    }
+
+    /**
+     * Walks the current level of the JSON trees. The path list is used as a stack of the field names and array
+     * indexes. When a difference is found, it is left with the path of the difference.
+     *
+     * @return  True if a difference was found. False otherwise.
+     */
+    private static boolean firstDifference(JsonNode source, JsonNode target, IgnorablePaths.Node node, IgnorablePaths paths, List<Object> path) {
+        if (node != null && node.terminal) {
+            // Ignorable subtree
+            return false;
+        } else if (source.isObject() && target.isObject()) {
+            return firstObjectDifference(source, target, node, paths, path);
+        } else if (source.isArray() && target.isArray()) {
+            return firstArrayDifference(source, target, node, paths, path);
+        } else if (!source.equals(target)) {
+            // Different values or different types of nodes
+            return !paths.isIgnorable(node, path);
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean firstObjectDifference(JsonNode source, JsonNode target, IgnorablePaths.Node node, IgnorablePaths paths, List<Object> path) {
+        Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            IgnorablePaths.Node child = node == null ? null : node.child(field.getKey());
+            JsonNode targetValue = target.get(field.getKey());
+
+            path.add(field.getKey());
+            if (targetValue == null ? !paths.isIgnorable(child, path) : firstDifference(field.getValue(), targetValue, child, paths, path)) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+        }
+
+        // Fields which exist only in the target
+        Iterator<String> targetFields = target.fieldNames();
+
+        while (targetFields.hasNext()) {
+            String fieldName = targetFields.next();
+
+            if (!source.has(fieldName)) {
+                path.add(fieldName);
+                if (!paths.isIgnorable(node == null ? null : node.child(fieldName), path)) {
+                    return true;
+                }
+                path.remove(path.size() - 1);
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean firstArrayDifference(JsonNode source, JsonNode target, IgnorablePaths.Node node, IgnorablePaths paths, List<Object> path) {
+        int common = Math.min(source.size(), target.size());
+
+        for (int i = 0; i < common; i++) {
+            path.add(i);
+            if (firstDifference(source.get(i), target.get(i), node == null ? null : node.index(i), paths, path)) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+        }
+
+        // Added or removed items
+        for (int i = common; i < Math.max(source.size(), target.size()); i++) {
+            path.add(i);
+            if (!paths.isIgnorable(node == null ? null : node.index(i), path)) {
+                return true;
+            }
+            path.remove(path.size() - 1);
+        }
+
+        return false;
+    }
+
+    /**
+     * Formats the path as JSON Pointer (using the same escaping as the JSON Patch)
+     *
+     * @param path  List with field names and array indexes
+     *
+     * @return  JSON Pointer
+     */
+    private static String pathToString(List<Object> path) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Object segment : path) {
+            sb.append('/').append(segment.toString().replace("~", "~0").replace("/", "~1"));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Paths which should be ignored when diffing resources. The regular expression with the ignorable paths is parsed
+     * into a tree of path segments so that the ignorable subtrees can be recognized while walking the JSON trees
+     * without formatting and matching the path of every difference. Only expressions with alternatives of plain paths
+     * (optionally using {@code [0-9]+} for array indexes) can be parsed. Other expressions are matched as regular
+     * expressions against the formatted path of each difference.
+     */
+    public static final class IgnorablePaths {
+        private static final Map<Pattern, IgnorablePaths> CACHE = new ConcurrentHashMap<>();
+        private static final String INDEX_SEGMENT = "[0-9]+";
+        private static final Pattern UNSUPPORTED_CHARACTERS = Pattern.compile("[\\\\()\\[\\]{}*+?^$|]");
+
+        private final Node root;
+        private final Pattern fallback;
+
+        private IgnorablePaths(Node root, Pattern fallback) {
+            this.root = root;
+            this.fallback = fallback;
+        }
+
+        /**
+         * Returns the ignorable paths for given regular expression. The parsed paths are cached.
+         *
+         * @param pattern   Regular expression matching the ignorable paths
+         *
+         * @return  The ignorable paths
+         */
+        public static IgnorablePaths fromPattern(Pattern pattern) {
+            return CACHE.computeIfAbsent(pattern, IgnorablePaths::parse);
+        }
+
+        private static IgnorablePaths parse(Pattern pattern) {
+            String regex = pattern.pattern();
+
+            if (regex.startsWith("^(") && regex.endsWith(")$")) {
+                regex = regex.substring(2, regex.length() - 2);
+            } else if (regex.startsWith("^") && regex.endsWith("$")) {
+                regex = regex.substring(1, regex.length() - 1);
+            }
+
+            Node root = new Node();
+
+            for (String alternative : regex.split("\\|", -1)) {
+                if (!alternative.startsWith("/")) {
+                    return new IgnorablePaths(null, pattern);
+                }
+
+                Node node = root;
+
+                for (String segment : alternative.substring(1).split("/", -1)) {
+                    if (INDEX_SEGMENT.equals(segment)) {
+                        if (node.index == null) {
+                            node.index = new Node();
+                        }
+
+                        node = node.index;
+                    } else if (UNSUPPORTED_CHARACTERS.matcher(segment).find()) {
+                        return new IgnorablePaths(null, pattern);
+                    } else {
+                        // The dots in the paths are used as literals and not as wildcards
+                        node = node.children.computeIfAbsent(segment.replace("~1", "/").replace("~0", "~"), k -> new Node());
+                    }
+                }
+
+                node.terminal = true;
+            }
+
+            return new IgnorablePaths(root, null);
+        }
+
+        /**
+         * Checks whether the difference at the given path is ignorable
+         *
+         * @param node  Node of the parsed paths corresponding to the path or null when there is no such node
+         * @param path  Path of the difference
+         *
+         * @return  True if the difference is ignorable. False otherwise.
+         */
+        private boolean isIgnorable(Node node, List<Object> path) {
+            if (fallback != null) {
+                return fallback.matcher(pathToString(path)).matches();
+            } else {
+                return node != null && node.terminal;
+            }
+        }
+
+        /**
+         * Node in the tree of the parsed paths
+         */
+        private static final class Node {
+            private final Map<String, Node> children = new HashMap<>(2);
+            private Node index;
+            private boolean terminal = false;
+
+            private Node child(String name) {
+                return children.get(name);
+            }
+
+            private Node index(int i) {
+                if (index != null || children.isEmpty()) {
+                    return index;
+                } else {
+                    // Paths with explicit array indexes
+                    return children.get(String.valueOf(i));
+                }
+            }
+        }
+    }
+
     /**
      * Returns whether the Diff is empty or not.
      *
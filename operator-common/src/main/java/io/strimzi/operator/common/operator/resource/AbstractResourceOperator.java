@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
@@ -58,6 +60,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>(1);
+    private volatile boolean watchDrivenWaiting = false;
 
     /**
      * Constructor.
@@ -108,6 +112,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
+                // The cache does not reflect the recent changes done by the operator itself yet, so the decision
+                // whether to create, patch or delete the resource is always based on the current state from the server
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
                     if (current == null) {
@@ -279,6 +285,67 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
     }
 
+    /**
+     * Enables the informer-backed read cache for given namespace. Once enabled, the get and list requests for
+     * resources in this namespace are served from the cache when possible. Resources which are not found in the cache
+     * and requests which cannot be served from the cache (for example because the informer is not watching for longer
+     * than the staleness bound) are passed to the Kubernetes API server. Enabling the cache for a namespace where it
+     * is already enabled has no effect.
+     *
+     * @param namespace         Namespace for which the cache should be enabled. Use * for all namespaces.
+     * @param selectorLabels    Labels used to limit the cached resources. Use empty map to cache all resources.
+     * @param maxStalenessMs    For how long can be the cached data used when the informer is not watching
+     * @param metrics           Metrics provider used for the cache metrics
+     *
+     * @return  The resource cache for given namespace
+     */
+    public ResourceCache<T> enableCache(String namespace, Map<String, String> selectorLabels, long maxStalenessMs, MetricsProvider metrics) {
+        return caches.computeIfAbsent(namespace, ns -> {
+            LOGGER.infoOp("Enabling resource cache for {} in namespace {}", resourceKind, ns);
+            SharedIndexInformer<T> informer = selectorLabels.isEmpty() ? informer(ns) : informer(ns, selectorLabels);
+            return new ResourceCache<>(resourceKind, ns, informer, selectorLabels, maxStalenessMs, metrics);
+        });
+    }
+
+    /**
+     * Disables all resource caches and stops their informers
+     */
+    public void disableCaches() {
+        caches.values().forEach(ResourceCache::stop);
+        caches.clear();
+    }
+
+    /**
+     * Finds the cache which can be used for given namespace
+     *
+     * @param namespace Namespace for which the cache should be found
+     *
+     * @return  The resource cache or null if the cache is not enabled for this namespace
+     */
+    private ResourceCache<T> cache(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.get(namespace);
+        return cache != null ? cache : caches.get(ANY_NAMESPACE);
+    }
+
+    /**
+     * Gets the resource from the cache if possible. If the cache is not enabled, cannot be used or does not contain
+     * the resource, it gets the resource from the Kubernetes API server.
+     *
+     * @param namespace The namespace.
+     * @param name The name.
+     * @return The resource, or null if it doesn't exist.
+     */
+    private T getFromCacheOrServer(String namespace, String name) {
+        ResourceCache<T> cache = cache(namespace);
+        T cached = cache != null ? cache.get(namespace, name) : null;
+
+        return cached != null ? cached : operation().inNamespace(namespace).withName(name).get();
+    }
+
     /**
      * Synchronously gets the resource with the given {@code name} in the given {@code namespace}.
      * @param namespace The namespace.
@@ -289,7 +356,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return getFromCacheOrServer(namespace, name);
     }
 
     /**
@@ -302,7 +369,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+
+        ResourceCache<T> cache = cache(namespace);
+        T cached = cache != null ? cache.get(namespace, name) : null;
+
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        } else {
+            return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        }
     }
 
     /**
@@ -312,13 +387,30 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
-        if (ANY_NAMESPACE.equals(namespace))  {
+        List<T> cached = listFromCache(namespace, selector != null ? selector.toMap() : null);
+
+        if (cached != null) {
+            return cached;
+        } else if (ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
             return listInNamespace(namespace, selector);
         }
     }
 
+    /**
+     * Lists the resources from the cache
+     *
+     * @param namespace The namespace.
+     * @param labels    The labels which should be matched or null to list all resources
+     *
+     * @return  A list of matching resources or null if the request cannot be served from the cache
+     */
+    private List<T> listFromCache(String namespace, Map<String, String> labels) {
+        ResourceCache<T> cache = cache(namespace);
+        return cache != null ? cache.list(namespace, labels) : null;
+    }
+
     protected List<T> listInAnyNamespace(Labels selector) {
         AnyNamespaceOperation<T, L, R> operation = operation().inAnyNamespace();
 
@@ -359,6 +451,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        List<T> cached = listFromCache(namespace, selector != null ? selector.toMap() : null);
+
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         FilterWatchListDeletable<T, L, R> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -374,6 +472,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        // Match expressions are not supported by the cache
+        if (selector.isEmpty() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty()) {
+            List<T> cached = listFromCache(namespace, selector.map(LabelSelector::getMatchLabels).orElse(null));
+
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
         FilterWatchListDeletable<T, L, R> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -420,12 +527,33 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
-        return Util.waitFor(reconciliation, vertx,
-            String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
-            logState,
-            pollIntervalMs,
-            timeoutMs,
-            () -> predicate.test(namespace, name));
+        String logContext = String.format("%s resource %s in namespace %s", resourceKind, name, namespace);
+
+        if (watchDrivenWaiting) {
+            return resourceSupport.watchDrivenWaitFor(reconciliation,
+                operation().inNamespace(namespace).withName(name),
+                logContext,
+                logState,
+                pollIntervalMs,
+                timeoutMs,
+                () -> predicate.test(namespace, name));
+        } else {
+            return Util.waitFor(reconciliation, vertx,
+                logContext,
+                logState,
+                pollIntervalMs,
+                timeoutMs,
+                () -> predicate.test(namespace, name));
+        }
+    }
+
+    /**
+     * Enables the watch-driven waiting. Once enabled, the {@code waitFor} methods watch the resource they wait for and
+     * evaluate the predicate only when the resource changes instead of polling it in a fixed interval. The polling is
+     * used only when the watch is lost.
+     */
+    public void enableWatchDrivenWaiting() {
+        this.watchDrivenWaiting = true;
     }
 
     /**
@@ -474,6 +602,41 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
     }
 
+    /**
+     * Creates the informer for given resource type to inform on all instances in given namespace (or cluster-wide)
+     * without starting it. The informer has to be started using its start() method, which returns a future that
+     * completes once the informer is synced.
+     *
+     * @param namespace Namespace on which to inform
+     *
+     * @return          Informer instance which is not started yet
+     */
+    public SharedIndexInformer<T> runnableInformer(String namespace)   {
+        if (ANY_NAMESPACE.equals(namespace))    {
+            return operation().inAnyNamespace().runnableInformer(0);
+        } else {
+            return operation().inNamespace(namespace).runnableInformer(0);
+        }
+    }
+
+    /**
+     * Creates the informer for given resource type to inform on all instances in given namespace (or cluster-wide)
+     * matching the selector without starting it. The informer has to be started using its start() method, which
+     * returns a future that completes once the informer is synced.
+     *
+     * @param namespace         Namespace on which to inform
+     * @param selectorLabels    Selector which should be matched by the resources
+     *
+     * @return                  Informer instance which is not started yet
+     */
+    public SharedIndexInformer<T> runnableInformer(String namespace, Map<String, String> selectorLabels)   {
+        if (ANY_NAMESPACE.equals(namespace))    {
+            return operation().inAnyNamespace().withLabels(selectorLabels).runnableInformer(0);
+        } else {
+            return operation().inNamespace(namespace).withLabels(selectorLabels).runnableInformer(0);
+        }
+    }
+
     /**
      * Returns the Kubernetes client for given resource type
      *
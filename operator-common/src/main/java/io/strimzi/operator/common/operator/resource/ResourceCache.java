@@ -0,0 +1,240 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Read cache for Kubernetes resources of a single kind in a single namespace (or cluster-wide) backed by a shared
+ * informer. It is used by {@link AbstractResourceOperator} to serve the get and list requests from memory instead of
+ * calling the Kubernetes API server.
+ *
+ * The cache is considered usable while the informer is synced and watching. When the watch is lost, the cached data
+ * are still served until the configured staleness bound expires. After that, all requests are reported as misses and
+ * the caller is expected to fall back to the Kubernetes API server. Resources which are not found in the cache are
+ * reported as misses as well, so that the caller can double-check with the API server.
+ *
+ * The cache is not used by the reconcile() method of the resource operators. The informer might not have received the
+ * changes done by the operator itself yet, so deciding whether to create, patch or delete a resource based on the
+ * cached data could skip a required update.
+ *
+ * The cache returns copies of the cached resources. The callers are free to modify them.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+
+    private final String kind;
+    private final String namespace;
+    private final SharedIndexInformer<T> informer;
+    private final Map<String, String> selectorLabels;
+    private final long maxStalenessMs;
+    private final LongSupplier clock;
+    private final Lister<T> lister;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer watchLag;
+
+    private volatile long lastInSync = -1;
+
+    /**
+     * Creates the resource cache
+     *
+     * @param kind              Kind of the cached resource (used for logging and metrics)
+     * @param namespace         Namespace of the cached resources or {@code *} for all namespaces
+     * @param informer          Informer which provides the cached data
+     * @param selectorLabels    Labels which were used to create the informer or empty map if all resources are cached
+     * @param maxStalenessMs    For how long should the cached data be used after the informer stopped watching
+     * @param metrics           Metrics provider used to register the cache metrics
+     */
+    public ResourceCache(String kind, String namespace, SharedIndexInformer<T> informer, Map<String, String> selectorLabels, long maxStalenessMs, MetricsProvider metrics) {
+        this(kind, namespace, informer, selectorLabels, maxStalenessMs, metrics, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the resource cache with custom clock. This is used in tests.
+     *
+     * @param kind              Kind of the cached resource (used for logging and metrics)
+     * @param namespace         Namespace of the cached resources or {@code *} for all namespaces
+     * @param informer          Informer which provides the cached data
+     * @param selectorLabels    Labels which were used to create the informer or empty map if all resources are cached
+     * @param maxStalenessMs    For how long should the cached data be used after the informer stopped watching
+     * @param metrics           Metrics provider used to register the cache metrics
+     * @param clock             Supplier of the current time in milliseconds
+     */
+    /* test */ ResourceCache(String kind, String namespace, SharedIndexInformer<T> informer, Map<String, String> selectorLabels, long maxStalenessMs, MetricsProvider metrics, LongSupplier clock) {
+        this.kind = kind;
+        this.namespace = namespace;
+        this.informer = informer;
+        this.selectorLabels = selectorLabels == null ? Map.of() : selectorLabels;
+        this.maxStalenessMs = maxStalenessMs;
+        this.clock = clock;
+        this.lister = new Lister<>(informer.getIndexer());
+
+        Tags tags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", AbstractResourceOperator.ANY_NAMESPACE.equals(namespace) ? "" : namespace));
+        this.hits = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.hits", "Number of requests served from the resource cache", tags);
+        this.misses = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.misses", "Number of requests which could not be served from the resource cache", tags);
+        this.watchLag = metrics.timer(AbstractOperator.METRICS_PREFIX + "resource.cache.watch.lag", "Delay between the last modification of a resource and the moment it was received by the resource cache", tags);
+
+        this.informer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(T resource) {
+                // The initial list would report the age of the resources => we record only the resources added later
+                if (informer.hasSynced()) {
+                    recordWatchLag(resource);
+                }
+            }
+
+            @Override
+            public void onUpdate(T oldResource, T newResource) {
+                if (!Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion())) {
+                    recordWatchLag(newResource);
+                }
+            }
+
+            @Override
+            public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                // Nothing to do
+            }
+        });
+    }
+
+    /**
+     * Records the delay between the last server-side modification of the resource (as indicated by the managed fields)
+     * and the time when the informer delivered it.
+     *
+     * @param resource  The resource delivered by the informer
+     */
+    private void recordWatchLag(T resource)  {
+        List<ManagedFieldsEntry> managedFields = resource.getMetadata().getManagedFields();
+
+        if (managedFields != null) {
+            long lastModified = -1;
+
+            for (ManagedFieldsEntry entry : managedFields) {
+                if (entry.getTime() != null) {
+                    try {
+                        lastModified = Math.max(lastModified, Instant.parse(entry.getTime()).toEpochMilli());
+                    } catch (DateTimeParseException e) {
+                        LOGGER.traceOp("Failed to parse managed fields time {} of {} {}/{}", entry.getTime(), kind, resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+                    }
+                }
+            }
+
+            if (lastModified > 0) {
+                // Clocks of the API server and operator might be slightly off => ignore negative values
+                watchLag.record(Duration.ofMillis(Math.max(0, clock.getAsLong() - lastModified)));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the cache can be used to serve the requests. The cache is usable when the informer is synced and
+     * watching or when it stopped watching less than the max staleness ago.
+     *
+     * @return  True if the cached data can be used. False otherwise.
+     */
+    public boolean isUsable()   {
+        long now = clock.getAsLong();
+
+        if (informer.hasSynced() && informer.isWatching()) {
+            lastInSync = now;
+            return true;
+        } else if (lastInSync >= 0 && now - lastInSync <= maxStalenessMs) {
+            return true;
+        } else {
+            LOGGER.debugOp("Resource cache for {} in namespace {} is not usable", kind, namespace);
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the resources matching the given selector are all covered by this cache
+     *
+     * @param labels    Labels selector or null when no selector should be used
+     *
+     * @return  True if all resources matching the selector would be in this cache. False otherwise.
+     */
+    private boolean covers(Map<String, String> labels) {
+        return selectorLabels.isEmpty()
+                || (labels != null && labels.entrySet().containsAll(selectorLabels.entrySet()));
+    }
+
+    /**
+     * Gets the resource from the cache.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  Copy of the cached resource or null if the resource is not in the cache or the cache is not usable
+     */
+    public T get(String namespace, String name) {
+        T resource = isUsable() ? lister.namespace(namespace).get(name) : null;
+
+        if (resource != null)   {
+            hits.increment();
+            return Serialization.clone(resource);
+        } else {
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Lists the resources from the cache.
+     *
+     * @param namespace Namespace of the resources or {@code *} for all namespaces
+     * @param labels    Labels which should be matched by the resources or null to list all resources
+     *
+     * @return  List with copies of the matching resources or null if the request cannot be served from the cache
+     */
+    public List<T> list(String namespace, Map<String, String> labels) {
+        if (covers(labels) && isUsable()) {
+            hits.increment();
+
+            List<T> resources = AbstractResourceOperator.ANY_NAMESPACE.equals(namespace) ? lister.list() : lister.namespace(namespace).list();
+
+            return resources.stream()
+                    .filter(resource -> labels == null
+                            || labels.isEmpty()
+                            || (resource.getMetadata().getLabels() != null && resource.getMetadata().getLabels().entrySet().containsAll(labels.entrySet())))
+                    .map(Serialization::clone)
+                    .collect(Collectors.toList());
+        } else {
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Stops the underlying informer
+     */
+    public void stop()  {
+        informer.stop();
+    }
+}
@@ -4,9 +4,7 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
@@ -18,31 +16,17 @@ class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     private final boolean isEmpty;
 
     public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
-        JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
-        JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
-                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
-            }
-
-            num++;
-            break;
+        Object source = current == null ? "{}" : current;
+        Object target = desired == null ? "{}" : desired;
+        String pathValue = firstDifference(source, target, IgnorablePaths.fromPattern(ignorableFields));
+
+        if (pathValue != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "{} {} differs at path {}", resourceKind, resourceName, pathValue);
+            LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(PATCH_MAPPER.valueToTree(source), pathValue));
+            LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(PATCH_MAPPER.valueToTree(target), pathValue));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = pathValue == null;
     }
 
     @Override
@@ -15,8 +15,10 @@ import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Handler;
@@ -24,7 +26,10 @@ import io.vertx.core.Vertx;
 
 import java.io.Closeable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 public class ResourceSupport {
@@ -214,6 +219,188 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Waits until the given {@code completed} supplier returns true, similarly to
+     * {@link Util#waitFor(Reconciliation, Vertx, String, String, long, long, BooleanSupplier)}. But instead of polling
+     * the supplier every {@code pollIntervalMs}, it watches the given {@code watchable} and invokes the supplier on a
+     * worker thread only once after the watch is opened and then whenever the watch delivers an event. The returned
+     * future completes as soon as the matching event arrives. Only when the watch cannot be opened or is lost, it falls
+     * back to polling for the rest of the timeout.
+     *
+     * @param reconciliation The reconciliation
+     * @param watchable The watchable used to watch the resource
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when the watch is lost.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param <T> The type of watched resource.
+     *
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    <T> Future<Void> watchDrivenWaitFor(Reconciliation reconciliation,
+                                        Watchable<T> watchable,
+                                        String logContext,
+                                        String logState,
+                                        long pollIntervalMs,
+                                        long timeoutMs,
+                                        BooleanSupplier completed) {
+        return new WatchDrivenWait<T>(reconciliation, watchable, logContext, logState, pollIntervalMs, timeoutMs, completed).promise.future();
+    }
+
+    /**
+     * Watcher used by {@link #watchDrivenWaitFor(Reconciliation, Watchable, String, String, long, long, BooleanSupplier)}
+     *
+     * @param <T> The type of watched resource.
+     */
+    private class WatchDrivenWait<T> implements Watcher<T> {
+        private final Promise<Void> promise = Promise.promise();
+        private final Context context;
+        private final Reconciliation reconciliation;
+        private final String logContext;
+        private final String logState;
+        private final long pollIntervalMs;
+        private final long deadline;
+        private final BooleanSupplier completed;
+        private final AtomicReference<Watch> watch = new AtomicReference<>();
+        private final AtomicBoolean checkRunning = new AtomicBoolean(false);
+        private final AtomicBoolean recheck = new AtomicBoolean(false);
+        private final AtomicBoolean polling = new AtomicBoolean(false);
+
+        WatchDrivenWait(Reconciliation reconciliation, Watchable<T> watchable, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed) {
+            this.context = vertx.getOrCreateContext();
+            this.reconciliation = reconciliation;
+            this.logContext = logContext;
+            this.logState = logState;
+            this.pollIntervalMs = pollIntervalMs;
+            this.deadline = System.currentTimeMillis() + timeoutMs;
+            this.completed = completed;
+
+            LOGGER.debugCr(reconciliation, "Waiting for {} to get {} using a watch", logContext, logState);
+
+            long timerId = vertx.setTimer(timeoutMs, ignored -> {
+                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                LOGGER.errorCr(reconciliation, exceptionMessage);
+                fail(new TimeoutException(exceptionMessage));
+            });
+
+            promise.future().onComplete(ignored -> {
+                vertx.cancelTimer(timerId);
+                closeWatch();
+            });
+
+            ResourceSupport.this.<Watch>executeBlocking(future -> {
+                try {
+                    future.complete(watchable.watch(this));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            }).onComplete(res -> {
+                if (res.succeeded()) {
+                    watch.set(res.result());
+
+                    if (promise.future().isComplete()) {
+                        closeWatch();
+                    } else {
+                        // The first check is done after the watch is open to make sure no event is missed
+                        check();
+                    }
+                } else {
+                    LOGGER.debugCr(reconciliation, "Failed to watch {}, falling back to polling", logContext, res.cause());
+                    fallBackToPolling();
+                }
+            });
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            LOGGER.traceCr(reconciliation, "Received {} event while waiting for {} to get {}", action, logContext, logState);
+            check();
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            if (!promise.future().isComplete()) {
+                LOGGER.debugCr(reconciliation, "Watch of {} was lost, falling back to polling", logContext, cause);
+                fallBackToPolling();
+            }
+        }
+
+        /**
+         * Evaluates the completed supplier on a worker thread. Events received while the evaluation is running trigger
+         * a single additional evaluation once it finishes.
+         */
+        private void check() {
+            recheck.set(true);
+
+            if (!promise.future().isComplete() && checkRunning.compareAndSet(false, true)) {
+                recheck.set(false);
+
+                ResourceSupport.this.<Boolean>executeBlocking(future -> {
+                    try {
+                        future.complete(completed.getAsBoolean());
+                    } catch (Throwable e) {
+                        LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, e);
+                        future.complete(false);
+                    }
+                }).onComplete(res -> {
+                    checkRunning.set(false);
+
+                    if (res.succeeded() && res.result()) {
+                        LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                        complete();
+                    } else if (recheck.get()) {
+                        check();
+                    } else {
+                        LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                    }
+                });
+            }
+        }
+
+        private void fallBackToPolling() {
+            if (polling.compareAndSet(false, true)) {
+                long timeLeft = deadline - System.currentTimeMillis();
+
+                if (timeLeft > 0) {
+                    Util.waitFor(reconciliation, vertx, logContext, logState, pollIntervalMs, timeLeft, () -> promise.future().isComplete() || completed.getAsBoolean())
+                            .onComplete(res -> {
+                                if (res.succeeded()) {
+                                    complete();
+                                } else {
+                                    fail(res.cause());
+                                }
+                            });
+                }
+            }
+        }
+
+        /**
+         * Completes the wait on the context of the caller. The checks complete on the context of the worker thread
+         * which ran them and the polling on the context on which it was started, which might not be the same.
+         */
+        private void complete() {
+            context.runOnContext(ignored -> promise.tryComplete());
+        }
+
+        /**
+         * Fails the wait on the context of the caller.
+         *
+         * @param cause     The cause of the failure
+         */
+        private void fail(Throwable cause) {
+            context.runOnContext(ignored -> promise.tryFail(cause));
+        }
+
+        private void closeWatch() {
+            Watch toClose = watch.getAndSet(null);
+
+            if (toClose != null) {
+                closeOnWorkerThread(toClose);
+            }
+        }
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
@@ -192,6 +192,12 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
         return internalDelete(reconciliation, namespace, name, true);
     }
 
+    @Override
+    public void enableWatchDrivenWaiting() {
+        super.enableWatchDrivenWaiting();
+        endpointOperations.enableWatchDrivenWaiting();
+    }
+
     public Future<Void> endpointReadiness(Reconciliation reconciliation, String namespace, String name, long pollInterval, long operationTimeoutMs) {
         return endpointOperations.readiness(reconciliation, namespace, name, pollInterval, operationTimeoutMs);
     }
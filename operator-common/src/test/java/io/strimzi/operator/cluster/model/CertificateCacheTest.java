@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.certs.JcaCertManager;
+import io.strimzi.certs.Subject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.cert.CertificateException;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CertificateCacheTest {
+    private static byte[] caCert;
+    private static byte[] serverCert;
+
+    @BeforeAll
+    public static void beforeAll() throws IOException {
+        JcaCertManager certManager = new JcaCertManager();
+        File caKeyFile = File.createTempFile("certificate-cache-test", "ca-key");
+        File caCertFile = File.createTempFile("certificate-cache-test", "ca-cert");
+        File keyFile = File.createTempFile("certificate-cache-test", "key");
+        File csrFile = File.createTempFile("certificate-cache-test", "csr");
+        File certFile = File.createTempFile("certificate-cache-test", "cert");
+
+        try {
+            certManager.generateSelfSignedCert(caKeyFile, caCertFile, new Subject.Builder().withCommonName("my-ca").build(), 10);
+            caCert = Files.readAllBytes(caCertFile.toPath());
+
+            Subject subject = new Subject.Builder()
+                    .withCommonName("my-server")
+                    .addDnsName("my-server.my-namespace.svc")
+                    .addIpAddress("10.0.0.1")
+                    .build();
+            certManager.generateCsr(keyFile, csrFile, subject);
+            certManager.generateCert(csrFile, caKeyFile, caCertFile, certFile, subject, 10);
+            serverCert = Files.readAllBytes(certFile.toPath());
+        } finally {
+            for (File file : List.of(caKeyFile, caCertFile, keyFile, csrFile, certFile)) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    @Test
+    public void testCertificateIsParsedOnlyOnce() throws CertificateException {
+        CertificateCache cache = new CertificateCache(10);
+
+        CertificateCache.ParsedCertificate first = cache.get(serverCert);
+        CertificateCache.ParsedCertificate second = cache.get(serverCert.clone());
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.size(), is(1));
+
+        assertThat(first.subject(), is("CN=my-server"));
+        assertThat(first.notAfter(), is(first.certificate().getNotAfter().toInstant()));
+        assertThat(first.subjectAltNames(), containsInAnyOrder("my-server.my-namespace.svc", "10.0.0.1"));
+    }
+
+    @Test
+    public void testCertificateWithoutSubjectAltNames() throws CertificateException {
+        CertificateCache cache = new CertificateCache(10);
+
+        assertThat(cache.get(caCert).subject(), is("CN=my-ca"));
+        assertThat(cache.get(caCert).subjectAltNames(), is(nullValue()));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedCertificateIsEvicted() throws CertificateException {
+        CertificateCache cache = new CertificateCache(1);
+
+        CertificateCache.ParsedCertificate first = cache.get(serverCert);
+        cache.get(caCert);
+        assertThat(cache.size(), is(1));
+
+        assertThat(cache.get(serverCert), is(not(sameInstance(first))));
+        assertThat(cache.hits(), is(0L));
+        assertThat(cache.misses(), is(3L));
+    }
+
+    @Test
+    public void testInvalidCertificateIsNotCached() {
+        CertificateCache cache = new CertificateCache(10);
+        byte[] invalid = "not-a-certificate".getBytes(StandardCharsets.US_ASCII);
+
+        assertThrows(CertificateException.class, () -> cache.get(invalid));
+        assertThrows(CertificateException.class, () -> cache.get(invalid));
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.misses(), is(2L));
+    }
+
+    @Test
+    public void testMetrics() throws CertificateException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CertificateCache cache = new CertificateCache(10);
+        cache.registerMetrics(registry);
+
+        cache.get(serverCert);
+        cache.get(serverCert);
+        cache.get(serverCert);
+
+        assertThat(registry.get(CertificateCache.METRIC_HITS).functionCounter().count(), is(2.0));
+        assertThat(registry.get(CertificateCache.METRIC_MISSES).functionCounter().count(), is(1.0));
+    }
+}
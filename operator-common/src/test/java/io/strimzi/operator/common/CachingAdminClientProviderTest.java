@@ -0,0 +1,207 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingAdminClientProviderTest {
+    private static final String BOOTSTRAP = "my-cluster-kafka-bootstrap.my-namespace.svc:9091";
+
+    // The Secrets are created without resourceVersion as the CA Secrets rebuilt by the operator do not have it
+    private static Secret secret(String name, String certificate) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-namespace")
+                    .withName(name)
+                .endMetadata()
+                .addToData("ca.crt", certificate)
+                .build();
+    }
+
+    private static AdminClientProvider mockProvider() {
+        AdminClientProvider provider = mock(AdminClientProvider.class);
+        when(provider.createAdminClient(any(), any(), any(), any(), any(Properties.class))).thenAnswer(i -> mock(Admin.class));
+        return provider;
+    }
+
+    @Test
+    public void testClientIsReused() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AdminClientProvider delegate = mockProvider();
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(registry), 60_000L);
+
+        Secret ca = secret("my-cluster-cluster-ca-cert", "1");
+        Secret key = secret("my-cluster-cluster-operator-certs", "1");
+
+        Admin first = provider.createAdminClient(BOOTSTRAP, ca, key, "cluster-operator");
+        first.close();
+        provider.createAdminClient(BOOTSTRAP, ca, key, "cluster-operator");
+
+        verify(delegate, times(1)).createAdminClient(any(), any(), any(), any(), any(Properties.class));
+
+        // Different bootstrap address => different client
+        provider.createAdminClient("my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc:9091", ca, key, "cluster-operator");
+        assertThat(provider.size(), is(2));
+
+        assertThat(registry.get(CachingAdminClientProvider.METRIC_CLIENTS).gauge().value(), is(2.0));
+        assertThat(registry.get(CachingAdminClientProvider.METRIC_CREATED).counter().count(), is(2.0));
+
+        provider.close();
+    }
+
+    @Test
+    public void testCallsAreDelegatedButCloseIsIgnored() {
+        Admin admin = mock(Admin.class);
+        DescribeClusterResult result = mock(DescribeClusterResult.class);
+        when(admin.describeCluster()).thenReturn(result);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any(), any(), any(Properties.class))).thenReturn(admin);
+
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 60_000L);
+        Admin client = provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator");
+
+        assertThat(client.describeCluster(), is(sameInstance(result)));
+
+        client.close();
+        client.close(Duration.ofSeconds(1));
+        verify(admin, never()).close();
+        verify(admin, never()).close(any(Duration.class));
+
+        provider.close();
+        verify(admin, timeout(5_000)).close(any(Duration.class));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenSecretsChange() {
+        Admin oldAdmin = mock(Admin.class);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any(), any(), any(Properties.class))).thenReturn(oldAdmin, mock(Admin.class), mock(Admin.class));
+
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 60_000L);
+
+        provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator").close();
+        provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "2"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator").close();
+        provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "2"), secret("my-cluster-cluster-operator-certs", "2"), "cluster-operator").close();
+
+        verify(delegate, times(3)).createAdminClient(any(), any(), any(), any(), any(Properties.class));
+        assertThat(provider.size(), is(1));
+        verify(oldAdmin, timeout(5_000)).close(any(Duration.class));
+
+        provider.close();
+    }
+
+    @Test
+    public void testConcurrentlyCreatedClientIsClosed() {
+        Admin concurrentAdmin = mock(Admin.class);
+        Admin discardedAdmin = mock(Admin.class);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 60_000L);
+
+        AtomicReference<Admin> concurrent = new AtomicReference<>();
+        when(delegate.createAdminClient(any(), any(), any(), any(), any(Properties.class)))
+                .thenAnswer(i -> {
+                    // Another caller gets the client while the first one is being created
+                    concurrent.set(provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator"));
+                    return discardedAdmin;
+                })
+                .thenReturn(concurrentAdmin);
+
+        Admin client = provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator");
+        client.describeCluster();
+        concurrent.get().describeCluster();
+
+        // Both callers share the client which was cached first and the other one is closed
+        assertThat(provider.size(), is(1));
+        verify(concurrentAdmin, times(2)).describeCluster();
+        verify(discardedAdmin, never()).describeCluster();
+        verify(discardedAdmin, timeout(5_000)).close(any(Duration.class));
+
+        provider.close();
+    }
+
+    @Test
+    public void testReplacedClientIsClosedAfterItsLastLeaseIsReleased() {
+        Admin oldAdmin = mock(Admin.class);
+        Admin newAdmin = mock(Admin.class);
+        DescribeClusterResult result = mock(DescribeClusterResult.class);
+        when(oldAdmin.describeCluster()).thenReturn(result);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any(), any(), any(Properties.class))).thenReturn(oldAdmin, newAdmin);
+
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 60_000L);
+
+        Admin first = provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator");
+        // The CA was renewed while the first client is still in use
+        Admin second = provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "2"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator");
+        assertThat(provider.size(), is(1));
+
+        assertThat(first.describeCluster(), is(sameInstance(result)));
+        verify(oldAdmin, never()).close(any(Duration.class));
+
+        // Closing the client several times releases the lease only once
+        second.close();
+        second.close();
+        verify(oldAdmin, never()).close(any(Duration.class));
+
+        first.close();
+        verify(oldAdmin, timeout(5_000)).close(any(Duration.class));
+        verify(newAdmin, never()).close(any(Duration.class));
+
+        provider.close();
+    }
+
+    @Test
+    public void testIdleClientIsEvicted() throws InterruptedException {
+        Admin admin = mock(Admin.class);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any(), any(), any(Properties.class))).thenReturn(admin);
+
+        CachingAdminClientProvider provider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 60_000L);
+        provider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator");
+
+        provider.evictIdle();
+        assertThat(provider.size(), is(1));
+
+        CachingAdminClientProvider shortTimeoutProvider = new CachingAdminClientProvider(delegate, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 100L);
+        Admin leased = shortTimeoutProvider.createAdminClient(BOOTSTRAP, secret("my-cluster-cluster-ca-cert", "1"), secret("my-cluster-cluster-operator-certs", "1"), "cluster-operator");
+        Thread.sleep(200L);
+
+        // Leased clients are not evicted even when they were not used for the idle timeout
+        shortTimeoutProvider.evictIdle();
+        assertThat(shortTimeoutProvider.size(), is(1));
+        verify(admin, never()).close(any(Duration.class));
+
+        leased.close();
+        Thread.sleep(200L);
+        shortTimeoutProvider.evictIdle();
+
+        assertThat(shortTimeoutProvider.size(), is(0));
+        verify(admin, timeout(5_000)).close(any(Duration.class));
+
+        provider.close();
+        shortTimeoutProvider.close();
+    }
+}
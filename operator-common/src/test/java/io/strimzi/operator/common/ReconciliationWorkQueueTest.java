@@ -0,0 +1,185 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationWorkQueueTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    /**
+     * Task which records the started reconciliations and lets the test complete them
+     */
+    static class RecordingTask implements Function<Reconciliation, Future<Void>> {
+        final Map<String, Promise<Void>> running = new LinkedHashMap<>();
+        final List<String> started = new ArrayList<>();
+
+        @Override
+        public synchronized Future<Void> apply(Reconciliation reconciliation) {
+            String key = reconciliation.namespace() + "/" + reconciliation.name();
+            Promise<Void> promise = Promise.promise();
+            running.put(key, promise);
+            started.add(key);
+            return promise.future();
+        }
+
+        void complete(String key) {
+            Promise<Void> promise;
+            synchronized (this) {
+                promise = running.remove(key);
+            }
+            promise.complete();
+        }
+    }
+
+    private static Reconciliation reconciliation(String namespace, String name)    {
+        return new Reconciliation("test", "TestResource", namespace, name);
+    }
+
+    @Test
+    public void testMaxConcurrency() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, "TestResource", 2, 0, 0, new MicrometerMetricsProvider(registry));
+        RecordingTask task = new RecordingTask();
+
+        queue.enqueue(reconciliation("ns", "a"), ReconciliationWorkQueue.Priority.LOW, task);
+        queue.enqueue(reconciliation("ns", "b"), ReconciliationWorkQueue.Priority.LOW, task);
+        queue.enqueue(reconciliation("ns", "c"), ReconciliationWorkQueue.Priority.LOW, task);
+
+        assertThat(task.started, is(List.of("ns/a", "ns/b")));
+        assertThat(queue.inFlight(), is(2));
+        assertThat(queue.depth(), is(1));
+        assertThat(registry.get("strimzi.reconciliations.queue.depth").gauge().value(), is(1.0));
+        assertThat(registry.get("strimzi.reconciliations.queue.in.flight").gauge().value(), is(2.0));
+
+        task.complete("ns/a");
+        assertThat(task.started, is(List.of("ns/a", "ns/b", "ns/c")));
+        assertThat(queue.depth(), is(0));
+
+        task.complete("ns/b");
+        task.complete("ns/c");
+        assertThat(queue.inFlight(), is(0));
+        assertThat(registry.get("strimzi.reconciliations.queue.wait").timer().count(), is(3L));
+    }
+
+    @Test
+    public void testMaxConcurrencyPerNamespace() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, "TestResource", 10, 1, 0, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        RecordingTask task = new RecordingTask();
+
+        queue.enqueue(reconciliation("ns1", "a"), ReconciliationWorkQueue.Priority.LOW, task);
+        queue.enqueue(reconciliation("ns1", "b"), ReconciliationWorkQueue.Priority.LOW, task);
+        queue.enqueue(reconciliation("ns2", "c"), ReconciliationWorkQueue.Priority.LOW, task);
+
+        // The second reconciliation in ns1 has to wait, but ns2 is not blocked by it
+        assertThat(task.started, is(List.of("ns1/a", "ns2/c")));
+
+        task.complete("ns1/a");
+        assertThat(task.started, is(List.of("ns1/a", "ns2/c", "ns1/b")));
+    }
+
+    @Test
+    public void testDeduplicationAndPriority() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, "TestResource", 1, 0, 0, new MicrometerMetricsProvider(registry));
+        RecordingTask task = new RecordingTask();
+
+        Future<Void> a1 = queue.enqueue(reconciliation("ns", "a"), ReconciliationWorkQueue.Priority.LOW, task);
+        Future<Void> b = queue.enqueue(reconciliation("ns", "b"), ReconciliationWorkQueue.Priority.LOW, task);
+        Future<Void> c = queue.enqueue(reconciliation("ns", "c"), ReconciliationWorkQueue.Priority.LOW, task);
+        // a is in progress => the new reconciliation is queued to run after it
+        Future<Void> a2 = queue.enqueue(reconciliation("ns", "a"), ReconciliationWorkQueue.Priority.LOW, task);
+        // c is queued => merged and moved to the front as it is watch-triggered now
+        Future<Void> c2 = queue.enqueue(reconciliation("ns", "c"), ReconciliationWorkQueue.Priority.HIGH, task);
+
+        assertThat(queue.depth(), is(3));
+        assertThat(registry.get("strimzi.reconciliations.queue.deduplicated").counter().count(), is(1.0));
+
+        task.complete("ns/a");
+        assertThat(a1.succeeded(), is(true));
+        assertThat(task.started, is(List.of("ns/a", "ns/c")));
+
+        task.complete("ns/c");
+        assertThat(c.succeeded(), is(true));
+        assertThat(c2.succeeded(), is(true));
+
+        task.complete("ns/b");
+        task.complete("ns/a");
+        assertThat(b.succeeded(), is(true));
+        assertThat(a2.succeeded(), is(true));
+        assertThat(task.started, is(List.of("ns/a", "ns/c", "ns/b", "ns/a")));
+    }
+
+    @Test
+    public void testSameResourceNeverRunsInParallel() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, "TestResource", 10, 0, 0, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        RecordingTask task = new RecordingTask();
+
+        queue.enqueue(reconciliation("ns", "a"), ReconciliationWorkQueue.Priority.HIGH, task);
+        queue.enqueue(reconciliation("ns", "a"), ReconciliationWorkQueue.Priority.HIGH, task);
+
+        assertThat(task.started, is(List.of("ns/a")));
+        assertThat(queue.depth(), is(1));
+
+        task.complete("ns/a");
+        assertThat(task.started, is(List.of("ns/a", "ns/a")));
+    }
+
+    @Test
+    public void testFailedTaskReleasesSlot() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, "TestResource", 1, 0, 0, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        RecordingTask task = new RecordingTask();
+
+        Future<Void> failed = queue.enqueue(reconciliation("ns", "a"), ReconciliationWorkQueue.Priority.LOW, r -> {
+            throw new RuntimeException("Boom");
+        });
+        queue.enqueue(reconciliation("ns", "b"), ReconciliationWorkQueue.Priority.LOW, task);
+
+        assertThat(failed.failed(), is(true));
+        assertThat(task.started, is(List.of("ns/b")));
+    }
+
+    @Test
+    public void testPeriodicReconciliationsWithJitter(VertxTestContext context) {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(vertx, "TestResource", 10, 0, 200, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        Checkpoint checkpoint = context.checkpoint(3);
+
+        for (String name : List.of("a", "b", "c")) {
+            queue.enqueuePeriodic(reconciliation("ns", name), r -> Future.succeededFuture())
+                    .onComplete(context.succeeding(v -> checkpoint.flag()));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        List<String> started = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+
+        Future<Void> result = new StepGraph(RECONCILIATION, null)
+                .step("a", () -> {
+                    started.add("a");
+                    return a.future();
+                })
+                .step("b", () -> {
+                    started.add("b");
+                    return b.future();
+                })
+                .step("c", () -> {
+                    started.add("c");
+                    return Future.succeededFuture();
+                }, "a", "b")
+                .execute();
+
+        // Both independent steps are started without waiting for each other
+        assertThat(started, is(List.of("a", "b")));
+
+        a.complete();
+        assertThat(started, is(List.of("a", "b")));
+
+        b.complete();
+        assertThat(started, is(List.of("a", "b", "c")));
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailureStopsDependentSteps() {
+        List<String> started = new ArrayList<>();
+        Promise<Void> b = Promise.promise();
+
+        Future<Void> result = new StepGraph(RECONCILIATION, null)
+                .step("a", () -> {
+                    started.add("a");
+                    return Future.failedFuture("Failed");
+                })
+                .step("b", () -> {
+                    started.add("b");
+                    return b.future();
+                })
+                .step("c", () -> {
+                    started.add("c");
+                    return Future.succeededFuture();
+                }, "a")
+                .step("d", () -> {
+                    started.add("d");
+                    return Future.succeededFuture();
+                }, "b")
+                .execute();
+
+        // The running step b is awaited before the result is completed
+        assertThat(result.isComplete(), is(false));
+
+        b.complete();
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Failed"));
+        assertThat(started, is(List.of("a", "b")));
+    }
+
+    @Test
+    public void testExceptionInStep() {
+        Future<Void> result = new StepGraph(RECONCILIATION, null)
+                .step("a", () -> {
+                    throw new RuntimeException("Boom");
+                })
+                .execute();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Boom"));
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        assertThat(new StepGraph(RECONCILIATION, null).execute().succeeded(), is(true));
+    }
+
+    @Test
+    public void testInvalidDependencies() {
+        StepGraph graph = new StepGraph(RECONCILIATION, null)
+                .step("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", Future::succeededFuture, "c"));
+    }
+
+    @Test
+    public void testStepDurationMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new StepGraph(RECONCILIATION, new MicrometerMetricsProvider(registry))
+                .step("a", Future::succeededFuture)
+                .step("b", Future::succeededFuture, "a")
+                .execute();
+
+        assertThat(registry.get(StepGraph.METRIC_NAME).tag("step", "a").tag("kind", "TestResource").timer().count(), is(1L));
+        assertThat(registry.get(StepGraph.METRIC_NAME).tag("step", "b").tag("namespace", "my-namespace").timer().count(), is(1L));
+    }
+}
@@ -7,23 +7,33 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -197,4 +207,123 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
                 async.flag();
             })));
     }
+
+    @Test
+    public void testWatchDrivenReadinessCompletesOnEvent(VertxTestContext context) {
+        T resource = resource();
+        AtomicBoolean ready = new AtomicBoolean(false);
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+        Watch mockWatch = mock(Watch.class);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).then(invocation -> ready.get());
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.enableWatchDrivenWaiting();
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // Checked once after opening the watch and once for the event => no polling
+                verify(mockResource, times(2)).isReady();
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+
+        vertx.setTimer(500, ignored -> {
+            ready.set(true);
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, resource);
+        });
+    }
+
+    @Test
+    public void testWatchDrivenReadinessCompletesOnCallerContext(VertxTestContext context) {
+        T resource = resource();
+        AtomicBoolean ready = new AtomicBoolean(false);
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).then(invocation -> ready.get());
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mock(Watch.class);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.enableWatchDrivenWaiting();
+
+        Checkpoint async = context.checkpoint();
+        Context callerContext = vertx.getOrCreateContext();
+        callerContext.runOnContext(ignored -> op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(Vertx.currentContext(), is(sameInstance(callerContext)));
+                async.flag();
+            }))));
+
+        vertx.setTimer(500, ignored -> {
+            ready.set(true);
+            // The events are delivered by the threads of the Kubernetes client
+            new Thread(() -> watcher.get().eventReceived(Watcher.Action.MODIFIED, resource)).start();
+        });
+    }
+
+    @Test
+    public void testWatchDrivenReadinessFallsBackToPolling(VertxTestContext context) {
+        T resource = resource();
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+        AtomicInteger count = new AtomicInteger();
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).then(invocation -> count.getAndIncrement() >= 3);
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mock(Watch.class);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        op.enableWatchDrivenWaiting();
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(count.get() >= 4, is(true));
+                async.flag();
+            })));
+
+        vertx.setTimer(200, ignored -> watcher.get().onClose(new WatcherException("Watch lost")));
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static ConfigMap configMap(String name, Map<String, String> labels)   {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(labels)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SharedIndexInformer<ConfigMap> mockInformer(Indexer<ConfigMap> indexer, boolean synced, boolean watching)  {
+        SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(synced);
+        when(informer.isWatching()).thenReturn(watching);
+        return informer;
+    }
+
+    private static double counter(MeterRegistry registry, String name)  {
+        return registry.get(name).counter().count();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetFromCache() {
+        ConfigMap cm = configMap("my-cm", Map.of("app", "strimzi"));
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getByKey(NAMESPACE + "/my-cm")).thenReturn(cm);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", NAMESPACE, mockInformer(indexer, true, true), Map.of(), 10_000L, new MicrometerMetricsProvider(registry));
+
+        ConfigMap cached = cache.get(NAMESPACE, "my-cm");
+        assertThat(cached, is(cm));
+        assertThat(cached, is(not(sameInstance(cm))));
+
+        assertThat(cache.get(NAMESPACE, "other-cm"), is(nullValue()));
+
+        assertThat(counter(registry, "strimzi.resource.cache.hits"), is(1.0));
+        assertThat(counter(registry, "strimzi.resource.cache.misses"), is(1.0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStalenessBound() {
+        ConfigMap cm = configMap("my-cm", Map.of("app", "strimzi"));
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getByKey(NAMESPACE + "/my-cm")).thenReturn(cm);
+
+        SharedIndexInformer<ConfigMap> informer = mockInformer(indexer, true, true);
+        AtomicLong clock = new AtomicLong(1_000L);
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", NAMESPACE, informer, Map.of(), 10_000L, new MicrometerMetricsProvider(new SimpleMeterRegistry()), clock::get);
+
+        assertThat(cache.isUsable(), is(true));
+
+        // Watch is lost => the cache is used only until the staleness bound expires
+        when(informer.isWatching()).thenReturn(false);
+        clock.set(6_000L);
+        assertThat(cache.isUsable(), is(true));
+        assertThat(cache.get(NAMESPACE, "my-cm"), is(cm));
+
+        clock.set(12_000L);
+        assertThat(cache.isUsable(), is(false));
+        assertThat(cache.get(NAMESPACE, "my-cm"), is(nullValue()));
+
+        // Watch is back
+        when(informer.isWatching()).thenReturn(true);
+        assertThat(cache.isUsable(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNotSyncedCacheIsNotUsed() {
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getByKey(NAMESPACE + "/my-cm")).thenReturn(configMap("my-cm", Map.of()));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", NAMESPACE, mockInformer(indexer, false, true), Map.of(), 10_000L, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        assertThat(cache.isUsable(), is(false));
+        assertThat(cache.get(NAMESPACE, "my-cm"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, null), is(nullValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testList() {
+        ConfigMap cm1 = configMap("my-cm-1", Map.of("app", "strimzi", "kind", "Kafka"));
+        ConfigMap cm2 = configMap("my-cm-2", Map.of("app", "strimzi", "kind", "KafkaConnect"));
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.byIndex("namespace", NAMESPACE)).thenReturn(List.of(cm1, cm2));
+        when(indexer.list()).thenReturn(List.of(cm1, cm2));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", NAMESPACE, mockInformer(indexer, true, true), Map.of(), 10_000L, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        assertThat(cache.list(NAMESPACE, null), is(List.of(cm1, cm2)));
+        assertThat(cache.list(NAMESPACE, Map.of()), is(List.of(cm1, cm2)));
+        assertThat(cache.list(AbstractResourceOperator.ANY_NAMESPACE, null), is(List.of(cm1, cm2)));
+        assertThat(cache.list(NAMESPACE, Map.of("kind", "Kafka")), is(List.of(cm1)));
+        assertThat(cache.list(NAMESPACE, Map.of("kind", "KafkaBridge")), is(List.of()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testListWithSelectorNotCoveredByCache() {
+        ConfigMap cm1 = configMap("my-cm-1", Map.of("app", "strimzi", "kind", "Kafka"));
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.byIndex("namespace", NAMESPACE)).thenReturn(List.of(cm1));
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", NAMESPACE, mockInformer(indexer, true, true), Map.of("app", "strimzi"), 10_000L, new MicrometerMetricsProvider(registry));
+
+        // The cache has only resources with app=strimzi => other queries have to go to the API server
+        assertThat(cache.list(NAMESPACE, null), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Map.of("kind", "Kafka")), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Map.of("app", "strimzi", "kind", "Kafka")), is(List.of(cm1)));
+
+        assertThat(counter(registry, "strimzi.resource.cache.hits"), is(1.0));
+        assertThat(counter(registry, "strimzi.resource.cache.misses"), is(2.0));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceDiffTest {
+    private static final Pattern POD_IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields"
+                    + "|/metadata/annotations/pv.kubernetes.io~1bind-completed"
+                    + "|/spec/containers/[0-9]+/resources"
+                    + "|/status)$");
+
+    private static ConfigMap configMap(Map<String, String> data) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-cm")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    private static Pod pod(String image, String memory) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-pod")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("sidecar")
+                        .withImage("sidecar:latest")
+                    .endContainer()
+                    .addNewContainer()
+                        .withName("main")
+                        .withImage(image)
+                        .withNewResources()
+                            .withRequests(Map.of("memory", new Quantity(memory)))
+                        .endResources()
+                    .endContainer()
+                .endSpec()
+                .build();
+    }
+
+    private static <T extends HasMetadata> boolean isEmpty(T current, T desired, Pattern ignorablePaths) {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Resource", "my-resource", current, desired, ignorablePaths).isEmpty();
+    }
+
+    @Test
+    public void testEqualResources() {
+        assertThat(isEmpty(configMap(Map.of("a", "1", "b", "2")), configMap(Map.of("b", "2", "a", "1")), AbstractResourceOperator.IGNORABLE_PATHS), is(true));
+        assertThat(isEmpty(pod("kafka:1", "1Gi"), pod("kafka:1", "1Gi"), POD_IGNORABLE_PATHS), is(true));
+    }
+
+    @Test
+    public void testDifferentValues() {
+        assertThat(isEmpty(configMap(Map.of("a", "1")), configMap(Map.of("a", "2")), AbstractResourceOperator.IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(pod("kafka:1", "1Gi"), pod("kafka:2", "1Gi"), POD_IGNORABLE_PATHS), is(false));
+    }
+
+    @Test
+    public void testAddedAndRemovedFields() {
+        assertThat(isEmpty(configMap(Map.of("a", "1")), configMap(Map.of("a", "1", "b", "2")), AbstractResourceOperator.IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(configMap(Map.of("a", "1", "b", "2")), configMap(Map.of("a", "1")), AbstractResourceOperator.IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(null, configMap(Map.of("a", "1")), AbstractResourceOperator.IGNORABLE_PATHS), is(false));
+    }
+
+    @Test
+    public void testArrays() {
+        Pod current = pod("kafka:1", "1Gi");
+        Pod desired = pod("kafka:1", "1Gi");
+        desired.getSpec().getContainers().remove(0);
+
+        assertThat(isEmpty(current, desired, POD_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(desired, current, POD_IGNORABLE_PATHS), is(false));
+    }
+
+    @Test
+    public void testIgnorablePaths() {
+        // Ignorable subtree with array index wildcard
+        assertThat(isEmpty(pod("kafka:1", "1Gi"), pod("kafka:1", "2Gi"), POD_IGNORABLE_PATHS), is(true));
+
+        // Status and managed fields including changes nested inside them
+        Pod current = pod("kafka:1", "1Gi");
+        current.setStatus(new PodStatusBuilder().withPhase("Running").build());
+        current.getMetadata().setManagedFields(List.of(new ManagedFieldsEntryBuilder().withManager("kubectl").build()));
+        Pod desired = pod("kafka:1", "1Gi");
+        desired.setStatus(new PodStatusBuilder().withPhase("Pending").build());
+        desired.getMetadata().setManagedFields(List.of(new ManagedFieldsEntryBuilder().withManager("strimzi").build()));
+        assertThat(isEmpty(current, desired, POD_IGNORABLE_PATHS), is(true));
+
+        // Escaped paths with dots
+        current = pod("kafka:1", "1Gi");
+        current.getMetadata().setAnnotations(Map.of("my-annotation", "value", "pv.kubernetes.io/bind-completed", "yes"));
+        desired = pod("kafka:1", "1Gi");
+        desired.getMetadata().setAnnotations(Map.of("my-annotation", "value"));
+        assertThat(isEmpty(current, desired, POD_IGNORABLE_PATHS), is(true));
+
+        // The dot is not a wildcard
+        current.getMetadata().setAnnotations(Map.of("my-annotation", "value", "pvXkubernetes.io/bind-completed", "yes"));
+        assertThat(isEmpty(current, desired, POD_IGNORABLE_PATHS), is(false));
+    }
+
+    @Test
+    public void testFieldsAfterAddedField() {
+        Pattern ignorable = Pattern.compile("^(/data/a|/status)$");
+
+        // The ignorable field shifts the remaining fields
+        assertThat(isEmpty(configMap(Map.of("a", "1", "b", "2", "c", "3")), configMap(Map.of("b", "2", "c", "3")), ignorable), is(true));
+        assertThat(isEmpty(configMap(Map.of("a", "1", "b", "2", "c", "3")), configMap(Map.of("b", "2", "c", "4")), ignorable), is(false));
+        assertThat(isEmpty(configMap(Map.of("b", "2", "c", "3")), configMap(Map.of("a", "1", "b", "2", "c", "3")), ignorable), is(true));
+        assertThat(isEmpty(configMap(Map.of("b", "2")), configMap(Map.of("a", "1", "b", "2", "c", "3")), ignorable), is(false));
+    }
+
+    @Test
+    public void testRegexFallback() {
+        Pattern ignorable = Pattern.compile("^(/data/ignored-.*|/status)$");
+
+        assertThat(isEmpty(configMap(Map.of("a", "1", "ignored-1", "x")), configMap(Map.of("a", "1", "ignored-1", "y")), ignorable), is(true));
+        assertThat(isEmpty(configMap(Map.of("a", "1")), configMap(Map.of("a", "1", "ignored-2", "y")), ignorable), is(true));
+        assertThat(isEmpty(configMap(Map.of("a", "1")), configMap(Map.of("a", "2")), ignorable), is(false));
+    }
+}
@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -121,6 +126,43 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics obtained from
+     * the Kafka AdminClient API. All topics are described in one describeTopics and one describeConfigs request.
+     * The topics which failed to be described, for example because they were deleted in the meantime, are left out.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        LOGGER.debugOp("Getting metadata for {} topics", topicNames.size());
+        try {
+            Set<String> names = new HashSet<>(topicNames.size());
+            List<ConfigResource> resources = new ArrayList<>(topicNames.size());
+            for (TopicName topicName : topicNames) {
+                names.add(topicName.toString());
+                resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+            }
+
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).topicNameValues();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+            List<Future> futures = new ArrayList<>(topicNames.size());
+            for (ConfigResource resource : resources) {
+                futures.add(CompositeFuture.all(mapFuture(descriptions.get(resource.name())), mapFuture(configs.get(resource)))
+                        .onSuccess(compositeFuture -> result.put(new TopicName(resource.name()),
+                                new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1))))
+                        .onFailure(error -> LOGGER.debugOp("Failed to get metadata for topic {}", resource.name(), error)));
+            }
+
+            // The futures are completed on the context thread, so the result map is not accessed concurrently
+            return CompositeFuture.join(futures)
+                    .otherwiseEmpty()
+                    .map(ignored -> result);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the {@code resource.state} gauges of the KafkaTopic resources. The gauges are indexed by the name of
+ * the resource, so updating or removing the gauge of a resource does not need to search through all the meters in
+ * the registry. The gauge of a resource is re-registered only when its tags change, for example when the reason of
+ * a failure changes. Otherwise, the existing gauge is just set to the new value.
+ */
+class ResourceStateMetrics {
+    static final String METRIC_NAME = TopicOperator.METRICS_PREFIX + "resource.state";
+
+    private final MeterRegistry registry;
+    private final String namespace;
+    private final Map<String, ResourceStateGauge> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param registry      Meter registry where the gauges are registered
+     * @param namespace     Namespace of the watched KafkaTopic resources
+     */
+    ResourceStateMetrics(MeterRegistry registry, String namespace) {
+        this.registry = registry;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Sets the state of a resource. The gauge is registered when it does not exist yet or when its tags changed.
+     *
+     * @param kind      Kind of the resource
+     * @param name      Name of the resource
+     * @param ready     Whether the resource is ready
+     * @param reason    Reason of the failure or "none" when the resource is ready
+     *
+     * @return  The tags of the gauge
+     */
+    Tags set(String kind, String name, boolean ready, String reason) {
+        Tags tags = Tags.of(
+                Tag.of("kind", kind),
+                Tag.of("name", name),
+                Tag.of("resource-namespace", namespace),
+                Tag.of("reason", reason));
+
+        gauges.compute(name, (ignored, current) -> {
+            if (current != null && current.tags.equals(tags)) {
+                current.value.set(ready ? 1 : 0);
+                return current;
+            }
+
+            if (current != null) {
+                registry.remove(current.gauge);
+            }
+
+            AtomicInteger value = new AtomicInteger(ready ? 1 : 0);
+            Gauge gauge = Gauge.builder(METRIC_NAME, () -> value)
+                    .description("Current state of the resource: 1 ready, 0 fail")
+                    .tags(tags)
+                    .register(registry);
+
+            return new ResourceStateGauge(tags, value, gauge);
+        });
+
+        return tags;
+    }
+
+    /**
+     * Removes the gauge of a resource
+     *
+     * @param name  Name of the resource
+     *
+     * @return  True if the gauge was removed, false if there was no gauge for this resource
+     */
+    boolean remove(String name) {
+        ResourceStateGauge current = gauges.remove(name);
+
+        if (current != null) {
+            registry.remove(current.gauge);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return  Number of resources with a gauge
+     */
+    int size() {
+        return gauges.size();
+    }
+
+    /**
+     * Registered gauge of a single resource
+     */
+    private static class ResourceStateGauge {
+        private final Tags tags;
+        private final AtomicInteger value;
+        private final Gauge gauge;
+
+        ResourceStateGauge(Tags tags, AtomicInteger value, Gauge gauge) {
+            this.tags = tags;
+            this.value = value;
+            this.gauge = gauge;
+        }
+    }
+}
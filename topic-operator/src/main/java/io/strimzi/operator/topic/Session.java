@@ -278,7 +278,7 @@ public class Session extends AbstractVerticle {
         LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
         topicWatcher = new ZkTopicWatcher(topicOperator);
         LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-        topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher, vertx, config.get(Config.ZOOKEEPER_TOPICS_WATCH_COALESCE_MS));
         LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
         topicsWatcher.start(zk);
         return Future.succeededFuture(topicOperator);
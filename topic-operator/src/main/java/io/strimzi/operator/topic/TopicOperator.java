@@ -12,7 +12,6 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
@@ -42,7 +41,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -69,6 +67,7 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final Set<PrefetchedTopics> activePrefetches = ConcurrentHashMap.newKeySet();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -79,6 +78,10 @@ class TopicOperator {
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    private Timer listResourcesBatchTimer;
+    private ResourceStateMetrics resourceStateMetrics;
+    private Timer describeTopicsBatchTimer;
+    private Timer zkTopicsDiffTimer;
 
     enum EventType {
         INFO("Info"),
@@ -402,6 +405,8 @@ class TopicOperator {
         if (metrics != null) {
             Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
 
+            resourceStateMetrics = new ResourceStateMetrics(metrics.meterRegistry(), namespace);
+
             periodicReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.periodical",
                     "Number of periodical reconciliations done by the operator",
                     metricTags);
@@ -433,9 +438,28 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            listResourcesBatchTimer = metrics.timer(METRICS_PREFIX + "reconciliations.batch.duration",
+                    "The time the batched phases of the periodic reconciliation take to complete",
+                    metricTags.and(Tag.of("phase", "list-resources")));
+
+            describeTopicsBatchTimer = metrics.timer(METRICS_PREFIX + "reconciliations.batch.duration",
+                    "The time the batched phases of the periodic reconciliation take to complete",
+                    metricTags.and(Tag.of("phase", "describe-topics")));
+
+            zkTopicsDiffTimer = metrics.timer(METRICS_PREFIX + "zookeeper.topics.diff.duration",
+                    "The time it takes to work out the topics created and deleted in ZooKeeper",
+                    metricTags);
         }
     }
 
+    /**
+     * @return  Timer for diffing the ZooKeeper topics, or null when the metrics are not enabled
+     */
+    public Timer getZkTopicsDiffTimer() {
+        return zkTopicsDiffTimer;
+    }
+
     public Counter getPeriodicReconciliationsCounter() {
         return this.periodicReconciliationsCounter;
     }
@@ -487,31 +511,14 @@ class TopicOperator {
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
                     action.result = actionResult;
-                    String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
-                    Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                            .stream()
-                            .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                                    meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
-                                    meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
-                                    meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
-                            ).findFirst();
-                    if (metric.isPresent()) {
-                        // remove metric so it can be re-added with new tags
-                        metrics.meterRegistry().remove(metric.get().getId());
-                        LOGGER.debugCr(logContext.toReconciliation(), "Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
-                    }
-
                     if (action.topic != null) {
                         boolean succeeded = actionResult.succeeded();
-                        Tags metricTags;
-                        metricTags = Tags.of(
-                                Tag.of("kind", action.topic.getKind()),
-                                Tag.of("name", action.topic.getMetadata().getName()),
-                                Tag.of("resource-namespace", namespace),
-                                Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
-
-                        metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
+                        Tags metricTags = resourceStateMetrics.set(action.topic.getKind(), action.topic.getMetadata().getName(), succeeded,
+                                succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage());
                         LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
+                    } else if (resourceStateMetrics.remove(key.asKubeName().toString())) {
+                        String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
+                        LOGGER.debugCr(logContext.toReconciliation(), "Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
                     }
                     // Update status with lock held so that event is ignored via statusUpdateGeneration
                     action.updateStatus(logContext).onComplete(statusResult -> {
@@ -527,6 +534,10 @@ class TopicOperator {
                         } catch (Throwable t) {
                             result.fail(t);
                         } finally {
+                            // The topic might have changed, so the data prefetched for periodic reconciliations is stale
+                            for (PrefetchedTopics prefetched : activePrefetches) {
+                                prefetched.invalidate(key);
+                            }
                             lockResult.result().release();
                             LOGGER.debugCr(logContext.toReconciliation(), "Lock released");
                             inflight.compute(key, decrement);
@@ -1310,14 +1321,61 @@ class TopicOperator {
         }
     }
 
+    /**
+     * The KafkaTopic resources and the topic metadata fetched in batches at the beginning of a periodic
+     * reconciliation. The data of a topic is used only until another reconciliation of the same topic completes,
+     * because it might be stale afterwards. The topics without data are fetched individually as before.
+     */
+    static class PrefetchedTopics {
+        private final Map<ResourceName, KafkaTopic> kafkaTopics = new ConcurrentHashMap<>();
+        private final Map<TopicName, TopicMetadata> metadata = new ConcurrentHashMap<>();
+        private final Set<TopicName> invalidated = ConcurrentHashMap.newKeySet();
+        void setKafkaTopics(List<KafkaTopic> ktList) {
+            for (KafkaTopic kt : ktList) {
+                kafkaTopics.put(new ResourceName(kt), kt);
+            }
+        }
+
+        void addMetadata(Map<TopicName, TopicMetadata> metadata) {
+            this.metadata.putAll(metadata);
+        }
+
+        void invalidate(TopicName topicName) {
+            invalidated.add(topicName);
+        }
+
+        /**
+         * @return True if the KafkaTopic and the metadata of the topic were prefetched and are still valid
+         */
+        boolean has(TopicName topicName) {
+            return metadata.containsKey(topicName) && !invalidated.contains(topicName);
+        }
+
+        /**
+         * @return The prefetched KafkaTopic resource or null if there is no KafkaTopic with this name
+         */
+        KafkaTopic kafkaTopic(ResourceName resourceName) {
+            return kafkaTopics.get(resourceName);
+        }
+
+        TopicMetadata metadata(TopicName topicName) {
+            return metadata.get(topicName);
+        }
+    }
+
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicNames = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            return prefetch(reconciliationType, topicNames).compose(prefetched ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+                reconcileFromKafka(reconciliationType, topicNames, prefetched)
+                    .onComplete(ignored -> activePrefetches.remove(prefetched)));
+        }).compose(reconcileState -> {
+            // The prefetched KafkaTopics are only used by the first phase. They are listed again so that the KafkaTopics
+            // created or deleted while the topics from Kafka were reconciled are seen by the second phase.
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
@@ -1387,10 +1445,53 @@ class TopicOperator {
     }
 
 
+    /**
+     * Lists the KafkaTopic resources and describes the given topics in batches of {@link Config#TOPIC_METADATA_BATCH_SIZE}
+     * topics. The batches are described one after another. When describing a batch fails, its topics are described
+     * individually during their reconciliation.
+     */
+    private Future<PrefetchedTopics> prefetch(String reconciliationType, List<TopicName> topicNames) {
+        PrefetchedTopics prefetched = new PrefetchedTopics();
+        // Registered before fetching anything so that the changes done in the meantime invalidate the fetched data
+        activePrefetches.add(prefetched);
+
+        Timer.Sample listSample = Timer.start(metrics.meterRegistry());
+        return k8s.listResources().recover(ex -> Future.failedFuture(
+                new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
+        )).compose(ktList -> {
+            listSample.stop(listResourcesBatchTimer);
+            prefetched.setKafkaTopics(ktList);
+
+            Timer.Sample describeSample = Timer.start(metrics.meterRegistry());
+            return describeInBatches(reconciliationType, topicNames, 0, config.get(Config.TOPIC_METADATA_BATCH_SIZE), prefetched)
+                    .onComplete(ignored -> describeSample.stop(describeTopicsBatchTimer));
+        }).map(prefetched)
+          .onFailure(ignored -> activePrefetches.remove(prefetched));
+    }
+
+    private Future<Void> describeInBatches(String reconciliationType, List<TopicName> topicNames, int from, int batchSize, PrefetchedTopics prefetched) {
+        if (from >= topicNames.size()) {
+            return Future.succeededFuture();
+        }
+
+        int to = Math.min(topicNames.size(), from + batchSize);
+        return kafka.topicMetadata(topicNames.subList(from, to))
+                .<Void>map(metadata -> {
+                    LOGGER.debugOp("Described {} of {} topics during {} reconciliation", metadata.size(), to - from, reconciliationType);
+                    prefetched.addMetadata(metadata);
+                    return null;
+                })
+                .recover(error -> {
+                    LOGGER.warnOp("Error describing {} topics during {} reconciliation, they will be described individually", to - from, reconciliationType, error);
+                    return Future.succeededFuture();
+                })
+                .compose(ignored -> describeInBatches(reconciliationType, topicNames, to, batchSize, prefetched));
+    }
+
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, PrefetchedTopics prefetched) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
@@ -1417,7 +1518,7 @@ class TopicOperator {
                                 return Future.succeededFuture();
                             } else {
                                 LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
+                                return reconcileWithPrivateTopic(logContext, topicName, topic, this, prefetched)
                                         .<Void>map(ignored -> {
                                             LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
                                             succeeded.add(topicName);
@@ -1452,8 +1553,13 @@ class TopicOperator {
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
-        return k8s.getFromName(privateTopic.getResourceName())
+                                                   Reconciliation reconciliation,
+                                                   PrefetchedTopics prefetched) {
+        boolean usePrefetched = prefetched.has(topicName);
+        Future<KafkaTopic> kafkaTopicFuture = usePrefetched
+                ? Future.succeededFuture(prefetched.kafkaTopic(privateTopic.getResourceName()))
+                : k8s.getFromName(privateTopic.getResourceName());
+        return kafkaTopicFuture
             .recover(error -> {
                 LOGGER.errorCr(logContext.toReconciliation(), "Error getting KafkaTopic {} for topic {}",
                         topicName.asKubeName(), topicName, error);
@@ -1461,12 +1567,21 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource,
+                        usePrefetched ? prefetched.metadata(topicName) : null);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
                                               Topic privateTopic, KafkaTopic kafkaTopicResource) {
+        return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, null);
+    }
+
+    /**
+     * Reconciles the topic with the given {@code prefetchedMetadata} or with the metadata fetched from Kafka when it is null.
+     */
+    private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata prefetchedMetadata) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1479,7 +1594,9 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(i -> prefetchedMetadata != null
+                        ? Future.succeededFuture(prefetchedMetadata)
+                        : kafka.topicMetadata(logContext.toReconciliation(), topicName))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -4,20 +4,26 @@
  */
 package io.strimzi.operator.topic;
 
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ZooKeeper watcher for child znodes of {@code /brokers/topics},
  * calling {@link TopicOperator#onTopicCreated(LogContext, TopicName)} for new children and
  * {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} for deleted children.
+ * The children are kept in a hash set, so working out the created and deleted topics takes linear time.
+ * When a coalescing window is configured, the watch events received within the window are diffed only once against
+ * the latest children, so that a burst of topic creations or deletions produces a single diff.
  */
 class ZkTopicsWatcher {
 
@@ -28,8 +34,13 @@ class ZkTopicsWatcher {
     private final TopicOperator topicOperator;
     private final TopicConfigsWatcher tcw;
     private final ZkTopicWatcher tw;
+    private final Vertx vertx;
+    private final long coalesceMs;
 
-    private List<String> children;
+    private Set<String> children;
+    private List<String> pendingChildren;
+    private boolean flushScheduled = false;
+    private int watchCount = 0;
 
     private volatile int state = 0;
 
@@ -41,9 +52,24 @@ class ZkTopicsWatcher {
      * @param tw    watcher for the topics partitions changes
      */
     ZkTopicsWatcher(TopicOperator topicOperator, TopicConfigsWatcher tcw, ZkTopicWatcher tw) {
+        this(topicOperator, tcw, tw, null, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator    Operator instance
+     * @param tcw   watcher for the topics config changes
+     * @param tw    watcher for the topics partitions changes
+     * @param vertx Vert.x instance used to schedule the coalesced diffs
+     * @param coalesceMs    window in which the watch events are coalesced into a single diff (0 to diff each event)
+     */
+    ZkTopicsWatcher(TopicOperator topicOperator, TopicConfigsWatcher tcw, ZkTopicWatcher tw, Vertx vertx, long coalesceMs) {
         this.topicOperator = topicOperator;
         this.tcw = tcw;
         this.tw = tw;
+        this.vertx = vertx;
+        this.coalesceMs = coalesceMs;
     }
 
     void stop() {
@@ -59,6 +85,7 @@ class ZkTopicsWatcher {
     void start(Zk zk) {
         synchronized (this) {
             children = null;
+            pendingChildren = null;
         }
         tcw.start(zk);
         tw.start(zk);
@@ -71,7 +98,7 @@ class ZkTopicsWatcher {
                 List<String> result = childResult.result();
                 LOGGER.debugOp("Setting initial children {}", result);
                 synchronized (this) {
-                    this.children = result;
+                    this.children = new HashSet<>(result);
                 }
                 // Start watching existing children for config and partition changes
                 for (String child : result) {
@@ -84,13 +111,95 @@ class ZkTopicsWatcher {
         });
     }
 
+    /**
+     * Diffs the new children against the previous ones and notifies the operator about the created and deleted topics.
+     *
+     * @param result    the new children of the topics znode
+     */
+    private void diff(List<String> result) {
+        long startNanos = System.nanoTime();
+        Set<String> deleted = new HashSet<>();
+        Set<String> created = new HashSet<>();
+        int watchCount;
+        synchronized (this) {
+            Set<String> oldChildren = this.children;
+            if (oldChildren == null) {
+                return;
+            }
+            watchCount = ++this.watchCount;
+            LOGGER.debugOp("{}: znode {} now has children {}, previous children {}", watchCount, TOPICS_ZNODE, result, oldChildren);
+            Set<String> newChildren = new HashSet<>(result);
+            for (String child : oldChildren) {
+                if (!newChildren.contains(child)) {
+                    deleted.add(child);
+                }
+            }
+            for (String child : newChildren) {
+                if (!oldChildren.contains(child)) {
+                    created.add(child);
+                }
+            }
+            this.children = newChildren;
+        }
+        Timer diffTimer = topicOperator.getZkTopicsDiffTimer();
+        if (diffTimer != null) {
+            diffTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        LOGGER.infoOp("Topics deleted from ZK for watch {}: {}", watchCount, deleted);
+        if (!deleted.isEmpty()) {
+            for (String topicName : deleted) {
+                tcw.removeChild(topicName);
+                tw.removeChild(topicName);
+                LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":-" + topicName, topicOperator.getNamespace(), topicName);
+                topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).onComplete(ar -> {
+                    if (ar.succeeded()) {
+                        LOGGER.debugCr(logContext.toReconciliation(), "Success responding to deletion of topic {}", topicName);
+                    } else {
+                        LOGGER.warnCr(logContext.toReconciliation(), "Error responding to deletion of topic {}", topicName, ar.cause());
+                    }
+                });
+            }
+        }
+
+        LOGGER.infoOp("Topics created in ZK for watch {}: {}", watchCount, created);
+        if (!created.isEmpty()) {
+            for (String topicName : created) {
+                tcw.addChild(topicName);
+                tw.addChild(topicName);
+                LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":+" + topicName, topicOperator.getNamespace(), topicName);
+                topicOperator.onTopicCreated(logContext, new TopicName(topicName)).onComplete(ar -> {
+                    if (ar.succeeded()) {
+                        LOGGER.debugCr(logContext.toReconciliation(), "Success responding to creation of topic {}", topicName);
+                    } else {
+                        LOGGER.warnCr(logContext.toReconciliation(), "Error responding to creation of topic {}", topicName, ar.cause());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Diffs the latest children received within the coalescing window.
+     */
+    private void flushPendingChildren() {
+        List<String> result;
+        synchronized (this) {
+            result = pendingChildren;
+            pendingChildren = null;
+            flushScheduled = false;
+        }
+        if (state != 2 && result != null) {
+            diff(result);
+        }
+    }
+
     /**
      * Handler which runs on ZkClient's single event handling thread.
      */
     private class ChildrenWatchHandler implements Handler<AsyncResult<List<String>>> {
 
         private final Zk zk;
-        private int watchCount = 0;
 
         public ChildrenWatchHandler(Zk zk) {
             this.zk = zk;
@@ -106,52 +215,15 @@ class ZkTopicsWatcher {
                 LOGGER.errorOp("Error on znode {} children", TOPICS_ZNODE, childResult.cause());
                 return;
             }
-            ++watchCount;
-            List<String> result = childResult.result();
-            Set<String> deleted;
-            Set<String> created;
-            synchronized (ZkTopicsWatcher.this) {
-                LOGGER.debugOp("{}: znode {} now has children {}, previous children {}", watchCount, TOPICS_ZNODE, result, ZkTopicsWatcher.this.children);
-                List<String> oldChildren = ZkTopicsWatcher.this.children;
-                if (oldChildren == null) {
-                    return;
-                }
-                deleted = new HashSet<>(oldChildren);
-                deleted.removeAll(result);
-                created = new HashSet<>(result);
-                created.removeAll(ZkTopicsWatcher.this.children);
-                ZkTopicsWatcher.this.children = result;
-            }
-
-            LOGGER.infoOp("Topics deleted from ZK for watch {}: {}", watchCount, deleted);
-            if (!deleted.isEmpty()) {
-                for (String topicName : deleted) {
-                    tcw.removeChild(topicName);
-                    tw.removeChild(topicName);
-                    LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":-" + topicName, topicOperator.getNamespace(), topicName);
-                    topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).onComplete(ar -> {
-                        if (ar.succeeded()) {
-                            LOGGER.debugCr(logContext.toReconciliation(), "Success responding to deletion of topic {}", topicName);
-                        } else {
-                            LOGGER.warnCr(logContext.toReconciliation(), "Error responding to deletion of topic {}", topicName, ar.cause());
-                        }
-                    });
-                }
+            if (vertx == null || coalesceMs <= 0) {
+                diff(childResult.result());
+                return;
             }
-
-            LOGGER.infoOp("Topics created in ZK for watch {}: {}", watchCount, created);
-            if (!created.isEmpty()) {
-                for (String topicName : created) {
-                    tcw.addChild(topicName);
-                    tw.addChild(topicName);
-                    LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":+" + topicName, topicOperator.getNamespace(), topicName);
-                    topicOperator.onTopicCreated(logContext, new TopicName(topicName)).onComplete(ar -> {
-                        if (ar.succeeded()) {
-                            LOGGER.debugCr(logContext.toReconciliation(), "Success responding to creation of topic {}", topicName);
-                        } else {
-                            LOGGER.warnCr(logContext.toReconciliation(), "Error responding to creation of topic {}", topicName, ar.cause());
-                        }
-                    });
+            synchronized (ZkTopicsWatcher.this) {
+                pendingChildren = childResult.result();
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    vertx.setTimer(coalesceMs, ignored -> flushPendingChildren());
                 }
             }
         }
@@ -78,6 +78,18 @@ public class ConfigTest {
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS), is(3));
     }
 
+    @Test
+    public void testTopicMetadataBatchSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE), is(1000));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "200");
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE), is(200));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
     @Test
     public void testDefaultConfig() {
         Map<String, String> map = new HashMap<>(MANDATORY);
@@ -0,0 +1,59 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceStateMetricsTest {
+    @Test
+    public void testGaugeIsReusedWhenTagsDoNotChange() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics metrics = new ResourceStateMetrics(registry, "my-namespace");
+
+        metrics.set("KafkaTopic", "my-topic", false, "some failure");
+        Gauge gauge = gauge(registry, "my-topic");
+        assertThat(gauge.value(), is(0.0));
+
+        metrics.set("KafkaTopic", "my-topic", false, "some failure");
+        assertThat(gauge(registry, "my-topic"), is(sameInstance(gauge)));
+
+        metrics.set("KafkaTopic", "my-topic", true, "none");
+        Gauge readyGauge = gauge(registry, "my-topic");
+        assertThat(readyGauge, is(not(sameInstance(gauge))));
+        assertThat(readyGauge.getId().getTag("reason"), is("none"));
+        assertThat(readyGauge.getId().getTag("resource-namespace"), is("my-namespace"));
+        assertThat(readyGauge.value(), is(1.0));
+        assertThat(registry.find(ResourceStateMetrics.METRIC_NAME).gauges().size(), is(1));
+    }
+
+    @Test
+    public void testRemove() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics metrics = new ResourceStateMetrics(registry, "my-namespace");
+
+        metrics.set("KafkaTopic", "my-topic", true, "none");
+        metrics.set("KafkaTopic", "my-other-topic", true, "none");
+        assertThat(metrics.size(), is(2));
+
+        assertThat(metrics.remove("my-topic"), is(true));
+        assertThat(metrics.remove("my-topic"), is(false));
+        assertThat(metrics.size(), is(1));
+        assertThat(gauge(registry, "my-topic"), is(nullValue()));
+        assertThat(gauge(registry, "my-other-topic").value(), is(1.0));
+    }
+
+    private static Gauge gauge(MeterRegistry registry, String name) {
+        return registry.find(ResourceStateMetrics.METRIC_NAME).tag("name", name).gauge();
+    }
+}
@@ -1239,6 +1239,21 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_batchMetrics(VertxTestContext context) {
+        mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
+
+        Future<?> reconcileFuture = topicOperator.reconcileAllTopics("periodic");
+
+        reconcileFuture.onComplete(context.succeeding(e -> context.verify(() -> {
+            MeterRegistry registry = metrics.meterRegistry();
+
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.batch.duration").tag("kind", "KafkaTopic").tag("phase", "list-resources").timer().count(), is(1L));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.batch.duration").tag("kind", "KafkaTopic").tag("phase", "describe-topics").timer().count(), is(1L));
+            context.completeNow();
+        })));
+    }
+
     @Test
     public void testReconcileMetrics(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
@@ -6,7 +6,10 @@ package io.strimzi.operator.topic;
 
 import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(VertxExtension.class)
@@ -81,4 +85,33 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testEventsAreCoalesced(Vertx vertx, VertxTestContext context) {
+        operator.topicCreatedResult = Future.succeededFuture();
+        operator.topicDeletedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.dataResult = Future.succeededFuture(new byte[0]);
+
+        TopicConfigsWatcher topicConfigsWatcher = new TopicConfigsWatcher(operator);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher, vertx, 200);
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren(Future.succeededFuture(asList("foo", "bar", "baz")));
+        mockZk.triggerChildren(Future.succeededFuture(asList("bar", "baz", "qux")));
+
+        // Nothing is diffed before the coalescing window ends
+        assertThat(operator.getMockOperatorEvents().isEmpty(), is(true));
+
+        Checkpoint checkpoint = context.checkpoint();
+        vertx.setTimer(1_000, ignored -> context.verify(() -> {
+            assertThat(operator.getMockOperatorEvents(), containsInAnyOrder(
+                    new MockTopicOperator.MockOperatorEvent(Type.DELETE, new TopicName("foo")),
+                    new MockTopicOperator.MockOperatorEvent(Type.CREATE, new TopicName("baz")),
+                    new MockTopicOperator.MockOperatorEvent(Type.CREATE, new TopicName("qux"))));
+            assertThat(topicConfigsWatcher.watching("foo"), is(false));
+            assertThat(topicConfigsWatcher.watching("qux"), is(true));
+            checkpoint.flag();
+        }));
+    }
 }
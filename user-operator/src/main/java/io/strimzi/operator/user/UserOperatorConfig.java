@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -37,6 +38,9 @@ public class UserOperatorConfig {
     public static final String STRIMZI_SCRAM_SHA_PASSWORD_LENGTH = "STRIMZI_SCRAM_SHA_PASSWORD_LENGTH";
     public static final String STRIMZI_MAINTENANCE_TIME_WINDOWS = "STRIMZI_MAINTENANCE_TIME_WINDOWS";
     public static final String STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION = "STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION";
+    public static final String STRIMZI_ADMIN_API_BATCH_SIZE = "STRIMZI_ADMIN_API_BATCH_SIZE";
+    public static final String STRIMZI_ADMIN_API_BATCH_LINGER_MS = "STRIMZI_ADMIN_API_BATCH_LINGER_MS";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
@@ -46,6 +50,10 @@ public class UserOperatorConfig {
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
     // Defaults to false for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_KRAFT_ENABLED = false;
+    // Batching of the Admin API mutations is disabled by default
+    public static final int DEFAULT_ADMIN_API_BATCH_SIZE = 0;
+    public static final int DEFAULT_ADMIN_API_BATCH_LINGER_MS = 10;
+    public static final CertManagerType DEFAULT_CERT_MANAGER = CertManagerType.OPENSSL;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -64,6 +72,9 @@ public class UserOperatorConfig {
     private final int scramPasswordLength;
     private final List<String> maintenanceWindows;
     private final Properties kafkaAdminClientConfiguration;
+    private final int adminApiBatchSize;
+    private final int adminApiBatchLingerMs;
+    private final CertManagerType certManagerType;
 
     /**
      * Constructor
@@ -85,6 +96,9 @@ public class UserOperatorConfig {
      * @param scramPasswordLength Length used for the Scram-Sha Password
      * @param maintenanceWindows Lit of maintenance windows
      * @param kafkaAdminClientConfiguration Additional configuration for the Kafka Admin Client
+     * @param adminApiBatchSize Maximal number of ACL, quota or SCRAM-SHA mutations sent in a single Admin API request
+     * @param adminApiBatchLingerMs Maximal time for which the Admin API mutations wait to be batched with other mutations
+     * @param certManagerType Implementation of the certificate manager used to generate the user certificates
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -103,7 +117,10 @@ public class UserOperatorConfig {
                               int clientsCaRenewalDays,
                               int scramPasswordLength,
                               List<String> maintenanceWindows,
-                              Properties kafkaAdminClientConfiguration
+                              Properties kafkaAdminClientConfiguration,
+                              int adminApiBatchSize,
+                              int adminApiBatchLingerMs,
+                              CertManagerType certManagerType
     ) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -122,6 +139,9 @@ public class UserOperatorConfig {
         this.scramPasswordLength = scramPasswordLength;
         this.maintenanceWindows = maintenanceWindows;
         this.kafkaAdminClientConfiguration = kafkaAdminClientConfiguration;
+        this.adminApiBatchSize = adminApiBatchSize;
+        this.adminApiBatchLingerMs = adminApiBatchLingerMs;
+        this.certManagerType = certManagerType;
     }
 
     /**
@@ -197,10 +217,16 @@ public class UserOperatorConfig {
 
         Properties kafkaAdminClientConfiguration = parseKafkaAdminClientConfiguration(map.get(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION));
 
+        int adminApiBatchSize = getIntProperty(map, UserOperatorConfig.STRIMZI_ADMIN_API_BATCH_SIZE, DEFAULT_ADMIN_API_BATCH_SIZE);
+        int adminApiBatchLingerMs = getIntProperty(map, UserOperatorConfig.STRIMZI_ADMIN_API_BATCH_LINGER_MS, DEFAULT_ADMIN_API_BATCH_LINGER_MS);
+
+        CertManagerType certManagerType = parseCertManagerType(map.get(UserOperatorConfig.STRIMZI_CERT_MANAGER));
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, euoKeySecretName, caNamespace, secretPrefix,
                 aclsAdminApiSupported, kraftEnabled, clientsCaValidityDays, clientsCaRenewalDays,
-                scramPasswordLength, maintenanceWindows, kafkaAdminClientConfiguration);
+                scramPasswordLength, maintenanceWindows, kafkaAdminClientConfiguration, adminApiBatchSize, adminApiBatchLingerMs,
+                certManagerType);
     }
 
     /**
@@ -224,6 +250,25 @@ public class UserOperatorConfig {
         return kafkaAdminClientConfiguration;
     }
 
+    /**
+     * Parse the certificate manager type from the environment variable
+     *
+     * @param type  The type from the environment variable. Null if no type is set.
+     *
+     * @return  The certificate manager type
+     */
+    private static CertManagerType parseCertManagerType(String type) {
+        if (type == null) {
+            return DEFAULT_CERT_MANAGER;
+        }
+
+        try {
+            return CertManagerType.forName(type);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse " + UserOperatorConfig.STRIMZI_CERT_MANAGER + " configuration", e);
+        }
+    }
+
     /**
      * @return  Clients CA validity in days
      */
@@ -398,6 +443,28 @@ public class UserOperatorConfig {
         return kafkaAdminClientConfiguration;
     }
 
+    /**
+     * @return  Maximal number of ACL, quota or SCRAM-SHA mutations sent in a single Admin API request. Values lower
+     *          than 2 mean that the mutations are not batched.
+     */
+    public int getAdminApiBatchSize() {
+        return adminApiBatchSize;
+    }
+
+    /**
+     * @return  Maximal time in milliseconds for which the Admin API mutations wait to be batched with other mutations
+     */
+    public int getAdminApiBatchLingerMs() {
+        return adminApiBatchLingerMs;
+    }
+
+    /**
+     * @return  Implementation of the certificate manager used to generate the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -417,6 +484,9 @@ public class UserOperatorConfig {
                 ",scramPasswordLength=" + scramPasswordLength +
                 ",maintenanceWindows=" + maintenanceWindows +
                 ",kafkaAdminClientConfiguration=" + kafkaAdminClientConfiguration +
+                ",adminApiBatchSize=" + adminApiBatchSize +
+                ",adminApiBatchLingerMs=" + adminApiBatchLingerMs +
+                ",certManagerType=" + certManagerType +
                 ")";
     }
 }
@@ -4,13 +4,18 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Abstract operator using the Kafka Admin API
@@ -18,6 +23,9 @@ import java.util.Collection;
 public abstract class AbstractAdminApiOperator<T, S extends Collection<String>> {
     protected final Vertx vertx;
     protected final Admin adminClient;
+    private final MetricsProvider metrics;
+    private final int batchMaxSize;
+    private final long batchLingerMs;
 
     /**
      * Constructor
@@ -26,8 +34,44 @@ public abstract class AbstractAdminApiOperator<T, S extends Collection<String>>
      * @param adminClient Kafka Admin client instance
      */
     public AbstractAdminApiOperator(Vertx vertx, Admin adminClient)  {
+        this(vertx, adminClient, null, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the batching metrics
+     * @param batchMaxSize Maximal number of items sent in a single batched Admin API request. Values lower than 2
+     *                     disable the batching.
+     * @param batchLingerMs Maximal time for which the mutations wait for other mutations to be batched with them
+     */
+    public AbstractAdminApiOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics, int batchMaxSize, long batchLingerMs)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.metrics = metrics;
+        this.batchMaxSize = batchMaxSize;
+        this.batchLingerMs = batchLingerMs;
+    }
+
+    /**
+     * Creates the batcher for the mutations done by this operator.
+     *
+     * @param operation Name of the Admin API operation
+     * @param sender    Function sending the batched items to Kafka and returning the per-item results
+     * @param keyMapper Function returning the key of the per-item result for given item
+     * @param <I>       Type of the items
+     * @param <K>       Type of the keys of the per-item results
+     *
+     * @return  The batcher or null if batching is disabled
+     */
+    protected <I, K> AdminApiBatcher<I, K> createBatcher(String operation, Function<List<I>, Map<K, ? extends KafkaFuture<?>>> sender, Function<I, K> keyMapper) {
+        if (batchMaxSize > 1) {
+            return new AdminApiBatcher<>(vertx, metrics.meterRegistry(), operation, batchMaxSize, batchLingerMs, sender, keyMapper);
+        } else {
+            return null;
+        }
     }
 
     /**
@@ -0,0 +1,211 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Coalesces the Admin API mutations (for example ACL bindings to create) submitted by the reconciliations of different
+ * users into a single Admin API request. The items are collected until the batch reaches the maximal size or until
+ * the linger time since the first item of the batch passes. The per-item results returned by the Admin API are then
+ * used to complete the submission of each user separately, so that a failure of one user does not fail the others.
+ *
+ * The items of one batch have to map to distinct result keys. This is guaranteed by the reconciliations of a single
+ * user never running in parallel.
+ *
+ * @param <I>   Type of the items sent in the Admin API request
+ * @param <K>   Type of the keys of the per-item results returned by the Admin API
+ */
+public class AdminApiBatcher<I, K> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiBatcher.class.getName());
+
+    /**
+     * Name of the metric with the number of items sent in a single Admin API request
+     */
+    public static final String METRIC_BATCH_SIZE = AbstractOperator.METRICS_PREFIX + "admin.batch.size";
+
+    /**
+     * Name of the metric with the duration of the batched Admin API requests
+     */
+    public static final String METRIC_BATCH_DURATION = AbstractOperator.METRICS_PREFIX + "admin.batch.duration";
+
+    private final Vertx vertx;
+    private final String operation;
+    private final int maxBatchSize;
+    private final long lingerMs;
+    private final Function<List<I>, Map<K, ? extends KafkaFuture<?>>> sender;
+    private final Function<I, K> keyMapper;
+    private final DistributionSummary batchSize;
+    private final Timer batchDuration;
+
+    private List<Submission<I>> pending = new ArrayList<>();
+    private int pendingItems = 0;
+    private long lingerTimer = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance
+     * @param metrics       Meter registry for the batch size and duration metrics
+     * @param operation     Name of the Admin API operation used in the logs and in the metrics tags
+     * @param maxBatchSize  Number of items which triggers sending of the batch
+     * @param lingerMs      Maximal time for which the items wait for other items before the batch is sent
+     * @param sender        Function sending the items to Kafka and returning the per-item results
+     * @param keyMapper     Function returning the key of the per-item result for given item
+     */
+    public AdminApiBatcher(Vertx vertx, MeterRegistry metrics, String operation, int maxBatchSize, long lingerMs,
+                           Function<List<I>, Map<K, ? extends KafkaFuture<?>>> sender, Function<I, K> keyMapper) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerMs = lingerMs;
+        this.sender = sender;
+        this.keyMapper = keyMapper;
+
+        this.batchSize = DistributionSummary.builder(METRIC_BATCH_SIZE)
+                .description("Number of items sent in a single batched Admin API request")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(metrics);
+        this.batchDuration = Timer.builder(METRIC_BATCH_DURATION)
+                .description("Time it takes to complete a batched Admin API request")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(metrics);
+    }
+
+    /**
+     * Submits the items of a single user to the next batch.
+     *
+     * @param items     Items which should be sent to Kafka
+     *
+     * @return  Future which completes when all the items were processed by Kafka. It fails with the error of the first
+     *          failed item.
+     */
+    public Future<Void> submit(Collection<I> items) {
+        if (items.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Submission<I> submission = new Submission<>(items);
+        List<Submission<I>> batch = null;
+
+        synchronized (this) {
+            pending.add(submission);
+            pendingItems += items.size();
+
+            if (pendingItems >= maxBatchSize) {
+                batch = takePending();
+            } else if (lingerTimer == -1) {
+                lingerTimer = vertx.setTimer(lingerMs, ignore -> sendPendingAfterLinger());
+            }
+        }
+
+        if (batch != null) {
+            send(batch);
+        }
+
+        return submission.promise.future();
+    }
+
+    private void sendPendingAfterLinger() {
+        List<Submission<I>> batch;
+
+        synchronized (this) {
+            lingerTimer = -1;
+            batch = takePending();
+        }
+
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    // Has to be called while holding the lock
+    private List<Submission<I>> takePending() {
+        if (lingerTimer != -1) {
+            vertx.cancelTimer(lingerTimer);
+            lingerTimer = -1;
+        }
+
+        List<Submission<I>> batch = pending;
+        pending = new ArrayList<>();
+        pendingItems = 0;
+
+        return batch;
+    }
+
+    private void send(List<Submission<I>> batch) {
+        List<I> items = new ArrayList<>();
+        for (Submission<I> submission : batch) {
+            items.addAll(submission.items);
+        }
+
+        LOGGER.debugOp("Sending {} items from {} users in a single {} request", items.size(), batch.size(), operation);
+        batchSize.record(items.size());
+        long startNanos = System.nanoTime();
+
+        Map<K, ? extends KafkaFuture<?>> results;
+        try {
+            results = sender.apply(items);
+        } catch (RuntimeException e) {
+            LOGGER.warnOp("Failed to send the {} request", operation, e);
+            batch.forEach(submission -> submission.promise.fail(e));
+            return;
+        }
+
+        KafkaFuture.allOf(results.values().toArray(new KafkaFuture<?>[0]))
+                .whenComplete((ignore, error) -> batchDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+
+        for (Submission<I> submission : batch) {
+            List<KafkaFuture<?>> itemResults = new ArrayList<>(submission.items.size());
+
+            for (I item : submission.items) {
+                KafkaFuture<?> itemResult = results.get(keyMapper.apply(item));
+
+                if (itemResult != null) {
+                    itemResults.add(itemResult);
+                } else {
+                    submission.promise.tryFail(new IllegalStateException("The " + operation + " request did not return any result for " + item));
+                }
+            }
+
+            if (itemResults.size() == submission.items.size()) {
+                Util.kafkaFutureToVertxFuture(vertx, KafkaFuture.allOf(itemResults.toArray(new KafkaFuture<?>[0])))
+                        .onComplete(submission.promise);
+            }
+        }
+    }
+
+    /**
+     * The items submitted by a single user together with the promise completed with their result
+     *
+     * @param <I>   Type of the items
+     */
+    private static class Submission<I> {
+        private final Collection<I> items;
+        private final Promise<Void> promise = Promise.promise();
+
+        Submission(Collection<I> items) {
+            this.items = items;
+        }
+    }
+}
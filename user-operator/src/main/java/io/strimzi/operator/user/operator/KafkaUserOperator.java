@@ -34,7 +34,10 @@ import io.vertx.core.Vertx;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -52,6 +55,11 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final UserOperatorConfig config;
     private final PasswordGenerator passwordGenerator;
 
+    // Periodic reconciliations which are allowed to use the ACL and quota snapshots taken while listing all users
+    private final Set<Reconciliation> periodicReconciliations = ConcurrentHashMap.newKeySet();
+    // Time (System.nanoTime()) of the last ACL or quota change of each user (indexed by the username in the Kafka format)
+    private final Map<String, Long> lastChanges = new ConcurrentHashMap<>();
+
     /**
      * Creates the instance of KafkaUserOperator
      *
@@ -82,14 +90,30 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
     }
 
+    @Override
+    public Future<Void> submit(Reconciliation reconciliation, boolean periodic) {
+        if (periodic) {
+            periodicReconciliations.add(reconciliation);
+            return super.submit(reconciliation, true)
+                    .onComplete(ignore -> periodicReconciliations.remove(reconciliation));
+        } else {
+            return super.submit(reconciliation, false);
+        }
+    }
+
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+        long startedNanos = System.nanoTime();
+
         return CompositeFuture.
                 join(super.allResourceNames(namespace),
                         config.isAclsAdminApiSupported() ? aclOperations.getAllUsers() : Future.succeededFuture(Set.of()),
                         quotasOperator.getAllUsers(),
                         config.isKraftEnabled() ? Future.succeededFuture(List.of()) : scramCredentialsOperator.getAllUsers() // SCRAM-SHA authentication is currently not supported when KRaft is used
                 ).map(compositeFuture -> {
+                    // Changes done before the new snapshots were requested are already included in them
+                    lastChanges.values().removeIf(changed -> changed - startedNanos < 0);
+
                     Set<NamespaceAndName> names = compositeFuture.resultAt(0);
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(1)));
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(2)));
@@ -265,8 +289,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         }
 
         // Quotas need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
-        Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
-        Future<ReconcileResult<KafkaUserQuotas>> quotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneQuotas);
+        Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = reconcileQuotas(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
+        Future<ReconcileResult<KafkaUserQuotas>> quotasFuture = reconcileQuotas(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneQuotas);
 
         // Reconcile the user secret generated by the user operator with the credentials
         Future<ReconcileResult<Secret>> userSecretFuture = reconcileUserSecret(reconciliation, user, userStatus);
@@ -276,8 +300,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         Future<ReconcileResult<Set<SimpleAclRule>>> aclsScramUserFuture;
 
         if (config.isAclsAdminApiSupported()) {
-            aclsTlsUserFuture = aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsAcls);
-            aclsScramUserFuture = aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneAcls);
+            aclsTlsUserFuture = reconcileAcls(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsAcls);
+            aclsScramUserFuture = reconcileAcls(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneAcls);
         } else {
             aclsTlsUserFuture = Future.succeededFuture(ReconcileResult.noop(null));
             aclsScramUserFuture = Future.succeededFuture(ReconcileResult.noop(null));
@@ -286,6 +310,89 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         return CompositeFuture.join(scramCredentialsFuture, tlsQuotasFuture, quotasFuture, aclsTlsUserFuture, aclsScramUserFuture, userSecretFuture);
     }
 
+    /**
+     * Reconciles the ACL rules of the user. Periodic reconciliations use the ACL rules from the snapshot taken while
+     * listing all users when it is recent enough and the ACL rules of the user did not change since it was taken.
+     * Otherwise, the ACL rules of the user are queried from the Kafka cluster.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param username          Username in the Kafka format (e.g. CN=my-user)
+     * @param desired           Desired ACL rules
+     *
+     * @return                  Future describing the result
+     */
+    private Future<ReconcileResult<Set<SimpleAclRule>>> reconcileAcls(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
+        UserStateSnapshot<Set<SimpleAclRule>> snapshot = aclOperations.latestSnapshot();
+
+        if (isSnapshotUsable(reconciliation, username, snapshot)) {
+            return recordChange(username, aclOperations.reconcile(reconciliation, username, desired, snapshot.get(username)));
+        } else {
+            return recordChange(username, aclOperations.reconcile(reconciliation, username, desired));
+        }
+    }
+
+    /**
+     * Reconciles the quotas of the user. Periodic reconciliations use the quotas from the snapshot taken while listing
+     * all users when it is recent enough and the quotas of the user did not change since it was taken. Otherwise, the
+     * quotas of the user are queried from the Kafka cluster.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param username          Username in the Kafka format (e.g. CN=my-user)
+     * @param desired           Desired quotas
+     *
+     * @return                  Future describing the result
+     */
+    private Future<ReconcileResult<KafkaUserQuotas>> reconcileQuotas(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
+        UserStateSnapshot<KafkaUserQuotas> snapshot = quotasOperator.latestSnapshot();
+
+        if (isSnapshotUsable(reconciliation, username, snapshot)) {
+            return recordChange(username, quotasOperator.reconcile(reconciliation, username, desired, snapshot.get(username)));
+        } else {
+            return recordChange(username, quotasOperator.reconcile(reconciliation, username, desired));
+        }
+    }
+
+    /**
+     * Checks whether the snapshot can be used instead of querying the current state of the user from the Kafka cluster.
+     * It can be used only by periodic reconciliations, only when it is not older than the reconciliation interval and
+     * only when the user was not changed by this operator since the snapshot was requested.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param username          Username in the Kafka format (e.g. CN=my-user)
+     * @param snapshot          The snapshot
+     *
+     * @return                  True if the snapshot can be used. False otherwise.
+     */
+    private boolean isSnapshotUsable(Reconciliation reconciliation, String username, UserStateSnapshot<?> snapshot) {
+        if (snapshot == null || !periodicReconciliations.contains(reconciliation)) {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        Long lastChange = lastChanges.get(username);
+
+        return now - snapshot.startedNanos() < TimeUnit.MILLISECONDS.toNanos(config.getReconciliationIntervalMs())
+                && (lastChange == null || lastChange - snapshot.startedNanos() < 0);
+    }
+
+    /**
+     * Records the time of the change of the user when the reconciliation changed (or possibly changed) its ACL rules
+     * or quotas. The snapshots requested before this time will not be used for this user anymore.
+     *
+     * @param username  Username in the Kafka format (e.g. CN=my-user)
+     * @param result    Future with the result of the ACL or quotas reconciliation
+     * @param <T>       Type of the reconciled resource
+     *
+     * @return  The same future
+     */
+    private <T> Future<ReconcileResult<T>> recordChange(String username, Future<ReconcileResult<T>> result) {
+        return result.onComplete(res -> {
+            if (res.failed() || !(res.result() instanceof ReconcileResult.Noop)) {
+                lastChanges.put(username, System.nanoTime());
+            }
+        });
+    }
+
     /**
      * Reconciles the Kubernetes secret with the generated credentials and sets the secret name in the KafkaUser status subresource
      *
@@ -319,11 +426,11 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         String user = reconciliation.name();
         LOGGER.debugCr(reconciliation, "Deleting User {} from namespace {}", user, namespace);
         return CompositeFuture.join(secretOperations.reconcile(reconciliation, namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user), null),
-                config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
-                config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
+                config.isAclsAdminApiSupported() ? recordChange(KafkaUserModel.getTlsUserName(user), aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null)) : Future.succeededFuture(ReconcileResult.noop(null)),
+                config.isAclsAdminApiSupported() ? recordChange(KafkaUserModel.getScramUserName(user), aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)) : Future.succeededFuture(ReconcileResult.noop(null)),
                 deleteScramCredentials(reconciliation, user)
-                        .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null))
-                        .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)))
+                        .compose(ignore -> recordChange(KafkaUserModel.getTlsUserName(user), quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null)))
+                        .compose(ignore -> recordChange(KafkaUserModel.getScramUserName(user), quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null))))
             .map(Boolean.TRUE);
     }
 
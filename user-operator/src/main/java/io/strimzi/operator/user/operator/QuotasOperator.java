@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -20,6 +21,7 @@ import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,10 @@ import java.util.Set;
 public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(QuotasOperator.class.getName());
 
+    private final AdminApiBatcher<ClientQuotaAlteration, ClientQuotaEntity> alterClientQuotasBatcher;
+
+    private volatile UserStateSnapshot<KafkaUserQuotas> latestSnapshot;
+
     /**
      * Constructor
      *
@@ -38,7 +44,22 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      * @param adminClient Kafka Admin client instance
      */
     public QuotasOperator(Vertx vertx, Admin adminClient) {
-        super(vertx, adminClient);
+        this(vertx, adminClient, null, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the batching metrics
+     * @param batchMaxSize Maximal number of users whose quotas are altered in a single batched request. Values lower
+     *                     than 2 disable the batching.
+     * @param batchLingerMs Maximal time for which the quota changes wait for the changes of other users
+     */
+    public QuotasOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics, int batchMaxSize, long batchLingerMs) {
+        super(vertx, adminClient, metrics, batchMaxSize, batchLingerMs);
+        this.alterClientQuotasBatcher = createBatcher("alterClientQuotas", alterations -> adminClient.alterClientQuotas(alterations).values(), ClientQuotaAlteration::entity);
     }
 
     /**
@@ -53,28 +74,40 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     @Override
     public Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
         return getAsync(reconciliation, username)
-                .compose(current -> {
-                    if (desired == null) {
-                        if (current == null)    {
-                            LOGGER.debugCr(reconciliation, "No expected quotas and no existing quotas -> NoOp");
-                            return Future.succeededFuture(ReconcileResult.noop(null));
-                        } else {
-                            LOGGER.debugCr(reconciliation, "No expected quotas, but {} existing quotas -> Deleting quotas", current);
-                            return internalDelete(reconciliation, username);
-                        }
-                    } else {
-                        if (current == null)  {
-                            LOGGER.debugCr(reconciliation, "{} expected quotas, but no existing quotas -> Adding quotas", desired);
-                            return internalAlter(reconciliation, username, desired);
-                        } else if (!QuotaUtils.quotasEquals(current, desired)) {
-                            LOGGER.debugCr(reconciliation, "{} expected quotas and {} existing quotas differ -> Reconciling quotas", desired, current);
-                            return internalAlter(reconciliation, username, desired);
-                        } else {
-                            LOGGER.debugCr(reconciliation, "{} expected quotas are the same as existing quotas -> NoOp", desired);
-                            return Future.succeededFuture(ReconcileResult.noop(desired));
-                        }
-                    }
-                });
+                .compose(current -> reconcile(reconciliation, username, desired, current));
+    }
+
+    /**
+     * Reconciles quotas for given user with already known current quotas
+     *
+     * @param reconciliation    The reconciliation
+     * @param username          User name of the reconciled user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired           The desired quotas configuration
+     * @param current           The current quotas configuration
+     *
+     * @return the Future with reconcile result
+     */
+    public Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas desired, KafkaUserQuotas current) {
+        if (desired == null) {
+            if (current == null)    {
+                LOGGER.debugCr(reconciliation, "No expected quotas and no existing quotas -> NoOp");
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            } else {
+                LOGGER.debugCr(reconciliation, "No expected quotas, but {} existing quotas -> Deleting quotas", current);
+                return internalDelete(reconciliation, username);
+            }
+        } else {
+            if (current == null)  {
+                LOGGER.debugCr(reconciliation, "{} expected quotas, but no existing quotas -> Adding quotas", desired);
+                return internalAlter(reconciliation, username, desired);
+            } else if (!QuotaUtils.quotasEquals(current, desired)) {
+                LOGGER.debugCr(reconciliation, "{} expected quotas and {} existing quotas differ -> Reconciling quotas", desired, current);
+                return internalAlter(reconciliation, username, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} expected quotas are the same as existing quotas -> NoOp", desired);
+                return Future.succeededFuture(ReconcileResult.noop(desired));
+            }
+        }
     }
 
     /**
@@ -112,8 +145,15 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
 
         ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
         ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, alterations);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all())
-                .map(ReconcileResult.patched(desired));
+        Future<Void> result;
+
+        if (alterClientQuotasBatcher != null) {
+            result = alterClientQuotasBatcher.submit(Collections.singleton(cqa));
+        } else {
+            result = Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all());
+        }
+
+        return result.map(ReconcileResult.patched(desired));
     }
 
     /**
@@ -142,23 +182,47 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     }
 
     /**
-     * @return Set with all usernames which have some ACLs set
+     * Returns the snapshot of the quotas of all users taken by the last call of {@link #getAllUsers()}. The snapshot
+     * is indexed by the usernames in the Kafka format (e.g. CN=my-user).
+     *
+     * @return  The snapshot or null if no snapshot was taken yet
+     */
+    public UserStateSnapshot<KafkaUserQuotas> latestSnapshot() {
+        return latestSnapshot;
+    }
+
+    /**
+     * Returns set with all usernames which have some quotas set. The quotas of the users are kept in a snapshot
+     * available through {@link #latestSnapshot()}.
+     *
+     * @return Set with all usernames which have some quotas set
      */
     @Override
     public Future<Set<String>> getAllUsers() {
         LOGGER.debugOp("Searching for Users with any quotas");
 
+        long startedNanos = System.nanoTime();
         return Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities())
                 .compose(quotas -> {
                     Set<String> users = new HashSet<>(quotas.size());
+                    Map<String, KafkaUserQuotas> userQuotas = new HashMap<>(quotas.size());
+
+                    for (Map.Entry<ClientQuotaEntity, Map<String, Double>> entry : quotas.entrySet()) {
+                        Map<String, String> entries = entry.getKey().entries();
 
-                    for (ClientQuotaEntity entity : quotas.keySet()) {
-                        if (entity.entries().containsKey(ClientQuotaEntity.USER)) {
-                            String username = KafkaUserModel.decodeUsername(entity.entries().get(ClientQuotaEntity.USER));
+                        if (entries.containsKey(ClientQuotaEntity.USER)) {
+                            String username = KafkaUserModel.decodeUsername(entries.get(ClientQuotaEntity.USER));
                             users.add(username);
+
+                            // Only the quotas of the user itself (without client ID) are used in the reconciliation
+                            if (entries.size() == 1) {
+                                userQuotas.put(entries.get(ClientQuotaEntity.USER), QuotaUtils.fromClientQuota(entry.getValue()));
+                            }
                         }
                     }
 
+                    latestSnapshot = new UserStateSnapshot<>(startedNanos, userQuotas, null);
+
                     return Future.succeededFuture(users);
                 });
     }
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -12,10 +13,10 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
@@ -33,6 +34,8 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
     // This salt uses the same algorithm as Kafka
     private final static byte[] SALT =  (new BigInteger(130, new SecureRandom())).toString(36).getBytes(StandardCharsets.UTF_8);
 
+    private final AdminApiBatcher<UserScramCredentialAlteration, String> alterScramCredentialsBatcher;
+
     /**
      * Constructor
      *
@@ -40,7 +43,22 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
      * @param adminClient Kafka Admin client instance
      */
     public ScramCredentialsOperator(Vertx vertx, Admin adminClient) {
-        super(vertx, adminClient);
+        this(vertx, adminClient, null, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the batching metrics
+     * @param batchMaxSize Maximal number of users whose credentials are altered in a single batched request. Values
+     *                     lower than 2 disable the batching.
+     * @param batchLingerMs Maximal time for which the credential changes wait for the changes of other users
+     */
+    public ScramCredentialsOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics, int batchMaxSize, long batchLingerMs) {
+        super(vertx, adminClient, metrics, batchMaxSize, batchLingerMs);
+        this.alterScramCredentialsBatcher = createBatcher("alterUserScramCredentials", alterations -> adminClient.alterUserScramCredentials(alterations).values(), UserScramCredentialAlteration::user);
     }
 
     @Override
@@ -48,38 +66,51 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
         if (desired != null)    {
             UserScramCredentialUpsertion upsertion = new UserScramCredentialUpsertion(username, new ScramCredentialInfo(SCRAM_MECHANISM, ITERATIONS), desired.getBytes(StandardCharsets.UTF_8), SALT);
             LOGGER.debugCr(reconciliation, "Upserting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(upsertion));
 
-            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all()).map(ReconcileResult.patched(desired));
+            return alterScramCredentials(reconciliation, upsertion).map(ReconcileResult.patched(desired));
         } else {
             Promise<ReconcileResult<String>> deletePromise = Promise.promise();
 
             UserScramCredentialDeletion deletion = new UserScramCredentialDeletion(username, SCRAM_MECHANISM);
             LOGGER.debugCr(reconciliation, "Deleting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(deletion));
 
-            result.all().whenComplete((ignore, error) -> {
-                vertx.runOnContext(ignore2 -> {
-                    if (error != null) {
-                        if (error instanceof ResourceNotFoundException) {
-                            // Resource was not found => return success
-                            LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
-                            deletePromise.complete(ReconcileResult.noop(null));
-                        } else {
-                            LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
-                            deletePromise.fail(error);
-                        }
+            alterScramCredentials(reconciliation, deletion).onComplete(res -> {
+                if (res.failed()) {
+                    if (res.cause() instanceof ResourceNotFoundException) {
+                        // Resource was not found => return success
+                        LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
+                        deletePromise.complete(ReconcileResult.noop(null));
                     } else {
-                        LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
-                        deletePromise.complete(ReconcileResult.deleted());
+                        LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
+                        deletePromise.fail(res.cause());
                     }
-                });
+                } else {
+                    LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
+                    deletePromise.complete(ReconcileResult.deleted());
+                }
             });
 
             return deletePromise.future();
         }
     }
 
+    /**
+     * Alters the SCRAM-SHA credentials of a single user. The alteration is batched with the alterations of other users
+     * when batching is enabled.
+     *
+     * @param reconciliation    The reconciliation
+     * @param alteration        Upsertion or deletion of the credentials
+     *
+     * @return  Future which completes when the credentials are altered
+     */
+    private Future<Void> alterScramCredentials(Reconciliation reconciliation, UserScramCredentialAlteration alteration) {
+        if (alterScramCredentialsBatcher != null) {
+            return alterScramCredentialsBatcher.submit(List.of(alteration));
+        } else {
+            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterUserScramCredentials(List.of(alteration)).all());
+        }
+    }
+
     /**
      * @return List with all usernames which have some scram credentials set
      */
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -14,7 +15,9 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -27,8 +30,10 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -39,6 +44,11 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    private final AdminApiBatcher<AclBinding, AclBinding> createAclsBatcher;
+    private final AdminApiBatcher<AclBindingFilter, AclBindingFilter> deleteAclsBatcher;
+
+    private volatile UserStateSnapshot<Set<SimpleAclRule>> latestSnapshot;
+
     /**
      * Constructor
      *
@@ -46,7 +56,51 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient) {
-        super(vertx, adminClient);
+        this(vertx, adminClient, null, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param metrics Metrics provider for the batching metrics
+     * @param batchMaxSize Maximal number of ACL bindings sent in a single batched request. Values lower than 2 disable
+     *                     the batching.
+     * @param batchLingerMs Maximal time for which the ACL changes wait for the changes of other users
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, MetricsProvider metrics, int batchMaxSize, long batchLingerMs) {
+        super(vertx, adminClient, metrics, batchMaxSize, batchLingerMs);
+        this.createAclsBatcher = createBatcher("createAcls", bindings -> adminClient.createAcls(bindings).values(), binding -> binding);
+        this.deleteAclsBatcher = createBatcher("deleteAcls", filters -> deleteAcls(adminClient, filters), filter -> filter);
+    }
+
+    /**
+     * Deletes the ACLs matching the filters in a single request. The result of each filter fails with the first error
+     * of the individual deletions, the same way as {@link DeleteAclsResult#all()} does, because the deletions of the
+     * matching ACL bindings might fail even when the filter itself succeeded.
+     *
+     * @param adminClient   Kafka Admin client instance
+     * @param filters       ACL binding filters
+     *
+     * @return  Map with the result of each filter
+     */
+    private static Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> deleteAcls(Admin adminClient, List<AclBindingFilter> filters) {
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results = new HashMap<>(filters.size());
+
+        for (Map.Entry<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> result : adminClient.deleteAcls(filters).values().entrySet()) {
+            results.put(result.getKey(), result.getValue().thenApply(filterResults -> {
+                for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+                    if (filterResult.exception() != null) {
+                        throw filterResult.exception();
+                    }
+                }
+
+                return filterResults;
+            }));
+        }
+
+        return results;
     }
 
     /**
@@ -61,25 +115,37 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
     @Override
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         return getAsync(reconciliation, username)
-                .compose(current -> {
-                    if (desired == null || desired.isEmpty()) {
-                        if (current.size() == 0)    {
-                            LOGGER.debugCr(reconciliation, "No expected Acl rules and no existing Acl rules -> NoOp");
-                            return Future.succeededFuture(ReconcileResult.noop(desired));
-                        } else {
-                            LOGGER.debugCr(reconciliation, "No expected Acl rules, but {} existing Acl rules -> Deleting rules", current.size());
-                            return internalDelete(reconciliation, username, current);
-                        }
-                    } else {
-                        if (current.isEmpty())  {
-                            LOGGER.debugCr(reconciliation, "{} expected Acl rules, but no existing Acl rules -> Adding rules", desired.size());
-                            return internalCreate(reconciliation, username, desired);
-                        } else  {
-                            LOGGER.debugCr(reconciliation, "{} expected Acl rules and {} existing Acl rules -> Reconciling rules", desired.size(), current.size());
-                            return internalUpdate(reconciliation, username, desired, current);
-                        }
-                    }
-                });
+                .compose(current -> reconcile(reconciliation, username, desired, current));
+    }
+
+    /**
+     * Reconciles Acl rules for given user with already known current Acl rules
+     *
+     * @param reconciliation The reconciliation
+     * @param username  User name of the reconciled user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The list of desired Acl rules
+     * @param current   The list of current Acl rules
+     *
+     * @return the Future with reconcile result
+     */
+    public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired, Set<SimpleAclRule> current) {
+        if (desired == null || desired.isEmpty()) {
+            if (current.size() == 0)    {
+                LOGGER.debugCr(reconciliation, "No expected Acl rules and no existing Acl rules -> NoOp");
+                return Future.succeededFuture(ReconcileResult.noop(desired));
+            } else {
+                LOGGER.debugCr(reconciliation, "No expected Acl rules, but {} existing Acl rules -> Deleting rules", current.size());
+                return internalDelete(reconciliation, username, current);
+            }
+        } else {
+            if (current.isEmpty())  {
+                LOGGER.debugCr(reconciliation, "{} expected Acl rules, but no existing Acl rules -> Adding rules", desired.size());
+                return internalCreate(reconciliation, username, desired);
+            } else  {
+                LOGGER.debugCr(reconciliation, "{} expected Acl rules and {} existing Acl rules -> Reconciling rules", desired.size(), current.size());
+                return internalUpdate(reconciliation, username, desired, current);
+            }
+        }
     }
 
     /**
@@ -93,8 +159,15 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all())
-                .map(ReconcileResult.created(desired));
+        Future<Void> result;
+
+        if (createAclsBatcher != null) {
+            result = createAclsBatcher.submit(aclBindings);
+        } else {
+            result = Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all());
+        }
+
+        return result.map(ReconcileResult.created(desired));
     }
 
     /**
@@ -173,8 +246,14 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     private Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(Reconciliation reconciliation, String username, Set<SimpleAclRule> current) {
         Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all())
-                .map(ReconcileResult.deleted());
+
+        if (deleteAclsBatcher != null) {
+            return deleteAclsBatcher.submit(aclBindingFilters)
+                    .map(ReconcileResult.deleted());
+        } else {
+            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all())
+                    .map(ReconcileResult.deleted());
+        }
     }
 
     /**
@@ -207,17 +286,33 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
     }
 
     /**
+     * Returns the snapshot of the ACL rules of all users taken by the last call of {@link #getAllUsers()}. The
+     * snapshot is indexed by the usernames in the Kafka format (e.g. CN=my-user).
+     *
+     * @return  The snapshot or null if no snapshot was taken yet
+     */
+    public UserStateSnapshot<Set<SimpleAclRule>> latestSnapshot() {
+        return latestSnapshot;
+    }
+
+    /**
+     * Returns set with all usernames which have some ACLs set. The ACL rules of the users are kept in a snapshot
+     * available through {@link #latestSnapshot()}.
+     *
      * @return Set with all usernames which have some ACLs set
      */
     @Override
     public Future<Set<String>> getAllUsers() {
         LOGGER.debugOp("Searching for Users with any ACL rules");
 
+        long startedNanos = System.nanoTime();
         DescribeAclsResult result = adminClient.describeAcls(AclBindingFilter.ANY);
         return Util.kafkaFutureToVertxFuture(vertx, result.values())
                 .compose(aclBindings -> {
                     Set<String> users = new HashSet<>();
                     Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
+                    Map<String, Set<SimpleAclRule>> rules = new HashMap<>();
+                    boolean snapshotValid = true;
 
                     for (AclBinding aclBinding : aclBindings) {
                         KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
@@ -239,9 +334,21 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
 
                                 users.add(username);
                             }
+
+                            if (snapshotValid) {
+                                try {
+                                    rules.computeIfAbsent(principal.getName(), name -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                                } catch (RuntimeException e) {
+                                    // The users will be reconciled using their ACL rules queried individually
+                                    LOGGER.debugOp("ACL rule {} cannot be converted, the ACL rules snapshot will not be used", aclBinding, e);
+                                    snapshotValid = false;
+                                }
+                            }
                         }
                     }
 
+                    latestSnapshot = snapshotValid ? new UserStateSnapshot<>(startedNanos, rules, Set.of()) : null;
+
                     return Future.succeededFuture(users);
                 });
     }
@@ -0,0 +1,58 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the current state (for example ACLs or quotas) of all users in the Kafka cluster. It is taken while
+ * listing all users for the periodic reconciliation so that the periodic reconciliations of the individual users do
+ * not need to query the Kafka cluster again.
+ *
+ * @param <T>   Type of the state of a single user
+ */
+public class UserStateSnapshot<T> {
+    private final long startedNanos;
+    private final Map<String, T> states;
+    private final T missingState;
+
+    /**
+     * Constructor
+     *
+     * @param startedNanos  Value of {@link System#nanoTime()} before the state was requested from the Kafka cluster
+     * @param states        States of the users indexed by their usernames in the Kafka format (e.g. CN=my-user)
+     * @param missingState  State of the users which are not in the snapshot
+     */
+    public UserStateSnapshot(long startedNanos, Map<String, T> states, T missingState) {
+        this.startedNanos = startedNanos;
+        this.states = states;
+        this.missingState = missingState;
+    }
+
+    /**
+     * @return  Value of {@link System#nanoTime()} before the state was requested from the Kafka cluster
+     */
+    public long startedNanos() {
+        return startedNanos;
+    }
+
+    /**
+     * Returns the state of a user. Users which are not in the snapshot have the missing state.
+     *
+     * @param username  Username in the Kafka format (e.g. CN=my-user)
+     *
+     * @return  The state of the user
+     */
+    public T get(String username) {
+        return states.getOrDefault(username, missingState);
+    }
+
+    /**
+     * @return  Number of users in the snapshot
+     */
+    public int size() {
+        return states.size();
+    }
+}
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -166,6 +167,33 @@ public class UserOperatorConfigTest {
         assertThat(config.isKraftEnabled(), is(UserOperatorConfig.DEFAULT_STRIMZI_KRAFT_ENABLED));
     }
 
+    @Test
+    public void testFromMapAdminApiBatching()  {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getAdminApiBatchSize(), is(UserOperatorConfig.DEFAULT_ADMIN_API_BATCH_SIZE));
+        assertThat(config.getAdminApiBatchLingerMs(), is(UserOperatorConfig.DEFAULT_ADMIN_API_BATCH_LINGER_MS));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_ADMIN_API_BATCH_SIZE, "500");
+        envVars.put(UserOperatorConfig.STRIMZI_ADMIN_API_BATCH_LINGER_MS, "50");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getAdminApiBatchSize(), is(500));
+        assertThat(config.getAdminApiBatchLingerMs(), is(50));
+    }
+
+    @Test
+    public void testFromMapCertManagerType()  {
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "jca");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertManagerType(), is(CertManagerType.JCA));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
     @Test
     public void testMaintenanceTimeWindows()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
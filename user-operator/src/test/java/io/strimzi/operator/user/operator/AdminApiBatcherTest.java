@@ -0,0 +1,113 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class AdminApiBatcherTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testBatchIsSentWhenFull(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        List<List<String>> requests = new ArrayList<>();
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, registry, "test", 4, 60_000L, sender(requests, "failing"), Function.identity());
+
+        Future<Void> first = batcher.submit(List.of("a", "b"));
+        Future<Void> second = batcher.submit(List.of("c"));
+        assertThat(requests.size(), is(0));
+
+        Future<Void> third = batcher.submit(List.of("failing"));
+        assertThat(requests, is(List.of(List.of("a", "b", "c", "failing"))));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second, third)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    // The failure of one item fails only the submission it belongs to
+                    assertThat(first.succeeded(), is(true));
+                    assertThat(second.succeeded(), is(true));
+                    assertThat(third.cause(), instanceOf(ResourceNotFoundException.class));
+
+                    assertThat(registry.get(AdminApiBatcher.METRIC_BATCH_SIZE).tag("operation", "test").summary().count(), is(1L));
+                    assertThat(registry.get(AdminApiBatcher.METRIC_BATCH_SIZE).tag("operation", "test").summary().totalAmount(), is(4.0));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchIsSentAfterLinger(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        List<List<String>> requests = new ArrayList<>();
+        AdminApiBatcher<String, String> batcher = new AdminApiBatcher<>(vertx, registry, "test", 100, 50L, sender(requests, "failing"), Function.identity());
+
+        Future<Void> first = batcher.submit(List.of("a"));
+        Future<Void> second = batcher.submit(List.of("b", "c"));
+        Future<Void> empty = batcher.submit(List.of());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second, empty)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(requests, is(List.of(List.of("a", "b", "c"))));
+                    assertThat(registry.get(AdminApiBatcher.METRIC_BATCH_SIZE).tag("operation", "test").summary().count(), is(1L));
+                    async.flag();
+                })));
+    }
+
+    private static Function<List<String>, Map<String, ? extends KafkaFuture<?>>> sender(List<List<String>> requests, String failing) {
+        return items -> {
+            requests.add(new ArrayList<>(items));
+
+            Map<String, KafkaFutureImpl<Void>> results = new HashMap<>(items.size());
+            for (String item : items) {
+                KafkaFutureImpl<Void> result = new KafkaFutureImpl<>();
+
+                if (failing.equals(item)) {
+                    result.completeExceptionally(new ResourceNotFoundException("Not found"));
+                } else {
+                    result.complete(null);
+                }
+
+                results.put(item, result);
+            }
+
+            return results;
+        };
+    }
+}
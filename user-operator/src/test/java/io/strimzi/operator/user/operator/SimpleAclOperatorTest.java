@@ -7,6 +7,8 @@ package io.strimzi.operator.user.operator;
 import io.strimzi.api.kafka.model.AclOperation;
 import io.strimzi.api.kafka.model.AclResourcePatternType;
 import io.strimzi.api.kafka.model.AclRuleType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
@@ -25,6 +27,7 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -40,16 +43,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -106,6 +113,42 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testGetAllUsersTakesSnapshot(VertxTestContext context)  {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern res1 = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        ResourcePattern res2 = new ResourcePattern(ResourceType.GROUP, "my-group", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooAclBinding = new AclBinding(res1, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding fooAclBinding2 = new AclBinding(res2, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "bar");
+        AclBinding barAclBinding = new AclBinding(res1, new AccessControlEntry(bar.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, asList(fooAclBinding, fooAclBinding2, barAclBinding)));
+
+        assertThat(aclOp.latestSnapshot(), is(nullValue()));
+
+        long before = System.nanoTime();
+        Checkpoint async = context.checkpoint();
+        aclOp.getAllUsers()
+                .onComplete(context.succeeding(users -> context.verify(() -> {
+                    UserStateSnapshot<Set<SimpleAclRule>> snapshot = aclOp.latestSnapshot();
+
+                    assertThat(snapshot.size(), is(2));
+                    assertThat(snapshot.startedNanos() - before >= 0, is(true));
+                    assertThat(snapshot.get("CN=foo"), is(Set.of(SimpleAclRule.fromAclBinding(fooAclBinding), SimpleAclRule.fromAclBinding(fooAclBinding2))));
+                    assertThat(snapshot.get("bar"), is(Set.of(SimpleAclRule.fromAclBinding(barAclBinding))));
+                    assertThat(snapshot.get("CN=baz"), is(Set.of()));
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testReconcileInternalCreateAddsAclsToAuthorizer(VertxTestContext context) {
         Admin mockAdminClient = mock(AdminClient.class);
@@ -233,6 +276,35 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testBatchedDeleteFailsWhenDeletingAclBindingFails(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient, new MicrometerMetricsProvider(new SimpleMeterRegistry()), 10, 10L);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal("User", "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        // The filter matches the ACL binding, but its deletion fails
+        DeleteAclsResult.FilterResult filterResult = mock(DeleteAclsResult.FilterResult.class);
+        when(filterResult.binding()).thenReturn(readAclBinding);
+        when(filterResult.exception()).thenReturn(new ClusterAuthorizationException("Not authorized"));
+        DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+        when(filterResults.values()).thenReturn(List.of(filterResult));
+
+        DeleteAclsResult result = mock(DeleteAclsResult.class);
+        when(result.values()).thenReturn(Map.of(readAclBinding.toFilter(), KafkaFuture.completedFuture(filterResults)));
+        when(mockAdminClient.deleteAcls(any())).thenReturn(result);
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", null, Set.of(SimpleAclRule.fromAclBinding(readAclBinding)))
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e, instanceOf(ClusterAuthorizationException.class));
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings) {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
         KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);